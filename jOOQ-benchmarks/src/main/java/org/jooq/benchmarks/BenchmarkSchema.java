@@ -0,0 +1,135 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.benchmarks;
+
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.name;
+import static org.jooq.impl.DSL.table;
+import static org.jooq.impl.SQLDataType.INTEGER;
+import static org.jooq.impl.SQLDataType.LOCALDATE;
+import static org.jooq.impl.SQLDataType.VARCHAR;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.LocalDate;
+
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.SQLDialect;
+import org.jooq.Table;
+import org.jooq.impl.DSL;
+
+/**
+ * A small, hand written schema shared by all benchmarks, and the means to
+ * create and populate it in an in-memory H2 database.
+ */
+public final class BenchmarkSchema {
+
+    public static final Table<Record>      AUTHOR            = table(name("AUTHOR"));
+    public static final Field<Integer>     AUTHOR_ID         = field(name("AUTHOR", "ID"), INTEGER.notNull());
+    public static final Field<String>      AUTHOR_FIRST_NAME = field(name("AUTHOR", "FIRST_NAME"), VARCHAR(50));
+    public static final Field<String>      AUTHOR_LAST_NAME  = field(name("AUTHOR", "LAST_NAME"), VARCHAR(50).notNull());
+    public static final Field<LocalDate>   AUTHOR_BORN       = field(name("AUTHOR", "BORN"), LOCALDATE);
+
+    public static final Table<Record>      BOOK              = table(name("BOOK"));
+    public static final Field<Integer>     BOOK_ID           = field(name("BOOK", "ID"), INTEGER.notNull());
+    public static final Field<Integer>     BOOK_AUTHOR_ID    = field(name("BOOK", "AUTHOR_ID"), INTEGER.notNull());
+    public static final Field<String>      BOOK_TITLE        = field(name("BOOK", "TITLE"), VARCHAR(400));
+    public static final Field<Integer>     BOOK_PUBLISHED_IN = field(name("BOOK", "PUBLISHED_IN"), INTEGER);
+
+    /**
+     * The number of books written by each author.
+     */
+    public static final int                BOOKS_PER_AUTHOR  = 10;
+
+    private BenchmarkSchema() {}
+
+    /**
+     * Open a new in-memory H2 database containing <code>authors</code>
+     * authors and {@link #BOOKS_PER_AUTHOR} books per author.
+     * <p>
+     * The database lives as long as the returned connection is open.
+     */
+    public static Connection h2(String database, int authors) throws SQLException, IOException {
+        Connection connection = DriverManager.getConnection("jdbc:h2:mem:" + database, "sa", "");
+        DSLContext ctx = DSL.using(connection, SQLDialect.H2);
+
+        ctx.createTable(AUTHOR)
+           .columns(AUTHOR_ID, AUTHOR_FIRST_NAME, AUTHOR_LAST_NAME, AUTHOR_BORN)
+           .primaryKey(AUTHOR_ID)
+           .execute();
+        ctx.createTable(BOOK)
+           .columns(BOOK_ID, BOOK_AUTHOR_ID, BOOK_TITLE, BOOK_PUBLISHED_IN)
+           .primaryKey(BOOK_ID)
+           .execute();
+
+        ctx.loadInto(AUTHOR)
+           .bulkAfter(1000)
+           .loadArrays(authors(authors))
+           .fields(AUTHOR_ID, AUTHOR_FIRST_NAME, AUTHOR_LAST_NAME, AUTHOR_BORN)
+           .execute();
+        ctx.loadInto(BOOK)
+           .bulkAfter(1000)
+           .loadArrays(books(authors))
+           .fields(BOOK_ID, BOOK_AUTHOR_ID, BOOK_TITLE, BOOK_PUBLISHED_IN)
+           .execute();
+
+        return connection;
+    }
+
+    static Object[][] authors(int authors) {
+        Object[][] result = new Object[authors][];
+
+        for (int i = 0; i < authors; i++)
+            result[i] = new Object[] { i, "First " + i, "Last " + i, LocalDate.of(1900 + i % 100, 1 + i % 12, 1 + i % 28) };
+
+        return result;
+    }
+
+    static Object[][] books(int authors) {
+        Object[][] result = new Object[authors * BOOKS_PER_AUTHOR][];
+
+        for (int i = 0; i < result.length; i++)
+            result[i] = new Object[] { i, i / BOOKS_PER_AUTHOR, "Title " + i, 1900 + i % 120 };
+
+        return result;
+    }
+}
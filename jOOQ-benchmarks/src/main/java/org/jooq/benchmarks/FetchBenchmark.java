@@ -0,0 +1,139 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.benchmarks;
+
+import static org.jooq.benchmarks.BenchmarkSchema.AUTHOR;
+import static org.jooq.benchmarks.BenchmarkSchema.AUTHOR_BORN;
+import static org.jooq.benchmarks.BenchmarkSchema.AUTHOR_FIRST_NAME;
+import static org.jooq.benchmarks.BenchmarkSchema.AUTHOR_ID;
+import static org.jooq.benchmarks.BenchmarkSchema.AUTHOR_LAST_NAME;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jooq.Cursor;
+import org.jooq.DSLContext;
+import org.jooq.Record;
+import org.jooq.Record4;
+import org.jooq.Result;
+import org.jooq.ResultQuery;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for fetching rows from an in-memory H2 database, including
+ * JDBC round trips, binding and record materialisation.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class FetchBenchmark {
+
+    @Param({ "1000", "100000" })
+    public int                                               rows;
+
+    Connection                                               connection;
+    DSLContext                                               ctx;
+    ResultQuery<Record4<Integer, String, String, LocalDate>> query;
+    ResultQuery<Record>                                      plainSQL;
+
+    @Setup
+    public void setup() throws SQLException, IOException {
+        connection = BenchmarkSchema.h2("fetch" + rows, rows);
+        ctx = DSL.using(connection, SQLDialect.H2);
+        query = ctx.select(AUTHOR_ID, AUTHOR_FIRST_NAME, AUTHOR_LAST_NAME, AUTHOR_BORN).from(AUTHOR);
+        plainSQL = ctx.resultQuery("select ID, FIRST_NAME, LAST_NAME, BORN from AUTHOR");
+    }
+
+    @TearDown
+    public void teardown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public Result<Record4<Integer, String, String, LocalDate>> fetch() {
+        return query.fetch();
+    }
+
+    @Benchmark
+    public Result<Record> fetchPlainSQL() {
+        return plainSQL.fetch();
+    }
+
+    @Benchmark
+    public void fetchLazy(Blackhole bh) {
+        try (Cursor<Record4<Integer, String, String, LocalDate>> c = query.fetchLazy()) {
+            for (Record4<Integer, String, String, LocalDate> r : c)
+                bh.consume(r);
+        }
+    }
+
+    @Benchmark
+    public List<String> fetchSingleColumn() {
+        return ctx.select(AUTHOR_LAST_NAME).from(AUTHOR).fetch(AUTHOR_LAST_NAME);
+    }
+
+    @Benchmark
+    public Record4<Integer, String, String, LocalDate> fetchOneByPrimaryKey() {
+        return ctx.select(AUTHOR_ID, AUTHOR_FIRST_NAME, AUTHOR_LAST_NAME, AUTHOR_BORN)
+                  .from(AUTHOR)
+                  .where(AUTHOR_ID.eq(rows / 2))
+                  .fetchOne();
+    }
+}
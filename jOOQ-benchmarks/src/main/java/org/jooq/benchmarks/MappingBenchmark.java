@@ -0,0 +1,130 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.benchmarks;
+
+import static org.jooq.benchmarks.BenchmarkSchema.AUTHOR_BORN;
+import static org.jooq.benchmarks.BenchmarkSchema.AUTHOR_FIRST_NAME;
+import static org.jooq.benchmarks.BenchmarkSchema.AUTHOR_ID;
+import static org.jooq.benchmarks.BenchmarkSchema.AUTHOR_LAST_NAME;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jooq.DSLContext;
+import org.jooq.Record4;
+import org.jooq.Records;
+import org.jooq.Result;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for mapping an already fetched {@link Result} into POJOs using
+ * the {@link org.jooq.impl.DefaultRecordMapper} and its alternatives.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class MappingBenchmark {
+
+    @Param({ "1000", "100000" })
+    public int                                          rows;
+
+    Result<Record4<Integer, String, String, LocalDate>> result;
+
+    @Setup
+    public void setup() {
+        DSLContext ctx = DSL.using(SQLDialect.H2);
+        result = ctx.newResult(AUTHOR_ID, AUTHOR_FIRST_NAME, AUTHOR_LAST_NAME, AUTHOR_BORN);
+
+        for (Object[] a : BenchmarkSchema.authors(rows))
+            result.add(ctx.newRecord(AUTHOR_ID, AUTHOR_FIRST_NAME, AUTHOR_LAST_NAME, AUTHOR_BORN)
+                .values((Integer) a[0], (String) a[1], (String) a[2], (LocalDate) a[3]));
+    }
+
+    @Benchmark
+    public List<MutableAuthor> intoMutablePojo() {
+        return result.into(MutableAuthor.class);
+    }
+
+    @Benchmark
+    public List<ImmutableAuthor> intoImmutablePojo() {
+        return result.into(ImmutableAuthor.class);
+    }
+
+    @Benchmark
+    public List<ImmutableAuthor> mapWithConstructorReference() {
+        return result.map(Records.mapping(ImmutableAuthor::new));
+    }
+
+    public static class MutableAuthor {
+        public Integer   id;
+        public String    firstName;
+        public String    lastName;
+        public LocalDate born;
+    }
+
+    public static class ImmutableAuthor {
+        public final Integer   id;
+        public final String    firstName;
+        public final String    lastName;
+        public final LocalDate born;
+
+        public ImmutableAuthor(Integer id, String firstName, String lastName, LocalDate born) {
+            this.id = id;
+            this.firstName = firstName;
+            this.lastName = lastName;
+            this.born = born;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.benchmarks;
+
+import static org.jooq.benchmarks.BenchmarkSchema.AUTHOR;
+import static org.jooq.benchmarks.BenchmarkSchema.AUTHOR_BORN;
+import static org.jooq.benchmarks.BenchmarkSchema.AUTHOR_FIRST_NAME;
+import static org.jooq.benchmarks.BenchmarkSchema.AUTHOR_ID;
+import static org.jooq.benchmarks.BenchmarkSchema.AUTHOR_LAST_NAME;
+import static org.jooq.benchmarks.BenchmarkSchema.BOOK;
+import static org.jooq.benchmarks.BenchmarkSchema.BOOK_AUTHOR_ID;
+import static org.jooq.benchmarks.BenchmarkSchema.BOOK_ID;
+import static org.jooq.benchmarks.BenchmarkSchema.BOOK_PUBLISHED_IN;
+import static org.jooq.benchmarks.BenchmarkSchema.BOOK_TITLE;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.jooq.DSLContext;
+import org.jooq.Record4;
+import org.jooq.Result;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.jooq.tools.jdbc.MockConnection;
+import org.jooq.tools.jdbc.MockResult;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the complete execution lifecycle (rendering, binding,
+ * fetching, record materialisation) against a {@link MockConnection}, which
+ * isolates jOOQ's own overhead from any database or driver work.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class MockBenchmark {
+
+    @Param({ "1", "1000", "100000" })
+    public int rows;
+
+    DSLContext ctx;
+
+    @Setup
+    public void setup() {
+        DSLContext plain = DSL.using(SQLDialect.H2);
+        Result<Record4<Integer, String, String, LocalDate>> result = plain.newResult(AUTHOR_ID, AUTHOR_FIRST_NAME, AUTHOR_LAST_NAME, AUTHOR_BORN);
+
+        for (Object[] a : BenchmarkSchema.authors(rows))
+            result.add(plain.newRecord(AUTHOR_ID, AUTHOR_FIRST_NAME, AUTHOR_LAST_NAME, AUTHOR_BORN)
+                .values((Integer) a[0], (String) a[1], (String) a[2], (LocalDate) a[3]));
+
+        MockResult select = new MockResult(rows, result);
+        MockResult update = new MockResult(1);
+        ctx = DSL.using(new MockConnection(c -> new MockResult[] { c.sql().startsWith("select") ? select : update }), SQLDialect.H2);
+    }
+
+    @Benchmark
+    public Result<Record4<Integer, String, String, LocalDate>> fetch() {
+        return ctx.select(AUTHOR_ID, AUTHOR_FIRST_NAME, AUTHOR_LAST_NAME, AUTHOR_BORN)
+                  .from(AUTHOR)
+                  .where(AUTHOR_ID.lt(rows))
+                  .fetch();
+    }
+
+    @Benchmark
+    public int bindAndExecuteInsert() {
+        return ctx.insertInto(BOOK, BOOK_ID, BOOK_AUTHOR_ID, BOOK_TITLE, BOOK_PUBLISHED_IN)
+                  .values(1, 1, "Title", 2000)
+                  .values(2, 1, "Title", 2001)
+                  .values(3, 1, "Title", 2002)
+                  .values(4, 1, "Title", 2003)
+                  .execute();
+    }
+}
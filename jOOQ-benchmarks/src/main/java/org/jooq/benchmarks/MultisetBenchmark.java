@@ -0,0 +1,128 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.benchmarks;
+
+import static org.jooq.benchmarks.BenchmarkSchema.AUTHOR;
+import static org.jooq.benchmarks.BenchmarkSchema.AUTHOR_FIRST_NAME;
+import static org.jooq.benchmarks.BenchmarkSchema.AUTHOR_ID;
+import static org.jooq.benchmarks.BenchmarkSchema.AUTHOR_LAST_NAME;
+import static org.jooq.benchmarks.BenchmarkSchema.BOOK;
+import static org.jooq.benchmarks.BenchmarkSchema.BOOK_AUTHOR_ID;
+import static org.jooq.benchmarks.BenchmarkSchema.BOOK_ID;
+import static org.jooq.benchmarks.BenchmarkSchema.BOOK_PUBLISHED_IN;
+import static org.jooq.benchmarks.BenchmarkSchema.BOOK_TITLE;
+import static org.jooq.impl.DSL.multisetAgg;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+import org.jooq.DSLContext;
+import org.jooq.Record3;
+import org.jooq.Result;
+import org.jooq.ResultQuery;
+import org.jooq.SQLDialect;
+import org.jooq.conf.NestedCollectionEmulation;
+import org.jooq.conf.Settings;
+import org.jooq.impl.DSL;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for fetching nested collections using <code>MULTISET_AGG</code>,
+ * which H2 emulates using SQL/JSON. This mostly measures decoding
+ * the serialised nested results on the client side.
+ * <p>
+ * <code>MULTISET_AGG</code> is used rather than a correlated
+ * <code>MULTISET</code> subquery, as H2 does not support the correlated
+ * derived tables produced by the latter's emulation.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class MultisetBenchmark {
+
+    @Param({ "100", "1000" })
+    public int                       authors;
+
+    @Param({ "JSON", "JSONB" })
+    public NestedCollectionEmulation emulation;
+
+    Connection                       connection;
+    ResultQuery<Record3<String, String, Result<Record3<Integer, String, Integer>>>> query;
+
+    @Setup
+    public void setup() throws SQLException, IOException {
+        connection = BenchmarkSchema.h2("multiset" + authors + emulation, authors);
+        DSLContext ctx = DSL.using(connection, SQLDialect.H2, new Settings().withEmulateMultiset(emulation));
+
+        query = ctx
+            .select(
+                AUTHOR_FIRST_NAME,
+                AUTHOR_LAST_NAME,
+                multisetAgg(BOOK_ID, BOOK_TITLE, BOOK_PUBLISHED_IN))
+            .from(AUTHOR)
+            .join(BOOK).on(BOOK_AUTHOR_ID.eq(AUTHOR_ID))
+            .groupBy(AUTHOR_ID, AUTHOR_FIRST_NAME, AUTHOR_LAST_NAME);
+    }
+
+    @TearDown
+    public void teardown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public Result<Record3<String, String, Result<Record3<Integer, String, Integer>>>> fetchMultiset() {
+        return query.fetch();
+    }
+}
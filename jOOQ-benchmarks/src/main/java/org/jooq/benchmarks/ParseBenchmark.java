@@ -0,0 +1,113 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jooq.DSLContext;
+import org.jooq.Parser;
+import org.jooq.Queries;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for the {@link Parser}, using the statement corpus in
+ * <code>corpus.sql</code>.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ParseBenchmark {
+
+    String       corpus;
+    List<String> statements;
+    Parser       parser;
+    DSLContext   ctx;
+
+    @Setup
+    public void setup() throws IOException {
+        try (InputStream in = ParseBenchmark.class.getResourceAsStream("corpus.sql")) {
+            corpus = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+
+        ctx = DSL.using(SQLDialect.DEFAULT);
+        parser = ctx.parser();
+        statements = new ArrayList<>();
+
+        for (String s : corpus.split(";"))
+            if (!s.isBlank())
+                statements.add(s.trim());
+    }
+
+    @Benchmark
+    public Queries parseCorpus() {
+        return parser.parse(corpus);
+    }
+
+    @Benchmark
+    public void parseStatements(Blackhole bh) {
+        for (String s : statements)
+            bh.consume(parser.parseQuery(s));
+    }
+
+    @Benchmark
+    public void parseAndRenderStatements(Blackhole bh) {
+        for (String s : statements)
+            bh.consume(ctx.render(parser.parseQuery(s)));
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.benchmarks;
+
+import static org.jooq.benchmarks.BenchmarkSchema.AUTHOR;
+import static org.jooq.benchmarks.BenchmarkSchema.AUTHOR_FIRST_NAME;
+import static org.jooq.benchmarks.BenchmarkSchema.AUTHOR_ID;
+import static org.jooq.benchmarks.BenchmarkSchema.AUTHOR_LAST_NAME;
+import static org.jooq.benchmarks.BenchmarkSchema.BOOK;
+import static org.jooq.benchmarks.BenchmarkSchema.BOOK_AUTHOR_ID;
+import static org.jooq.benchmarks.BenchmarkSchema.BOOK_ID;
+import static org.jooq.benchmarks.BenchmarkSchema.BOOK_PUBLISHED_IN;
+import static org.jooq.benchmarks.BenchmarkSchema.BOOK_TITLE;
+import static org.jooq.impl.DSL.count;
+import static org.jooq.impl.DSL.inline;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jooq.DSLContext;
+import org.jooq.InsertValuesStep3;
+import org.jooq.Query;
+import org.jooq.Record;
+import org.jooq.SQLDialect;
+import org.jooq.conf.Settings;
+import org.jooq.impl.DSL;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for rendering typical query shapes to SQL strings, without any
+ * JDBC interaction.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class RenderBenchmark {
+
+    @Param({ "H2", "POSTGRES" })
+    public SQLDialect dialect;
+
+    DSLContext        ctx;
+    DSLContext        cached;
+    Query             simpleSelect;
+    Query             complexSelect;
+    Query             insert;
+
+    @Setup
+    public void setup() {
+        ctx = DSL.using(dialect);
+        cached = DSL.using(dialect, new Settings().withCacheRenderedSQL(true));
+
+        simpleSelect = ctx
+            .select(AUTHOR_ID, AUTHOR_FIRST_NAME, AUTHOR_LAST_NAME)
+            .from(AUTHOR)
+            .where(AUTHOR_ID.eq(1));
+
+        complexSelect = ctx
+            .select(AUTHOR_FIRST_NAME, AUTHOR_LAST_NAME, count())
+            .from(AUTHOR)
+            .join(BOOK).on(BOOK_AUTHOR_ID.eq(AUTHOR_ID))
+            .where(BOOK_PUBLISHED_IN.between(1900, 2000))
+            .and(BOOK_TITLE.like("%a%").or(BOOK_TITLE.isNull()))
+            .groupBy(AUTHOR_ID, AUTHOR_FIRST_NAME, AUTHOR_LAST_NAME)
+            .having(count().gt(inline(1)))
+            .orderBy(AUTHOR_LAST_NAME.asc(), AUTHOR_FIRST_NAME.desc())
+            .limit(10)
+            .offset(20);
+
+        InsertValuesStep3<Record, Integer, Integer, String> i = ctx.insertInto(BOOK, BOOK_ID, BOOK_AUTHOR_ID, BOOK_TITLE);
+        for (int j = 0; j < 100; j++)
+            i = i.values(j, j % 10, "Title " + j);
+
+        insert = i;
+    }
+
+    @Benchmark
+    public String renderSimpleSelect() {
+        return ctx.render(simpleSelect);
+    }
+
+    @Benchmark
+    public String renderComplexSelect() {
+        return ctx.render(complexSelect);
+    }
+
+    @Benchmark
+    public String renderComplexSelectInlined() {
+        return ctx.renderInlined(complexSelect);
+    }
+
+    @Benchmark
+    public String renderComplexSelectCached() {
+        return cached.render(complexSelect);
+    }
+
+    @Benchmark
+    public String renderMultiRowInsert() {
+        return ctx.render(insert);
+    }
+
+    @Benchmark
+    public String constructAndRenderSimpleSelect() {
+        return ctx.render(ctx
+            .select(AUTHOR_ID, AUTHOR_FIRST_NAME, AUTHOR_LAST_NAME)
+            .from(AUTHOR)
+            .where(AUTHOR_ID.eq(1)));
+    }
+}
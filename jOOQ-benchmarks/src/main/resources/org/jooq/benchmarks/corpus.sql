@@ -0,0 +1,29 @@
+select 1;
+select a, b, c from t where a = 1;
+select * from author where id in (1, 2, 3) order by last_name asc, first_name desc;
+select a.first_name, a.last_name, count(*)
+from author a
+join book b on a.id = b.author_id
+where b.published_in between 1900 and 2000
+group by a.first_name, a.last_name
+having count(*) > 1
+order by 3 desc
+limit 10 offset 20;
+select distinct coalesce(a.first_name, 'n/a') as name, upper(a.last_name), substring(a.last_name, 1, 3) from author as a;
+select case when x > 0 then 'positive' when x < 0 then 'negative' else 'zero' end from t;
+select * from (select id, row_number() over (partition by author_id order by published_in desc) rn from book) t where rn = 1;
+select sum(x) filter (where y > 0), avg(x), max(x) over (order by y rows between unbounded preceding and current row) from t;
+with recursive r (n) as (select 1 union all select n + 1 from r where n < 10) select n from r;
+select a.id, (select count(*) from book b where b.author_id = a.id) from author a where exists (select 1 from book b where b.author_id = a.id);
+select * from author a left join book b on a.id = b.author_id and b.title like '%a%' cross join language l;
+select x from t union select y from u intersect select z from v except select w from x;
+insert into author (id, first_name, last_name) values (1, 'George', 'Orwell'), (2, 'Paulo', 'Coelho');
+insert into book (id, author_id, title) select id, id, 'Copy' from author where id > 10;
+update author set first_name = 'Eric', last_name = upper(last_name) where id = 1;
+update book set published_in = published_in + 1 where author_id in (select id from author where born < date '1900-01-01');
+delete from book where author_id = 1 and title is null;
+merge into author t using (select 1 id, 'a' n) s on (t.id = s.id) when matched then update set last_name = s.n when not matched then insert (id, last_name) values (s.id, s.n);
+create table t (id int not null primary key, name varchar(50) default 'x', ts timestamp, constraint uk unique (name));
+alter table t add column c decimal(10, 2);
+create index i on t (name, ts desc);
+drop table if exists t cascade;
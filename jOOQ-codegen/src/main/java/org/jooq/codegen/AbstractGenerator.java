@@ -163,6 +163,10 @@ abstract class AbstractGenerator implements Generator {
     String                             generateNewline                                  = "\n";
     String                             generateIndentation;
     int                                generatePrintMarginForBlockComment               = 80;
+    int                                generateParallelism                              = 1;
+    boolean                            generateIncremental                              = false;
+    String                             generateIncrementalConfiguration;
+    boolean                            generateLazyReferences                           = false;
 
     protected GeneratorStrategyWrapper strategy;
     protected String                   targetEncoding                                   = "UTF-8";
@@ -1279,6 +1283,46 @@ abstract class AbstractGenerator implements Generator {
         this.generatePrintMarginForBlockComment = printMarginForBlockComment;
     }
 
+    @Override
+    public int generateParallelism() {
+        return generateParallelism;
+    }
+
+    @Override
+    public void setGenerateParallelism(int parallelism) {
+        this.generateParallelism = parallelism;
+    }
+
+    @Override
+    public boolean generateIncremental() {
+        return generateIncremental;
+    }
+
+    @Override
+    public void setGenerateIncremental(boolean incremental) {
+        this.generateIncremental = incremental;
+    }
+
+    @Override
+    public String generateIncrementalConfiguration() {
+        return generateIncrementalConfiguration;
+    }
+
+    @Override
+    public void setGenerateIncrementalConfiguration(String configuration) {
+        this.generateIncrementalConfiguration = configuration;
+    }
+
+    @Override
+    public boolean generateLazyReferences() {
+        return generateLazyReferences;
+    }
+
+    @Override
+    public void setGenerateLazyReferences(boolean lazyReferences) {
+        this.generateLazyReferences = lazyReferences;
+    }
+
     // ----
 
     @Override
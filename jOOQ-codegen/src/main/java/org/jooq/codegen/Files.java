@@ -39,10 +39,9 @@ package org.jooq.codegen;
 
 import java.io.File;
 import java.io.FilenameFilter;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
 /**
@@ -56,8 +55,8 @@ public final class Files {
     private final Set<File> mkdirs;
 
     public Files() {
-        this.lists = new HashMap<>();
-        this.mkdirs = new HashSet<>();
+        this.lists = new ConcurrentHashMap<>();
+        this.mkdirs = ConcurrentHashMap.newKeySet();
     }
 
     public final String[] list(File dir, FilenameFilter filter) {
@@ -68,7 +67,12 @@ public final class Files {
     }
 
     public final void mkdirs(File dir) {
-        if (mkdirs.add(dir))
+
+        // Flag the directory only after creating it, in case other threads
+        // write files to the same directory concurrently
+        if (!mkdirs.contains(dir)) {
             dir.mkdirs();
+            mkdirs.add(dir);
+        }
     }
 }
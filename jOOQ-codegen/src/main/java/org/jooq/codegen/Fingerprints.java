@@ -0,0 +1,445 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.codegen;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.synchronizedSet;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.jooq.meta.ArrayDefinition;
+import org.jooq.meta.CatalogDefinition;
+import org.jooq.meta.CheckConstraintDefinition;
+import org.jooq.meta.ColumnDefinition;
+import org.jooq.meta.DataTypeDefinition;
+import org.jooq.meta.Database;
+import org.jooq.meta.Definition;
+import org.jooq.meta.DomainDefinition;
+import org.jooq.meta.EmbeddableDefinition;
+import org.jooq.meta.EnumDefinition;
+import org.jooq.meta.ForeignKeyDefinition;
+import org.jooq.meta.IndexColumnDefinition;
+import org.jooq.meta.IndexDefinition;
+import org.jooq.meta.PackageDefinition;
+import org.jooq.meta.ParameterDefinition;
+import org.jooq.meta.RoutineDefinition;
+import org.jooq.meta.SchemaDefinition;
+import org.jooq.meta.SequenceDefinition;
+import org.jooq.meta.TableDefinition;
+import org.jooq.meta.TypedElementDefinition;
+import org.jooq.meta.UDTDefinition;
+import org.jooq.meta.UniqueKeyDefinition;
+import org.jooq.tools.JooqLogger;
+
+/**
+ * Fingerprints of the objects of a {@link Database}, persisted between code
+ * generation runs in order to skip generating code for unchanged objects.
+ * <p>
+ * A fingerprint is calculated for each table, UDT, and routine, as well as for
+ * the database as a whole. All fingerprints are invalidated when the code
+ * generation configuration, the jOOQ version, or the class files of a custom
+ * generator or generator strategy change. Other custom code, such as
+ * converters, bindings, or classes that a custom generator depends on, is not
+ * covered, so the fingerprints file must be removed after changing it.
+ * <p>
+ * Only the fingerprints of objects whose code was generated successfully are
+ * persisted, along with the list of generated files, which must still exist
+ * for the entire code generation run to be skipped.
+ */
+final class Fingerprints {
+
+    private static final JooqLogger   log       = JooqLogger.getLogger(Fingerprints.class);
+    static final String               FILE_NAME = "jooq-fingerprints.txt";
+    private static final String       HEADER    = "# Fingerprints of objects generated by jOOQ. Do not edit.";
+
+    private static final String       FILE      = "file ";
+
+    private final File                directory;
+    private final File                file;
+    private final Map<String, String> previous;
+    private final Map<String, String> current;
+    private final Set<String>         failed;
+
+    Fingerprints(File directory, String configuration, Database database, Class<?>... customisations) {
+        this.directory = directory;
+        this.file = new File(directory, FILE_NAME);
+        this.previous = read(file);
+        this.current = new TreeMap<>();
+        this.failed = synchronizedSet(new HashSet<>());
+
+        current.put("configuration", hash(Constants.VERSION + "\n" + configuration + "\n" + classes(customisations)));
+        StringBuilder all = new StringBuilder(current.get("configuration"));
+
+        for (CatalogDefinition catalog : database.getCatalogs())
+            line(all, "catalog", catalog.getQualifiedOutputName(), catalog.getComment());
+
+        for (SchemaDefinition schema : database.getSchemata()) {
+            line(all, "schema", schema.getQualifiedOutputName(), schema.getComment());
+
+            for (TableDefinition table : database.getTables(schema))
+                put(all, table, table(table));
+
+            for (UDTDefinition udt : database.getUDTs(schema)) {
+                put(all, udt, udt(udt));
+
+                for (RoutineDefinition routine : udt.getRoutines())
+                    put(all, routine, routine(routine));
+            }
+
+            for (RoutineDefinition routine : database.getRoutines(schema))
+                put(all, routine, routine(routine));
+
+            // Other objects are only part of the database fingerprint
+            for (PackageDefinition pkg : database.getPackages(schema)) {
+                line(all, "package", pkg.getQualifiedOutputName(), pkg.getComment(), pkg.getSource());
+
+                for (RoutineDefinition routine : pkg.getRoutines())
+                    all.append(routine(routine));
+                for (UDTDefinition udt : pkg.getUDTs())
+                    all.append(udt(udt));
+                for (TypedElementDefinition<?> constant : pkg.getConstants())
+                    typed(all, "constant", constant);
+            }
+
+            for (SequenceDefinition sequence : database.getSequences(schema)) {
+                line(all, "sequence", sequence.getQualifiedOutputName(), sequence.getComment(),
+                    sequence.getStartWith(), sequence.getIncrementBy(), sequence.getMinvalue(), sequence.getMaxvalue(), sequence.getCycle(), sequence.getCache());
+                type(all, sequence.getType());
+            }
+
+            for (DomainDefinition domain : database.getDomains(schema)) {
+                line(all, "domain", domain.getQualifiedOutputName(), domain.getComment(), domain.getCheckClauses());
+                type(all, domain.getBaseType());
+            }
+
+            for (EnumDefinition e : database.getEnums(schema))
+                line(all, "enum", e.getQualifiedOutputName(), e.getComment(), e.isSynthetic(), e.getLiterals());
+
+            for (ArrayDefinition array : database.getArrays(schema)) {
+                line(all, "array", array.getQualifiedOutputName(), array.getComment());
+                type(all, array.getElementType());
+                type(all, array.getIndexType());
+            }
+
+            for (EmbeddableDefinition embeddable : database.getEmbeddables(schema))
+                embeddable(all, embeddable);
+        }
+
+        current.put("database", hash(all.toString()));
+    }
+
+    /**
+     * Whether the database as a whole is unchanged since the previous run.
+     */
+    final boolean unchanged() {
+        if (!unchanged("database"))
+            return false;
+
+        // Generated files may have been removed since the previous run
+        for (String key : previous.keySet())
+            if (key.startsWith(FILE) && !new File(directory, key.substring(FILE.length())).exists())
+                return false;
+
+        return true;
+    }
+
+    /**
+     * Whether an object is unchanged since the previous run.
+     */
+    final boolean unchanged(Definition definition) {
+        return unchanged("configuration") && unchanged(key(definition));
+    }
+
+    private final boolean unchanged(String key) {
+        String fingerprint = current.get(key);
+        return fingerprint != null && fingerprint.equals(previous.get(key));
+    }
+
+    /**
+     * Mark an object whose code could not be generated, such that it is
+     * generated again in the next run.
+     */
+    final void failed(Definition definition) {
+        failed.add(key(definition));
+    }
+
+    /**
+     * Persist the fingerprints of this run along with the files it generated
+     * for the next run.
+     */
+    final void write(Collection<File> files) {
+        if (!failed.isEmpty()) {
+            current.remove("database");
+            current.keySet().removeAll(failed);
+        }
+
+        Path root = directory.toPath().toAbsolutePath();
+        for (File f : files)
+            current.put(FILE + root.relativize(f.toPath().toAbsolutePath()).toString().replace(File.separatorChar, '/'), "generated");
+
+        if (current.equals(previous))
+            return;
+
+        StringBuilder sb = new StringBuilder(HEADER).append('\n');
+        current.forEach((k, v) -> sb.append(v).append(' ').append(k).append('\n'));
+
+        try {
+            file.getParentFile().mkdirs();
+            Files.write(file.toPath(), sb.toString().getBytes(UTF_8));
+        }
+        catch (IOException e) {
+            log.warn("Cannot write fingerprints to " + file, e);
+        }
+    }
+
+    private static final Map<String, String> read(File file) {
+        Map<String, String> result = new TreeMap<>();
+
+        if (file.exists()) {
+            try {
+                for (String line : Files.readAllLines(file.toPath(), UTF_8)) {
+                    int i = line.indexOf(' ');
+
+                    if (!line.startsWith("#") && i > 0)
+                        result.put(line.substring(i + 1), line.substring(0, i));
+                }
+            }
+            catch (IOException e) {
+                log.warn("Cannot read fingerprints from " + file, e);
+            }
+        }
+
+        return result;
+    }
+
+    private final void put(StringBuilder all, Definition definition, String content) {
+        String key = key(definition);
+        String fingerprint = hash(content);
+
+        current.put(key, fingerprint);
+        line(all, key, fingerprint);
+    }
+
+    private static final String key(Definition definition) {
+        String type =
+              definition instanceof TableDefinition
+            ? "table"
+            : definition instanceof UDTDefinition
+            ? "udt"
+            : definition instanceof RoutineDefinition
+            ? "routine"
+            : definition.getClass().getSimpleName();
+
+        return type + " " + definition.getQualifiedOutputName() + (definition.getOverload() != null ? "/" + definition.getOverload() : "");
+    }
+
+    private static final String table(TableDefinition table) {
+        StringBuilder sb = new StringBuilder();
+
+        line(sb, "table", table.getQualifiedOutputName(), table.getComment(), table.getSource(),
+            table.isView(), table.isMaterializedView(), table.isTemporary(), table.isTableValuedFunction(), table.isSynthetic(),
+            table.getParentTable() != null ? table.getParentTable().getQualifiedOutputName() : null);
+
+        for (ColumnDefinition column : table.getColumns()) {
+            typed(sb, "column", column);
+            line(sb, column.isIdentity(), column.isReadonly());
+        }
+
+        if (table.isTableValuedFunction())
+            for (ParameterDefinition parameter : table.getParameters())
+                typed(sb, "parameter", parameter);
+
+        for (UniqueKeyDefinition key : table.getKeys()) {
+            line(sb, "key", key.getOutputName(), key.isPrimaryKey(), key.enforced(), names(key.getKeyColumns()));
+
+            // Inverse relationships, including the paths to other tables via
+            // referencing tables, as used in many-to-many relationships
+            for (ForeignKeyDefinition inverse : key.getForeignKeys()) {
+                line(sb, "inverse", inverse.getOutputName(), inverse.getTable().getQualifiedOutputName(), names(inverse.getKeyColumns()));
+
+                for (ForeignKeyDefinition path : inverse.getTable().getForeignKeys())
+                    line(sb, "path", path.getOutputName(), path.getReferencedTable().getQualifiedOutputName(), path.getReferencedKey().getOutputName());
+            }
+        }
+
+        for (ForeignKeyDefinition fk : table.getForeignKeys())
+            line(sb, "fk", fk.getOutputName(), fk.enforced(), names(fk.getKeyColumns()),
+                fk.getReferencedTable().getQualifiedOutputName(), fk.getReferencedKey().getOutputName(), names(fk.getReferencedColumns()));
+
+        for (IndexDefinition index : table.getIndexes()) {
+            line(sb, "index", index.getOutputName(), index.isUnique());
+
+            for (IndexColumnDefinition column : index.getIndexColumns())
+                line(sb, column.getOutputName(), column.getSortOrder());
+        }
+
+        for (CheckConstraintDefinition check : table.getCheckConstraints())
+            line(sb, "check", check.getOutputName(), check.enforced(), check.getCheckClause());
+
+        for (EmbeddableDefinition embeddable : table.getEmbeddables())
+            embeddable(sb, embeddable);
+        for (EmbeddableDefinition embeddable : table.getReferencedEmbeddables())
+            embeddable(sb, embeddable);
+
+        return sb.toString();
+    }
+
+    private static final String udt(UDTDefinition udt) {
+        StringBuilder sb = new StringBuilder();
+
+        line(sb, "udt", udt.getQualifiedOutputName(), udt.getComment(), udt.isSynthetic());
+
+        for (TypedElementDefinition<?> attribute : udt.getAttributes())
+            typed(sb, "attribute", attribute);
+
+        for (RoutineDefinition routine : udt.getRoutines())
+            line(sb, "routine", routine.getOutputName(), routine.getOverload());
+
+        return sb.toString();
+    }
+
+    private static final String routine(RoutineDefinition routine) {
+        StringBuilder sb = new StringBuilder();
+
+        line(sb, "routine", routine.getQualifiedOutputName(), routine.getOverload(), routine.getComment(), routine.getSource(),
+            routine.isSQLUsable(), routine.isAggregate());
+
+        if (routine.getReturnValue() != null)
+            typed(sb, "return", routine.getReturnValue());
+
+        for (ParameterDefinition parameter : routine.getAllParameters()) {
+            typed(sb, "parameter", parameter);
+            line(sb, parameter.isDefaulted(), parameter.isUnnamed(), parameter.isSynthetic(),
+                routine.getInParameters().contains(parameter), routine.getOutParameters().contains(parameter));
+        }
+
+        return sb.toString();
+    }
+
+    private static final void embeddable(StringBuilder sb, EmbeddableDefinition embeddable) {
+        line(sb, "embeddable", embeddable.getQualifiedOutputName(), embeddable.getComment(),
+            embeddable.getReferencingOutputName(), embeddable.getReferencingComment(), embeddable.replacesFields(),
+            embeddable.getDefiningTable().getQualifiedOutputName(), embeddable.getReferencingTable().getQualifiedOutputName());
+
+        for (TypedElementDefinition<?> column : embeddable.getColumns())
+            typed(sb, "column", column);
+    }
+
+    private static final void typed(StringBuilder sb, String type, TypedElementDefinition<?> element) {
+        line(sb, type, element.getOutputName(), element.getComment(),
+            element.getDomain() != null ? element.getDomain().getQualifiedOutputName() : null);
+
+        type(sb, element.getDefinedType());
+        type(sb, element.getType());
+    }
+
+    private static final void type(StringBuilder sb, DataTypeDefinition type) {
+        if (type == null)
+            line(sb, "type", null);
+        else
+            line(sb, "type", type.getType(), type.getQualifiedUserType(), type.getUserType(), type.getConverter(), type.getBinding(),
+                type.getLength(), type.getPrecision(), type.getScale(), type.isNullable(), type.isReadonly(),
+                type.isComputed(), type.getGeneratedAlwaysAs(), type.getGenerationOption(),
+                type.isIdentity(), type.isDefaulted(), type.getDefaultValue(), type.isUDT(), type.isArray());
+    }
+
+    private static final String classes(Class<?>... classes) {
+        StringBuilder sb = new StringBuilder();
+
+        // jOOQ's own classes are covered by the jOOQ version
+        for (Class<?> c : classes)
+            for (Class<?> t = c; t != null && !t.getName().startsWith("org.jooq."); t = t.getSuperclass())
+                line(sb, t.getName(), classFile(t));
+
+        return sb.toString();
+    }
+
+    private static final String classFile(Class<?> type) {
+        try (InputStream in = type.getResourceAsStream("/" + type.getName().replace('.', '/') + ".class")) {
+            return in == null ? null : hash(in.readAllBytes());
+        }
+        catch (IOException e) {
+            log.warn("Cannot read class file of " + type, e);
+            return null;
+        }
+    }
+
+    private static final String names(List<? extends Definition> definitions) {
+        StringBuilder sb = new StringBuilder();
+
+        for (Definition definition : definitions)
+            sb.append(definition.getOutputName()).append(',');
+
+        return sb.toString();
+    }
+
+    private static final void line(StringBuilder sb, Object... values) {
+        for (Object value : values)
+            sb.append(Objects.toString(value)).append('\t');
+
+        sb.append('\n');
+    }
+
+    private static final String hash(String content) {
+        return hash(content.getBytes(UTF_8));
+    }
+
+    private static final String hash(byte[] content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return String.format("%064x", new BigInteger(1, digest.digest(content)));
+        }
+        catch (NoSuchAlgorithmException e) {
+            throw new GeneratorException("SHA-256 is not supported", e);
+        }
+    }
+}
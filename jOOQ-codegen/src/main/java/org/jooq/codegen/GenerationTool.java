@@ -895,6 +895,15 @@ public class GenerationTool {
                 generator.setGenerateIndentation(g.getGenerate().getIndentation());
             if (g.getGenerate().getPrintMarginForBlockComment() != null)
                 generator.setGeneratePrintMarginForBlockComment(g.getGenerate().getPrintMarginForBlockComment());
+            if (g.getGenerate().getParallelism() != null)
+                generator.setGenerateParallelism(g.getGenerate().getParallelism());
+            if (g.getGenerate().isIncremental() != null)
+                generator.setGenerateIncremental(g.getGenerate().isIncremental());
+            if (g.getGenerate().isLazyReferences() != null)
+                generator.setGenerateLazyReferences(g.getGenerate().isLazyReferences());
+
+            // The configuration is part of the fingerprints of incremental code generation
+            generator.setGenerateIncrementalConfiguration(g.toString());
 
 
             if (!isBlank(d.getSchemaVersionProvider()))
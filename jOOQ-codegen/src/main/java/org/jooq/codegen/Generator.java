@@ -1166,6 +1166,54 @@ public interface Generator {
      */
     void setGeneratePrintMarginForBlockComment(int printMarginForBlockComment);
 
+    /**
+     * The number of threads used to generate per-table artifacts.
+     */
+    int generateParallelism();
+
+    /**
+     * The number of threads used to generate per-table artifacts.
+     */
+    void setGenerateParallelism(int parallelism);
+
+    /**
+     * Whether to skip generating code for objects whose fingerprint has not
+     * changed since the previous code generation run.
+     */
+    boolean generateIncremental();
+
+    /**
+     * Whether to skip generating code for objects whose fingerprint has not
+     * changed since the previous code generation run.
+     */
+    void setGenerateIncremental(boolean incremental);
+
+    /**
+     * The code generation configuration, whose changes invalidate all
+     * fingerprints of incremental code generation.
+     */
+    String generateIncrementalConfiguration();
+
+    /**
+     * The code generation configuration, whose changes invalidate all
+     * fingerprints of incremental code generation.
+     */
+    void setGenerateIncrementalConfiguration(String configuration);
+
+    /**
+     * Whether key and index references should be initialised lazily in
+     * holder classes per table, and table references omitted from schema
+     * classes.
+     */
+    boolean generateLazyReferences();
+
+    /**
+     * Whether key and index references should be initialised lazily in
+     * holder classes per table, and table references omitted from schema
+     * classes.
+     */
+    void setGenerateLazyReferences(boolean lazyReferences);
+
     /**
      * The target directory
      */
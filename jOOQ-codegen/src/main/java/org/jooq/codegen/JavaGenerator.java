@@ -40,6 +40,7 @@ package org.jooq.codegen;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.nCopies;
+import static java.util.Collections.synchronizedSet;
 import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.counting;
 import static java.util.stream.Collectors.groupingBy;
@@ -86,7 +87,12 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TimeZone;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -287,12 +293,12 @@ public class JavaGenerator extends AbstractGenerator {
     /**
      * All files affected by this generator run.
      */
-    private Set<File>                             affectedFiles                = new LinkedHashSet<>();
+    private Set<File>                             affectedFiles                = synchronizedSet(new LinkedHashSet<>());
 
     /**
      * All files modified by this generator run.
      */
-    private Set<File>                             modifiedFiles                = new LinkedHashSet<>();
+    private Set<File>                             modifiedFiles                = synchronizedSet(new LinkedHashSet<>());
 
     /**
      * These directories were not modified by this generator, but flagged as not
@@ -311,6 +317,11 @@ public class JavaGenerator extends AbstractGenerator {
     private final Files                           fileCache;
     private String                                visibility;
 
+    /**
+     * The fingerprints of incremental code generation, if applicable.
+     */
+    private Fingerprints                          fingerprints;
+
     static {
         SQLDATATYPE_LITERAL_LOOKUP = new IdentityHashMap<>();
         SQLDATATYPE_WITH_LENGTH = new HashSet<>();
@@ -444,9 +455,11 @@ public class JavaGenerator extends AbstractGenerator {
         log.info("  interfaces", generateInterfaces()
               + ((!generateInterfaces && generateImmutableInterfaces) ? " (forced to true because of <immutableInterfaces/>)" : ""));
         log.info("  interfaces (immutable)", generateInterfaces());
+        log.info("  incremental", generateIncremental());
         log.info("  javadoc", generateJavadoc());
         log.info("  keys", generateKeys());
         log.info("  links", generateLinks());
+        log.info("  parallelism", parallelism());
         log.info("  pojos", generatePojos()
               + ((!generatePojos && generateDaos) ? " (forced to true because of <daos/>)" :
                 ((!generatePojos && generateImmutablePojos) ? " (forced to true because of <immutablePojos/>)" : "")));
@@ -484,6 +497,15 @@ public class JavaGenerator extends AbstractGenerator {
         // ----------------------------------------------------------------------
         // XXX Generating catalogs
         // ----------------------------------------------------------------------
+        if (generateIncremental()) {
+            fingerprints = new Fingerprints(getStrategy().getFileRoot(), generateIncrementalConfiguration(), database, getClass(), strategy.delegate.getClass());
+
+            if (fingerprints.unchanged()) {
+                log.info("Skipping code generation", "Neither the database nor the configuration have changed since the previous code generation run.");
+                return;
+            }
+        }
+
         log.info("Generating catalogs", "Total: " + database.getCatalogs().size());
 
         StopWatch w = new StopWatch();
@@ -522,6 +544,10 @@ public class JavaGenerator extends AbstractGenerator {
         // [#5556] Clean up common parent directory
         log.info("Removing excess files");
         empty(getStrategy().getFileRoot(), (scala ? ".scala" : kotlin ? ".kt" : ".java"), affectedFiles, directoriesNotForRemoval);
+
+        if (fingerprints != null)
+            fingerprints.write(affectedFiles);
+
         directoriesNotForRemoval.clear();
         affectedFiles.clear();
     }
@@ -845,11 +871,201 @@ public class JavaGenerator extends AbstractGenerator {
 
 
 
+
+    /**
+     * Whether generating a file can be skipped, because the object it is
+     * generated from has not changed since the previous code generation run.
+     */
+    private boolean unchanged(Definition definition, File file) {
+        if (fingerprints == null || !fingerprints.unchanged(definition) || !file.exists())
+            return false;
+
+        log.debug("Skipping unchanged", file.getName());
+
+        // Prevent the file from being removed as an excess file
+        affectedFiles.add(file);
+        return true;
+    }
+
+    /**
+     * Prevent the fingerprint of an object from being persisted, because its
+     * code could not be generated.
+     */
+    private void failed(Definition definition) {
+        if (fingerprints != null)
+            fingerprints.failed(definition);
+    }
+
+    private int parallelism() {
+        return generateParallelism() > 0 ? generateParallelism() : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Generate per-table artifacts, in parallel if {@link #parallelism()} is
+     * greater than <code>1</code>.
+     */
+    private void forEachTable(List<TableDefinition> tables, Consumer<? super TableDefinition> action) {
+        int parallelism = Math.min(parallelism(), tables.size());
+
+        if (parallelism <= 1) {
+            tables.forEach(action);
+            return;
+        }
+
+        // Most definitions load their contents lazily and are not thread safe.
+        // Initialise them before they are shared between threads.
+        Set<TableDefinition> init = new LinkedHashSet<>(tables);
+        for (TableDefinition table : tables)
+            for (ForeignKeyDefinition fk : table.getForeignKeys())
+                init.add(fk.getReferencedTable());
+
+        init.forEach(this::initTable);
+
+        // Column types are resolved through the database's lazily initialised
+        // lists of ARRAY, DOMAIN, ENUM, and UDT types, and their per schema
+        // caches, which must not be initialised concurrently either
+        for (SchemaDefinition schema : database.getSchemata()) {
+            database.getArrays(schema);
+            database.getDomains(schema);
+            database.getEnums(schema);
+            database.getUDTs(schema);
+            database.getTables(schema);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            List<Future<?>> futures = new ArrayList<>(tables.size());
+            for (TableDefinition table : tables)
+                futures.add(executor.submit(() -> action.accept(table)));
+
+            for (Future<?> future : futures)
+                future.get();
+        }
+        catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException)
+                throw (RuntimeException) e.getCause();
+            else if (e.getCause() instanceof Error)
+                throw (Error) e.getCause();
+            else
+                throw new GeneratorException("Error while generating tables", e.getCause());
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GeneratorException("Interrupted while generating tables", e);
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void initTable(TableDefinition table) {
+        for (ColumnDefinition column : table.getColumns())
+            column.getType();
+
+        table.getPrimaryKey();
+        table.getIdentity();
+        table.getIndexes();
+        table.getCheckConstraints();
+        table.getEmbeddables();
+        table.getReferencedEmbeddables();
+        table.getForeignKeys();
+
+        for (UniqueKeyDefinition key : table.getKeys())
+            key.getForeignKeys();
+
+        if (table.isTableValuedFunction())
+            table.getParameters();
+    }
 
     private boolean hasTableValuedFunctions(SchemaDefinition schema) {
         return database.getTables(schema).stream().anyMatch(TableDefinition::isTableValuedFunction);
     }
 
+    /**
+     * Whether keys and indexes are initialised lazily in holder classes per
+     * table, which is currently supported only in Java.
+     */
+    private boolean lazyReferences() {
+        return generateLazyReferences() && !scala && !kotlin;
+    }
+
+    /**
+     * The name of the holder class nested in the global references class that
+     * contains the keys or indexes of a table, if {@link #lazyReferences()} is
+     * active.
+     * <p>
+     * Unique keys and foreign keys are held in separate nested classes, such
+     * that referencing a unique key doesn't initialise the foreign keys of its
+     * table, and their referenced tables, transitively.
+     */
+    private String lazyReferenceHolder(Definition definition, TableDefinition table) {
+        if (definition instanceof UniqueKeyDefinition)
+            return lazyReferenceHolderClass(table, ConstraintDefinition.class) + ".UniqueKeys";
+        else if (definition instanceof ForeignKeyDefinition)
+            return lazyReferenceHolderClass(table, ConstraintDefinition.class) + ".ForeignKeys";
+        else
+            return lazyReferenceHolderClass(table, IndexDefinition.class);
+    }
+
+    /**
+     * The class name of the holder class of a table, escaped if it collides
+     * with the enclosing global references class or the nested
+     * <code>UniqueKeys</code> and <code>ForeignKeys</code> classes, as Java
+     * doesn't allow nested classes to have the same name as an enclosing
+     * class.
+     */
+    private String lazyReferenceHolderClass(TableDefinition table, Class<? extends Definition> objectType) {
+        String enclosing = getStrategy().getGlobalReferencesJavaClassName(table.getSchema(), objectType);
+        String result = getStrategy().getJavaClassName(table);
+
+        while (result.equals(enclosing) || result.equals("UniqueKeys") || result.equals("ForeignKeys"))
+            result = result + "_";
+
+        return result;
+    }
+
+    private List<String> lazyReferenceHolders(Collection<TableDefinition> tables, Class<? extends Definition> objectType) {
+        List<String> result = new ArrayList<>();
+
+        for (TableDefinition table : tables)
+            result.add(lazyReferenceHolderClass(table, objectType));
+
+        result.add("UniqueKeys");
+        result.add("ForeignKeys");
+        return result;
+    }
+
+    /**
+     * Group keys or indexes by the table whose holder class contains them.
+     */
+    private static <D extends Definition> void byTable(
+        Map<TableDefinition, List<D>> result,
+        List<? extends D> definitions,
+        Function<? super D, ? extends TableDefinition> table
+    ) {
+        for (D definition : definitions)
+            result.computeIfAbsent(table.apply(definition), t -> new ArrayList<>()).add(definition);
+    }
+
+    /**
+     * A Java reference to a key or index, qualified by the holder class of its
+     * table if {@link #lazyReferences()} is active.
+     */
+    private String keyOrIndexRef(JavaWriter out, Definition definition, TableDefinition table) {
+        String id = getStrategy().getFullJavaIdentifier(definition);
+
+        if (!lazyReferences())
+            return out.ref(id, 2);
+
+        int i = id.lastIndexOf('.');
+        String holder = lazyReferenceHolder(definition, table);
+        return out.ref(id.substring(0, i) + "." + holder + id.substring(i), holder.contains(".") ? 4 : 3);
+    }
+
+    private <D extends Definition> List<String> keyOrIndexRefs(JavaWriter out, List<? extends D> definitions, Function<? super D, ? extends TableDefinition> table) {
+        return definitions.stream().map(d -> keyOrIndexRef(out, d, table.apply(d))).collect(toList());
+    }
+
     protected void generateRelations(SchemaDefinition schema) {
         log.info("Generating Keys");
 
@@ -857,6 +1073,18 @@ public class JavaGenerator extends AbstractGenerator {
         JavaWriter out = newJavaWriter(getStrategy().getGlobalReferencesFile(schema, ConstraintDefinition.class));
         out.refConflicts(getStrategy().getJavaIdentifiers(database.getKeys(schema)));
         out.refConflicts(getStrategy().getJavaIdentifiers(database.getForeignKeys(schema)));
+
+        // Keys are declared in holder classes per table, which are initialised
+        // only when a table's keys are first accessed
+        final boolean lazy = lazyReferences();
+        final Map<TableDefinition, List<ConstraintDefinition>> holders = new LinkedHashMap<>();
+
+        if (lazy) {
+            byTable(holders, database.getKeys(schema), ConstraintDefinition::getTable);
+            byTable(holders, database.getForeignKeys(schema), ConstraintDefinition::getTable);
+            out.refConflicts(lazyReferenceHolders(holders.keySet(), ConstraintDefinition.class));
+        }
+
         printGlobalReferencesPackage(out, schema, ConstraintDefinition.class);
 
         if (!kotlin) {
@@ -873,8 +1101,8 @@ public class JavaGenerator extends AbstractGenerator {
             out.println("%sclass %s {", visibility(), referencesClassName);
 
         // [#1459] [#10554] [#10653] Distribute keys to nested classes only if necessary
-        boolean distributeUniqueKeys = database.getKeys(schema).size() > maxMembersPerInitialiser();
-        boolean distributeForeignKeys = database.getForeignKeys(schema).size() > maxMembersPerInitialiser();
+        boolean distributeUniqueKeys = !lazy && database.getKeys(schema).size() > maxMembersPerInitialiser();
+        boolean distributeForeignKeys = !lazy && database.getForeignKeys(schema).size() > maxMembersPerInitialiser();
 
         List<UniqueKeyDefinition> allUniqueKeys = new ArrayList<>();
         List<ForeignKeyDefinition> allForeignKeys = new ArrayList<>();
@@ -894,7 +1122,9 @@ public class JavaGenerator extends AbstractGenerator {
                     out.println();
                 }
 
-                if (distributeUniqueKeys)
+                if (lazy)
+                    out.println("%sstatic final %s<%s> %s = %s.%s;", visibility(), UniqueKey.class, keyType, keyId, lazyReferenceHolder(uniqueKey, uniqueKey.getTable()), keyId);
+                else if (distributeUniqueKeys)
                     if (scala)
                         out.println("%sval %s = UniqueKeys%s.%s", visibility(), keyId, block, keyId);
                     else if (kotlin)
@@ -909,6 +1139,7 @@ public class JavaGenerator extends AbstractGenerator {
         }
         catch (Exception e) {
             log.error("Error while generating unique keys for schema " + schema, e);
+            failed(schema);
         }
 
         // Foreign keys
@@ -927,7 +1158,9 @@ public class JavaGenerator extends AbstractGenerator {
                     out.println();
                 }
 
-                if (distributeForeignKeys)
+                if (lazy)
+                    out.println("%sstatic final %s<%s, %s> %s = %s.%s;", visibility(), ForeignKey.class, keyType, referencedType, keyId, lazyReferenceHolder(foreignKey, foreignKey.getTable()), keyId);
+                else if (distributeForeignKeys)
                     if (scala)
                         out.println("%sval %s = ForeignKeys%s.%s", visibility(), keyId, block, keyId);
                     else if (kotlin)
@@ -942,6 +1175,7 @@ public class JavaGenerator extends AbstractGenerator {
         }
         catch (Exception e) {
             log.error("Error while generating foreign keys for schema " + schema, e);
+            failed(schema);
         }
 
         // [#1459] [#10554] [#10653] Print nested classes for actual static field initialisations
@@ -975,6 +1209,39 @@ public class JavaGenerator extends AbstractGenerator {
             }
         }
 
+        if (lazy && !holders.isEmpty()) {
+            out.header("Holder classes per table, initialising keys lazily");
+
+            holders.forEach((table, keys) -> {
+                out.println();
+                out.println("%sstatic final class %s {", visibility(), lazyReferenceHolderClass(table, ConstraintDefinition.class));
+
+                if (keys.stream().anyMatch(k -> k instanceof UniqueKeyDefinition)) {
+                    out.println();
+                    out.println("%sstatic final class UniqueKeys {", visibility());
+
+                    for (ConstraintDefinition key : keys)
+                        if (key instanceof UniqueKeyDefinition)
+                            printUniqueKey(out, -1, (UniqueKeyDefinition) key, false);
+
+                    out.println("}");
+                }
+
+                if (keys.stream().anyMatch(k -> k instanceof ForeignKeyDefinition)) {
+                    out.println();
+                    out.println("%sstatic final class ForeignKeys {", visibility());
+
+                    for (ConstraintDefinition key : keys)
+                        if (key instanceof ForeignKeyDefinition)
+                            printForeignKey(out, -1, (ForeignKeyDefinition) key, false);
+
+                    out.println("}");
+                }
+
+                out.println("}");
+            });
+        }
+
         generateRelationsClassFooter(schema, out);
 
         if (!kotlin)
@@ -1005,6 +1272,17 @@ public class JavaGenerator extends AbstractGenerator {
 
         JavaWriter out = newJavaWriter(getStrategy().getGlobalReferencesFile(schema, IndexDefinition.class));
         out.refConflicts(getStrategy().getJavaIdentifiers(database.getIndexes(schema)));
+
+        // Indexes are declared in holder classes per table, which are
+        // initialised only when a table's indexes are first accessed
+        final boolean lazy = lazyReferences();
+        final Map<TableDefinition, List<IndexDefinition>> holders = new LinkedHashMap<>();
+
+        if (lazy) {
+            byTable(holders, database.getIndexes(schema), IndexDefinition::getTable);
+            out.refConflicts(lazyReferenceHolders(holders.keySet(), IndexDefinition.class));
+        }
+
         printGlobalReferencesPackage(out, schema, IndexDefinition.class);
 
         if (!kotlin) {
@@ -1021,7 +1299,7 @@ public class JavaGenerator extends AbstractGenerator {
             out.println("%sclass %s {", visibility(), referencesClassName);
 
         // [#1459] [#10554] [#10653] Distribute keys to nested classes only if necessary
-        boolean distributeIndexes = database.getIndexes(schema).size() > maxMembersPerInitialiser();
+        boolean distributeIndexes = !lazy && database.getIndexes(schema).size() > maxMembersPerInitialiser();
         List<IndexDefinition> allIndexes = new ArrayList<>();
 
         out.header("INDEX definitions");
@@ -1032,7 +1310,9 @@ public class JavaGenerator extends AbstractGenerator {
                 final String keyId = getStrategy().getJavaIdentifier(index);
                 final int block = allIndexes.size() / maxMembersPerInitialiser();
 
-                if (distributeIndexes)
+                if (lazy)
+                    out.println("%sstatic final %s %s = %s.%s;", visibility(), Index.class, keyId, lazyReferenceHolder(index, index.getTable()), keyId);
+                else if (distributeIndexes)
                     if (scala)
                         out.println("%sval %s = Indexes%s.%s", visibility(), keyId, block, keyId);
                     else if (kotlin)
@@ -1046,6 +1326,7 @@ public class JavaGenerator extends AbstractGenerator {
             }
             catch (Exception e) {
                 log.error("Error while generating index " + index, e);
+                failed(index);
             }
         }
 
@@ -1067,6 +1348,20 @@ public class JavaGenerator extends AbstractGenerator {
                 out.println("}");
         }
 
+        if (lazy) {
+            out.header("Holder classes per table, initialising indexes lazily");
+
+            holders.forEach((table, indexes) -> {
+                out.println();
+                out.println("%sstatic final class %s {", visibility(), lazyReferenceHolderClass(table, IndexDefinition.class));
+
+                for (IndexDefinition index : indexes)
+                    printIndex(out, -1, index, false);
+
+                out.println("}");
+            });
+        }
+
         generateIndexesClassFooter(schema, out);
 
         if (!kotlin)
@@ -1377,7 +1672,7 @@ public class JavaGenerator extends AbstractGenerator {
                 escapeString(foreignKey.getOutputName()),
                 TableField.class,
                 out.ref(getStrategy().getFullJavaIdentifiers(foreignKey.getKeyColumns()), colRefSegments(null)),
-                out.ref(getStrategy().getFullJavaIdentifier(foreignKey.getReferencedKey()), 2),
+                keyOrIndexRef(out, foreignKey.getReferencedKey(), foreignKey.getReferencedTable()),
                 TableField.class,
                 out.ref(getStrategy().getFullJavaIdentifiers(foreignKey.getReferencedColumns()), colRefSegments(null)),
                 foreignKey.enforced()
@@ -1414,20 +1709,24 @@ public class JavaGenerator extends AbstractGenerator {
     protected void generateRecords(SchemaDefinition schema) {
         log.info("Generating table records");
 
-        for (TableDefinition table : database.getTables(schema)) {
+        forEachTable(database.getTables(schema), table -> {
             try {
                 generateRecord(table);
             }
             catch (Exception e) {
                 log.error("Error while generating table record " + table, e);
+                failed(table);
             }
-        }
+        });
 
         watch.splitInfo("Table records generated");
     }
 
 
     protected void generateRecord(TableDefinition table) {
+        if (unchanged(table, getFile(table, Mode.RECORD)))
+            return;
+
         JavaWriter out = newJavaWriter(getFile(table, Mode.RECORD));
         log.info("Generating record", out.file().getName());
         generateRecord0(table, out);
@@ -1435,6 +1734,9 @@ public class JavaGenerator extends AbstractGenerator {
     }
 
     protected void generateUDTRecord(UDTDefinition udt) {
+        if (unchanged(udt, getFile(udt, Mode.RECORD)))
+            return;
+
         JavaWriter out = newJavaWriter(getFile(udt, Mode.RECORD));
         log.info("Generating record", out.file().getName());
         generateRecord0(udt, out);
@@ -1634,6 +1936,7 @@ public class JavaGenerator extends AbstractGenerator {
                 }
                 catch (Exception e) {
                     log.error("Error while generating routine " + routine, e);
+                    failed(routine);
                 }
             }
         }
@@ -2720,19 +3023,23 @@ public class JavaGenerator extends AbstractGenerator {
     protected void generateInterfaces(SchemaDefinition schema) {
         log.info("Generating table interfaces");
 
-        for (TableDefinition table : database.getTables(schema)) {
+        forEachTable(database.getTables(schema), table -> {
             try {
                 generateInterface(table);
             }
             catch (Exception e) {
                 log.error("Error while generating table interface " + table, e);
+                failed(table);
             }
-        }
+        });
 
         watch.splitInfo("Table interfaces generated");
     }
 
     protected void generateInterface(TableDefinition table) {
+        if (unchanged(table, getFile(table, Mode.INTERFACE)))
+            return;
+
         JavaWriter out = newJavaWriter(getFile(table, Mode.INTERFACE));
         log.info("Generating interface", out.file().getName());
         generateInterface(table, out);
@@ -2740,6 +3047,9 @@ public class JavaGenerator extends AbstractGenerator {
     }
 
     protected void generateUDTInterface(UDTDefinition udt) {
+        if (unchanged(udt, getFile(udt, Mode.INTERFACE)))
+            return;
+
         JavaWriter out = newJavaWriter(getFile(udt, Mode.INTERFACE));
         log.info("Generating interface", out.file().getName());
         generateInterface0(udt, out);
@@ -2999,6 +3309,7 @@ public class JavaGenerator extends AbstractGenerator {
             }
             catch (Exception e) {
                 log.error("Error while generating udt " + udt, e);
+                failed(udt);
             }
         }
 
@@ -3007,6 +3318,9 @@ public class JavaGenerator extends AbstractGenerator {
 
     @SuppressWarnings("unused")
     protected void generateUDT(SchemaDefinition schema, UDTDefinition udt) {
+        if (unchanged(udt, getFile(udt)))
+            return;
+
         JavaWriter out = newJavaWriter(getFile(udt));
         log.info("Generating UDT ", out.file().getName());
 
@@ -3119,6 +3433,7 @@ public class JavaGenerator extends AbstractGenerator {
             }
             catch (Exception e) {
                 log.error("Error while generating routine " + routine, e);
+                failed(routine);
             }
         }
 
@@ -3176,6 +3491,7 @@ public class JavaGenerator extends AbstractGenerator {
             }
             catch (Exception e) {
                 log.error("Error while generating UDT POJO " + udt, e);
+                failed(udt);
             }
         }
 
@@ -3207,6 +3523,7 @@ public class JavaGenerator extends AbstractGenerator {
             }
             catch (Exception e) {
                 log.error("Error while generating UDT interface " + udt, e);
+                failed(udt);
             }
         }
 
@@ -3241,6 +3558,7 @@ public class JavaGenerator extends AbstractGenerator {
             }
             catch (Exception e) {
                 log.error("Error while generating UDT record " + udt, e);
+                failed(udt);
             }
         }
 
@@ -3275,11 +3593,13 @@ public class JavaGenerator extends AbstractGenerator {
                         }
                         catch (Exception e) {
                             log.error("Error while generating member routines " + routine, e);
+                            failed(routine);
                         }
                     }
                 }
                 catch (Exception e) {
                     log.error("Error while generating UDT " + udt, e);
+                    failed(udt);
                 }
 
                 watch.splitInfo("Member procedures routines");
@@ -3466,6 +3786,7 @@ public class JavaGenerator extends AbstractGenerator {
             }
             catch (Exception e) {
                 log.error("Error while generating ARRAY record " + array, e);
+                failed(array);
             }
         }
 
@@ -3889,6 +4210,7 @@ public class JavaGenerator extends AbstractGenerator {
             }
             catch (Exception e) {
                 log.error("Error while generating routine " + routine, e);
+                failed(routine);
             }
         }
 
@@ -4138,19 +4460,23 @@ public class JavaGenerator extends AbstractGenerator {
     protected void generateDaos(SchemaDefinition schema) {
         log.info("Generating DAOs");
 
-        for (TableDefinition table : database.getTables(schema)) {
+        forEachTable(database.getTables(schema), table -> {
             try {
                 generateDao(table);
             }
             catch (Exception e) {
                 log.error("Error while generating table DAO " + table, e);
+                failed(table);
             }
-        }
+        });
 
         watch.splitInfo("Table DAOs generated");
     }
 
     protected void generateDao(TableDefinition table) {
+        if (unchanged(table, getFile(table, Mode.DAO)))
+            return;
+
         JavaWriter out = newJavaWriter(getFile(table, Mode.DAO));
         log.info("Generating DAO", out.file().getName());
         generateDao(table, out);
@@ -4463,19 +4789,23 @@ public class JavaGenerator extends AbstractGenerator {
     protected void generatePojos(SchemaDefinition schema) {
         log.info("Generating table POJOs");
 
-        for (TableDefinition table : database.getTables(schema)) {
+        forEachTable(database.getTables(schema), table -> {
             try {
                 generatePojo(table);
             }
             catch (Exception e) {
                 log.error("Error while generating table POJO " + table, e);
+                failed(table);
             }
-        }
+        });
 
         watch.splitInfo("Table POJOs generated");
     }
 
     protected void generatePojo(TableDefinition table) {
+        if (unchanged(table, getFile(table, Mode.POJO)))
+            return;
+
         JavaWriter out = newJavaWriter(getFile(table, Mode.POJO));
         log.info("Generating POJO", out.file().getName());
         generatePojo(table, out);
@@ -4490,6 +4820,9 @@ public class JavaGenerator extends AbstractGenerator {
     }
 
     protected void generateUDTPojo(UDTDefinition udt) {
+        if (unchanged(udt, getFile(udt, Mode.POJO)))
+            return;
+
         JavaWriter out = newJavaWriter(getFile(udt, Mode.POJO));
         log.info("Generating POJO", out.file().getName());
         generatePojo0(udt, out);
@@ -5344,20 +5677,24 @@ public class JavaGenerator extends AbstractGenerator {
     protected void generateTables(SchemaDefinition schema) {
         log.info("Generating tables");
 
-        for (TableDefinition table : database.getTables(schema)) {
+        forEachTable(database.getTables(schema), table -> {
             try {
                 generateTable(schema, table);
             }
             catch (Exception e) {
                 log.error("Error while generating table " + table, e);
+                failed(table);
             }
-        }
+        });
 
         watch.splitInfo("Tables generated");
     }
 
     @SuppressWarnings("unused")
     protected void generateTable(SchemaDefinition schema, TableDefinition table) {
+        if (unchanged(table, getFile(table)))
+            return;
+
         JavaWriter out = newJavaWriter(getFile(table));
         out.refConflicts(getStrategy().getJavaIdentifiers(table.getColumns()));
         out.refConflicts(getStrategy().getJavaIdentifiers(table.getReferencedEmbeddables()));
@@ -5722,7 +6059,7 @@ public class JavaGenerator extends AbstractGenerator {
                 if (generateGlobalIndexReferences()) {
                     final List<String> indexFullIds = kotlin
                         ? out.ref(getStrategy().getFullJavaIdentifiers(indexes))
-                        : out.ref(getStrategy().getFullJavaIdentifiers(indexes), 2);
+                        : keyOrIndexRefs(out, indexes, IndexDefinition::getTable);
 
                     if (scala) {
                         out.println();
@@ -5819,7 +6156,7 @@ public class JavaGenerator extends AbstractGenerator {
                 final String keyFullId = generateGlobalKeyReferences()
                     ? kotlin
                         ? out.ref(getStrategy().getFullJavaIdentifier(primaryKey))
-                        : out.ref(getStrategy().getFullJavaIdentifier(primaryKey), 2)
+                        : keyOrIndexRef(out, primaryKey, table)
                     : null;
 
                 if (scala) {
@@ -5865,7 +6202,7 @@ public class JavaGenerator extends AbstractGenerator {
                 if (generateGlobalKeyReferences()) {
                     final List<String> keyFullIds = kotlin
                         ? out.ref(getStrategy().getFullJavaIdentifiers(uniqueKeys))
-                        : out.ref(getStrategy().getFullJavaIdentifiers(uniqueKeys), 2);
+                        : keyOrIndexRefs(out, uniqueKeys, ConstraintDefinition::getTable);
 
                     if (scala) {
                         out.println();
@@ -5932,7 +6269,7 @@ public class JavaGenerator extends AbstractGenerator {
             if (foreignKeys.size() > 0 && generateGlobalKeyReferences()) {
                 final List<String> keyFullIds = kotlin
                     ? out.ref(getStrategy().getFullJavaIdentifiers(foreignKeys))
-                    : out.ref(getStrategy().getFullJavaIdentifiers(foreignKeys), 2);
+                    : keyOrIndexRefs(out, foreignKeys, ConstraintDefinition::getTable);
 
                 if (scala) {
                     out.println();
@@ -5976,7 +6313,7 @@ public class JavaGenerator extends AbstractGenerator {
                     for (ForeignKeyDefinition foreignKey : foreignKeys) {
                         final String keyFullId = kotlin
                             ? out.ref(getStrategy().getFullJavaIdentifier(foreignKey))
-                            : out.ref(getStrategy().getFullJavaIdentifier(foreignKey), 2);
+                            : keyOrIndexRef(out, foreignKey, table);
                         final String referencedTableClassName = out.ref(getStrategy().getFullJavaClassName(foreignKey.getReferencedTable()));
                         final String keyMethodName = out.ref(getStrategy().getJavaMethodName(foreignKey));
                         final String unquotedKeyMethodName = keyMethodName.replace("`", "");
@@ -6655,6 +6992,7 @@ public class JavaGenerator extends AbstractGenerator {
             }
             catch (Exception e) {
                 log.error("Error while generating embeddable " + embeddable, e);
+                failed(embeddable);
             }
         }
 
@@ -6678,6 +7016,7 @@ public class JavaGenerator extends AbstractGenerator {
             }
             catch (Exception e) {
                 log.error("Error while generating embeddable POJO " + embeddable, e);
+                failed(embeddable);
             }
         }
 
@@ -6709,6 +7048,7 @@ public class JavaGenerator extends AbstractGenerator {
             }
             catch (Exception e) {
                 log.error("Error while generating embeddable interface " + embeddable, e);
+                failed(embeddable);
             }
         }
 
@@ -7134,14 +7474,18 @@ public class JavaGenerator extends AbstractGenerator {
                 final String tableShortId = getShortId(out, memberNames, table);
                 final String tableComment = escapeEntities(comment(table));
 
-                out.javadoc(isBlank(tableComment) ? "The table <code>" + table.getQualifiedOutputName() + "</code>." : tableComment);
+                // Table references in schema classes would initialise all tables
+                // as soon as the schema is initialised
+                if (!lazyReferences()) {
+                    out.javadoc(isBlank(tableComment) ? "The table <code>" + table.getQualifiedOutputName() + "</code>." : tableComment);
 
-                if (scala)
-                    out.println("%sdef %s = %s", visibility(), tableId, tableShortId);
-                else if (kotlin)
-                    out.println("%sval %s: %s get() = %s", visibility(), scalaWhitespaceSuffix(tableId), tableClassName, tableShortId);
-                else
-                    out.println("%sfinal %s %s = %s;", visibility(), tableClassName, tableId, tableShortId);
+                    if (scala)
+                        out.println("%sdef %s = %s", visibility(), tableId, tableShortId);
+                    else if (kotlin)
+                        out.println("%sval %s: %s get() = %s", visibility(), scalaWhitespaceSuffix(tableId), tableClassName, tableShortId);
+                    else
+                        out.println("%sfinal %s %s = %s;", visibility(), tableClassName, tableId, tableShortId);
+                }
 
                 // [#3797] Table-valued functions generate two different literals in
                 // globalObjectReferences
@@ -7708,6 +8052,9 @@ public class JavaGenerator extends AbstractGenerator {
 
     @SuppressWarnings("unused")
     protected void generateRoutine(SchemaDefinition schema, RoutineDefinition routine) {
+        if (unchanged(routine, getFile(routine)))
+            return;
+
         JavaWriter out = newJavaWriter(getFile(routine));
         log.info("Generating routine", out.file().getName());
 
@@ -70,13 +70,13 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -207,25 +207,25 @@ public abstract class AbstractDatabase implements Database {
     private boolean                                                          forcedTypesForBuiltinDataTypeExtensions = true;
     private boolean                                                          builtInForcedTypesInitialised           = false;
     private List<ForcedType>                                                 configuredForcedTypes;
-    private Set<ForcedType>                                                  unusedForcedTypes                       = new HashSet<>();
+    private Set<ForcedType>                                                  unusedForcedTypes                       = ConcurrentHashMap.newKeySet();
     private List<EmbeddableDefinitionType>                                   configuredEmbeddables                   = new ArrayList<>();
-    private Set<EmbeddableDefinitionType>                                    unusedEmbeddables                       = new HashSet<>();
+    private Set<EmbeddableDefinitionType>                                    unusedEmbeddables                       = ConcurrentHashMap.newKeySet();
     private List<CommentType>                                                configuredComments                      = new ArrayList<>();
-    private Set<CommentType>                                                 unusedComments                          = new HashSet<>();
+    private Set<CommentType>                                                 unusedComments                          = ConcurrentHashMap.newKeySet();
     private List<SyntheticReadonlyColumnType>                                configuredSyntheticReadonlyColumns      = new ArrayList<>();
-    private Set<SyntheticReadonlyColumnType>                                 unusedSyntheticReadonlyColumns          = new HashSet<>();
+    private Set<SyntheticReadonlyColumnType>                                 unusedSyntheticReadonlyColumns          = ConcurrentHashMap.newKeySet();
     private List<SyntheticReadonlyRowidType>                                 configuredSyntheticReadonlyRowids       = new ArrayList<>();
-    private Set<SyntheticReadonlyRowidType>                                  unusedSyntheticReadonlyRowids           = new HashSet<>();
+    private Set<SyntheticReadonlyRowidType>                                  unusedSyntheticReadonlyRowids           = ConcurrentHashMap.newKeySet();
     private List<SyntheticIdentityType>                                      configuredSyntheticIdentities           = new ArrayList<>();
-    private Set<SyntheticIdentityType>                                       unusedSyntheticIdentities               = new HashSet<>();
+    private Set<SyntheticIdentityType>                                       unusedSyntheticIdentities               = ConcurrentHashMap.newKeySet();
     private List<SyntheticPrimaryKeyType>                                    configuredSyntheticPrimaryKeys          = new ArrayList<>();
-    private Set<SyntheticPrimaryKeyType>                                     unusedSyntheticPrimaryKeys              = new HashSet<>();
+    private Set<SyntheticPrimaryKeyType>                                     unusedSyntheticPrimaryKeys              = ConcurrentHashMap.newKeySet();
     private List<SyntheticUniqueKeyType>                                     configuredSyntheticUniqueKeys           = new ArrayList<>();
-    private Set<SyntheticUniqueKeyType>                                      unusedSyntheticUniqueKeys               = new HashSet<>();
+    private Set<SyntheticUniqueKeyType>                                      unusedSyntheticUniqueKeys               = ConcurrentHashMap.newKeySet();
     private List<SyntheticForeignKeyType>                                    configuredSyntheticForeignKeys          = new ArrayList<>();
-    private Set<SyntheticForeignKeyType>                                     unusedSyntheticForeignKeys              = new HashSet<>();
+    private Set<SyntheticForeignKeyType>                                     unusedSyntheticForeignKeys              = ConcurrentHashMap.newKeySet();
     private List<SyntheticViewType>                                          configuredSyntheticViews                = new ArrayList<>();
-    private Set<SyntheticViewType>                                           unusedSyntheticViews                    = new HashSet<>();
+    private Set<SyntheticViewType>                                           unusedSyntheticViews                    = ConcurrentHashMap.newKeySet();
     private SchemaVersionProvider                                            schemaVersionProvider;
     private CatalogVersionProvider                                           catalogVersionProvider;
     private Comparator<Definition>                                           orderProvider;
@@ -2767,7 +2767,11 @@ public abstract class AbstractDatabase implements Database {
     }
 
     protected final <T extends Definition> List<T> filterSchema(List<T> definitions, SchemaDefinition schema, Map<SchemaDefinition, List<T>> cache) {
-        return cache.computeIfAbsent(schema, s -> filterSchema(definitions, s));
+
+        // The code generator may look up definitions from several threads
+        synchronized (cache) {
+            return cache.computeIfAbsent(schema, s -> filterSchema(definitions, s));
+        }
     }
 
     protected final <T extends Definition> List<T> filterSchema(List<T> definitions, SchemaDefinition schema) {
@@ -2784,7 +2788,9 @@ public abstract class AbstractDatabase implements Database {
     }
 
     protected final <T extends Definition> List<T> filterPackage(List<T> definitions, PackageDefinition pkg, Map<PackageDefinition, List<T>> cache) {
-        return cache.computeIfAbsent(pkg, p -> filterPackage(definitions, p));
+        synchronized (cache) {
+            return cache.computeIfAbsent(pkg, p -> filterPackage(definitions, p));
+        }
     }
 
     protected final <T extends Definition> List<T> filterPackage(List<T> definitions, PackageDefinition pkg) {
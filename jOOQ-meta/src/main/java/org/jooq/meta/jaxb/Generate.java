@@ -227,6 +227,12 @@ public class Generate implements Serializable, XMLAppendable
     protected String indentation;
     @XmlElement(defaultValue = "80")
     protected Integer printMarginForBlockComment = 80;
+    @XmlElement(defaultValue = "1")
+    protected Integer parallelism = 1;
+    @XmlElement(defaultValue = "false")
+    protected Boolean incremental = false;
+    @XmlElement(defaultValue = "false")
+    protected Boolean lazyReferences = false;
 
     /**
      * Generate index information.
@@ -2490,6 +2496,70 @@ public class Generate implements Serializable, XMLAppendable
         this.printMarginForBlockComment = value;
     }
 
+    /**
+     * The number of threads used to generate per-table artifacts, such as tables, records, POJOs, interfaces, and DAOs. The default of <code>1</code> generates code sequentially. If the value is <code>0</code>, the number of available processors is used.
+     * 
+     */
+    public Integer getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * The number of threads used to generate per-table artifacts, such as tables, records, POJOs, interfaces, and DAOs. The default of <code>1</code> generates code sequentially. If the value is <code>0</code>, the number of available processors is used.
+     * 
+     */
+    public void setParallelism(Integer value) {
+        this.parallelism = value;
+    }
+
+    /**
+     * Whether to skip generating code for tables, UDTs, and routines whose fingerprint has not changed since the previous code generation run, or the entire code generation run if the fingerprint of the database has not changed. Fingerprints are stored in a file in the target package directory. They cover the configuration and the class files of a custom generator and generator strategy, but no other custom code, such as converters, bindings, or classes the generator depends on. Remove the fingerprints file after changing such code.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isIncremental() {
+        return incremental;
+    }
+
+    /**
+     * Sets the value of the incremental property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setIncremental(Boolean value) {
+        this.incremental = value;
+    }
+
+    /**
+     * Whether key and index references should be initialised lazily in holder classes per table, and whether table references should be omitted from schema classes, such that only tables that are actually used are initialised. This is currently supported only in Java code. The global <code>Tables</code> class still initialises all tables when it is used.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isLazyReferences() {
+        return lazyReferences;
+    }
+
+    /**
+     * Sets the value of the lazyReferences property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setLazyReferences(Boolean value) {
+        this.lazyReferences = value;
+    }
+
     public Generate withIndexes(Boolean value) {
         setIndexes(value);
         return this;
@@ -3019,6 +3089,25 @@ public class Generate implements Serializable, XMLAppendable
         return this;
     }
 
+    /**
+     * The number of threads used to generate per-table artifacts, such as tables, records, POJOs, interfaces, and DAOs. The default of <code>1</code> generates code sequentially. If the value is <code>0</code>, the number of available processors is used.
+     * 
+     */
+    public Generate withParallelism(Integer value) {
+        setParallelism(value);
+        return this;
+    }
+
+    public Generate withIncremental(Boolean value) {
+        setIncremental(value);
+        return this;
+    }
+
+    public Generate withLazyReferences(Boolean value) {
+        setLazyReferences(value);
+        return this;
+    }
+
     @Override
     public final void appendTo(XMLBuilder builder) {
         builder.append("indexes", indexes);
@@ -3117,6 +3206,9 @@ public class Generate implements Serializable, XMLAppendable
         builder.append("newline", newline);
         builder.append("indentation", indentation);
         builder.append("printMarginForBlockComment", printMarginForBlockComment);
+        builder.append("parallelism", parallelism);
+        builder.append("incremental", incremental);
+        builder.append("lazyReferences", lazyReferences);
     }
 
     @Override
@@ -4002,6 +4094,33 @@ public class Generate implements Serializable, XMLAppendable
                 return false;
             }
         }
+        if (parallelism == null) {
+            if (other.parallelism!= null) {
+                return false;
+            }
+        } else {
+            if (!parallelism.equals(other.parallelism)) {
+                return false;
+            }
+        }
+        if (incremental == null) {
+            if (other.incremental!= null) {
+                return false;
+            }
+        } else {
+            if (!incremental.equals(other.incremental)) {
+                return false;
+            }
+        }
+        if (lazyReferences == null) {
+            if (other.lazyReferences!= null) {
+                return false;
+            }
+        } else {
+            if (!lazyReferences.equals(other.lazyReferences)) {
+                return false;
+            }
+        }
         return true;
     }
 
@@ -4105,6 +4224,9 @@ public class Generate implements Serializable, XMLAppendable
         result = ((prime*result)+((newline == null)? 0 :newline.hashCode()));
         result = ((prime*result)+((indentation == null)? 0 :indentation.hashCode()));
         result = ((prime*result)+((printMarginForBlockComment == null)? 0 :printMarginForBlockComment.hashCode()));
+        result = ((prime*result)+((parallelism == null)? 0 :parallelism.hashCode()));
+        result = ((prime*result)+((incremental == null)? 0 :incremental.hashCode()));
+        result = ((prime*result)+((lazyReferences == null)? 0 :lazyReferences.hashCode()));
         return result;
     }
 
@@ -35,27 +35,44 @@
  *
  *
  */
-package org.jooq.impl;
+package org.jooq;
 
-import java.util.LinkedHashMap;
-import java.util.Map;
+import org.jooq.impl.CacheType;
 
 /**
- * Simple non-thread safe LRUCache
+ * Statistics about the usage of a {@link CacheType} in a
+ * {@link Configuration}.
+ * <p>
+ * Hits and misses are counted for all caches. Evictions are counted only for
+ * caches created by the default {@link CacheProvider}, and are
+ * <code>0</code> otherwise.
  *
  * @author Lukas Eder
  */
-final class LRUCache<K, V> extends LinkedHashMap<K, V> {
-    private final int         size;
+public interface CacheStatistics {
 
-    LRUCache(int size) {
-        super(size, 0.75f, true);
+    /**
+     * The cache type whose statistics are reported.
+     */
+    CacheType cacheType();
 
-        this.size = size;
-    }
+    /**
+     * The number of lookups that found a cached value.
+     */
+    long hits();
 
-    @Override
-    protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
-        return size() > size;
-    }
+    /**
+     * The number of lookups that had to compute a value.
+     */
+    long misses();
+
+    /**
+     * The number of values that were evicted from a bounded cache.
+     */
+    long evictions();
+
+    /**
+     * The current number of cached values.
+     */
+    int size();
 }
@@ -8970,6 +8970,41 @@ public interface DSLContext extends Scope {
     @Support
     Batch batchInsert(Collection<? extends TableRecord<?>> records);
 
+    /**
+     * Insert a set of records in bulk.
+     * <p>
+     * In {@link SQLDialect#POSTGRES}, if the JDBC driver exposes pgjdbc's
+     * <code>CopyManager</code>, the records' changed values are streamed using
+     * the <code>COPY .. FROM STDIN</code> protocol, with one
+     * <code>COPY</code> statement per table and set of changed fields. This
+     * bypasses any {@link ExecuteListener} and {@link RecordListener}, and
+     * does not fetch generated identity values, but is usually significantly
+     * faster than batched <code>INSERT</code> statements. The records' changed
+     * flags are reset after a successful <code>COPY</code>.
+     * <p>
+     * In all other cases, this is the same as executing
+     * {@link #batchInsert(TableRecord...)}.
+     *
+     * @return The total number of inserted rows, or
+     *         {@link java.sql.Statement#SUCCESS_NO_INFO} if the JDBC driver
+     *         didn't report the number of rows of all batched statements.
+     * @throws DataAccessException if something went wrong executing the query
+     */
+    @Support
+    int bulkInsert(TableRecord<?>... records) throws DataAccessException;
+
+    /**
+     * Insert a set of records in bulk.
+     *
+     * @return The total number of inserted rows, or
+     *         {@link java.sql.Statement#SUCCESS_NO_INFO} if the JDBC driver
+     *         didn't report the number of rows of all batched statements.
+     * @throws DataAccessException if something went wrong executing the query
+     * @see #bulkInsert(TableRecord...)
+     */
+    @Support
+    int bulkInsert(Collection<? extends TableRecord<?>> records) throws DataAccessException;
+
     /**
      * Create a batch statement to execute a set of <code>UPDATE</code> queries
      * in batch mode (with bind values) according to
@@ -64,6 +64,10 @@ import org.jetbrains.annotations.NotNull;
  * The SPI will not be called if an asynchronous operation explicitly overrides
  * the {@link Executor}, e.g. as is the case for
  * {@link ResultQuery#fetchAsync(Executor)}.
+ * <p>
+ * For blocking JDBC calls, consider using the
+ * {@link org.jooq.impl.VirtualThreadExecutorProvider}, which runs each task in
+ * its own virtual thread on JDK 21 and later.
  *
  * @author Lukas Eder
  */
@@ -64,6 +64,22 @@ public interface LoaderError {
      */
     int rowIndex();
 
+    /**
+     * The chunk index starting with <code>0</code> that contained the row that
+     * caused the error.
+     * <p>
+     * With {@link LoaderOptionsStep#commitAfter(int)}, a chunk is the set of
+     * rows that are committed together, which are also the unit of work
+     * dispatched to worker threads with
+     * {@link LoaderOptionsStep#parallelism(int)}. Otherwise, all rows are
+     * contained in chunk <code>0</code>.
+     * <p>
+     * Implementations that don't know about chunks return <code>-1</code>.
+     */
+    default int chunkIndex() {
+        return -1;
+    }
+
     /**
      * The row data that caused the error.
      * <p>
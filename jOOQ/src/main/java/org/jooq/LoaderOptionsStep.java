@@ -341,4 +341,59 @@ public interface LoaderOptionsStep<R extends Record> extends LoaderSourceStep<R>
     @NotNull @CheckReturnValue
     @Support
     LoaderOptionsStep<R> bulkAfter(int number);
+
+    /**
+     * Load rows using the PostgreSQL <code>COPY .. FROM STDIN</code> protocol
+     * instead of <code>INSERT</code> statements, where available.
+     * <p>
+     * Each bulk or batch statement, as specified by {@link #bulkAfter(int)},
+     * {@link #batchAfter(int)}, {@link #bulkAll()}, or {@link #batchAll()} is
+     * replaced by a single <code>COPY</code> statement, whose rows are streamed
+     * to the server in text format. If the dialect is not
+     * {@link SQLDialect#POSTGRES}, or if the JDBC driver does not expose
+     * pgjdbc's <code>CopyManager</code>, <code>INSERT</code> statements are
+     * used instead.
+     * <p>
+     * This cannot be combined with {@link #onDuplicateKeyIgnore()} or
+     * {@link #onDuplicateKeyUpdate()}.
+     */
+    @NotNull @CheckReturnValue
+    @Support
+    LoaderOptionsStep<R> bulkCopy();
+
+    // -------------------------------------------------------------------------
+    // Parallelism
+    // -------------------------------------------------------------------------
+
+    /**
+     * Execute chunks of rows concurrently, on a given number of connections.
+     * <p>
+     * Input is still read and parsed on the calling thread, which also invokes
+     * any {@link LoaderListenerStep#onRowStart(LoaderRowListener)} and
+     * {@link LoaderListenerStep#onRowEnd(LoaderRowListener)} listeners. Rows
+     * are grouped into chunks of <code>bulkAfter * batchAfter * commitAfter</code>
+     * rows, each of which is executed on an {@link java.util.concurrent.Executor} provided by
+     * {@link Configuration#executorProvider()}, on its own connection acquired
+     * from {@link Configuration#connectionProvider()} with auto-commit turned
+     * off, and then committed. At most <code>number</code> chunks are executed
+     * at the same time. Commits happen in input order, i.e. a chunk is committed only
+     * after its preceding chunk has been committed.
+     * <p>
+     * If {@link #onErrorAbort()} is specified, the first chunk in input order
+     * that fails, and all subsequent chunks are rolled back. Errors are
+     * reported per chunk, see {@link LoaderError#chunkIndex()}, and the
+     * outcome reported by {@link Loader} does not depend on thread scheduling.
+     * <p>
+     * Parallel loading requires {@link #commitEach()} or
+     * {@link #commitAfter(int)}, and cannot be combined with {@link #bulkAll()}
+     * or {@link #batchAll()}. If you don't specify a parallelism, or a value of
+     * <code>1</code>, all rows are executed on the calling thread on a single
+     * connection.
+     *
+     * @param number The maximum number of chunks that are executed at the same
+     *            time. Must be positive.
+     */
+    @NotNull @CheckReturnValue
+    @Support
+    LoaderOptionsStep<R> parallelism(int number);
 }
@@ -420,6 +420,14 @@ public interface Meta extends Scope {
     /**
      * Eager-create an in-memory copy of this {@link Meta} instance without any
      * connection to the original data source.
+     * <p>
+     * To persist a snapshot, e.g. in order to load it at application startup
+     * without querying the dictionary views again, export it using
+     * {@link #informationSchema()}, and load it again using
+     * {@link DSLContext#meta(InformationSchema)}. When snapshotting
+     * {@link DSLContext#meta()}, consider activating
+     * {@link org.jooq.conf.Settings#isMetaPrefetchKeysAndIndexes()} to reduce
+     * the number of JDBC {@link java.sql.DatabaseMetaData} calls.
      */
     @NotNull
     Meta snapshot() throws DataAccessException;
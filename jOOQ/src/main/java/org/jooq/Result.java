@@ -3117,9 +3117,9 @@ public interface Result<R extends Record> extends Fields, List<R>, Attachable, F
      * given set of field indexes. Use this method to save memory when a large
      * result set contains many identical string literals.
      * <p>
-     * Please refer to {@link String#intern()} and to publicly available
-     * literature to learn more about potential side-effects of string
-     * interning.
+     * Unlike {@link String#intern()}, values are deduplicated only within the
+     * scope of this result (or cursor, when interning via
+     * {@link ResultQuery#intern(int...)}), using a bounded local lookup table.
      * <p>
      * Future versions of jOOQ may also "intern" other data types, such as
      * {@link Integer}, {@link Long}, within a <code>Result</code> object.
@@ -38,6 +38,7 @@
 
 package org.jooq;
 
+import java.io.Writer;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -60,6 +61,7 @@ import javax.sql.DataSource;
 import org.jooq.conf.Settings;
 import org.jooq.exception.DataAccessException;
 import org.jooq.exception.DataTypeException;
+import org.jooq.exception.IOException;
 import org.jooq.exception.InvalidResultException;
 import org.jooq.exception.MappingException;
 import org.jooq.exception.NoDataFoundException;
@@ -414,6 +416,90 @@ public interface ResultQuery<R extends Record> extends Fields, Query, Iterable<R
     @Blocking
     Cursor<R> fetchLazy() throws DataAccessException;
 
+    /**
+     * Execute the query and stream the result as CSV onto a {@link Writer}.
+     * <p>
+     * This is the same as calling {@link #fetchLazy()} and then
+     * {@link Cursor#formatCSV(Writer)} on the resulting cursor, which is
+     * closed afterwards. Records are written one by one as they are fetched,
+     * through a bounded buffer, without materialising a {@link Result}. Use
+     * {@link ResultQuery#fetchSize(int)} if your JDBC driver would otherwise
+     * load the whole database result into its memory.
+     *
+     * @throws DataAccessException if something went wrong executing the query
+     * @throws IOException - an unchecked wrapper for
+     *             {@link java.io.IOException}, if anything goes wrong.
+     */
+    @Blocking
+    void formatCSV(Writer writer) throws DataAccessException, IOException;
+
+    /**
+     * Execute the query and stream the result as CSV onto a {@link Writer}.
+     *
+     * @throws DataAccessException if something went wrong executing the query
+     * @throws IOException - an unchecked wrapper for
+     *             {@link java.io.IOException}, if anything goes wrong.
+     * @see #formatCSV(Writer)
+     */
+    @Blocking
+    void formatCSV(Writer writer, CSVFormat format) throws DataAccessException, IOException;
+
+    /**
+     * Execute the query and stream the result as JSON onto a {@link Writer}.
+     * <p>
+     * This is the same as calling {@link #fetchLazy()} and then
+     * {@link Cursor#formatJSON(Writer)} on the resulting cursor, which is
+     * closed afterwards. Records are written one by one as they are fetched,
+     * through a bounded buffer, without materialising a {@link Result}. Use
+     * {@link ResultQuery#fetchSize(int)} if your JDBC driver would otherwise
+     * load the whole database result into its memory.
+     *
+     * @throws DataAccessException if something went wrong executing the query
+     * @throws IOException - an unchecked wrapper for
+     *             {@link java.io.IOException}, if anything goes wrong.
+     */
+    @Blocking
+    void formatJSON(Writer writer) throws DataAccessException, IOException;
+
+    /**
+     * Execute the query and stream the result as JSON onto a {@link Writer}.
+     *
+     * @throws DataAccessException if something went wrong executing the query
+     * @throws IOException - an unchecked wrapper for
+     *             {@link java.io.IOException}, if anything goes wrong.
+     * @see #formatJSON(Writer)
+     */
+    @Blocking
+    void formatJSON(Writer writer, JSONFormat format) throws DataAccessException, IOException;
+
+    /**
+     * Execute the query and stream the result as XML onto a {@link Writer}.
+     * <p>
+     * This is the same as calling {@link #fetchLazy()} and then
+     * {@link Cursor#formatXML(Writer)} on the resulting cursor, which is
+     * closed afterwards. Records are written one by one as they are fetched,
+     * through a bounded buffer, without materialising a {@link Result}. Use
+     * {@link ResultQuery#fetchSize(int)} if your JDBC driver would otherwise
+     * load the whole database result into its memory.
+     *
+     * @throws DataAccessException if something went wrong executing the query
+     * @throws IOException - an unchecked wrapper for
+     *             {@link java.io.IOException}, if anything goes wrong.
+     */
+    @Blocking
+    void formatXML(Writer writer) throws DataAccessException, IOException;
+
+    /**
+     * Execute the query and stream the result as XML onto a {@link Writer}.
+     *
+     * @throws DataAccessException if something went wrong executing the query
+     * @throws IOException - an unchecked wrapper for
+     *             {@link java.io.IOException}, if anything goes wrong.
+     * @see #formatXML(Writer)
+     */
+    @Blocking
+    void formatXML(Writer writer, XMLFormat format) throws DataAccessException, IOException;
+
     /**
      * Execute a query, possibly returning several result sets.
      * <p>
@@ -218,6 +218,12 @@ public class Settings
     protected InvocationOrder executeListenerEndInvocationOrder = InvocationOrder.DEFAULT;
     @XmlElement(defaultValue = "true")
     protected Boolean executeLogging = true;
+    @XmlElement(defaultValue = "false")
+    protected Boolean diagnosticsAsynchronous = false;
+    @XmlElement(defaultValue = "10000")
+    protected Integer diagnosticsQueueSize = 10000;
+    @XmlElement(defaultValue = "100")
+    protected Integer diagnosticsSamplingPercentage = 100;
     @XmlElement(defaultValue = "true")
     protected Boolean updateRecordVersion = true;
     @XmlElement(defaultValue = "true")
@@ -243,6 +249,10 @@ public class Settings
     protected Boolean cacheParsingConnection = true;
     @XmlElement(defaultValue = "8192")
     protected Integer cacheParsingConnectionLRUCacheSize = 8192;
+    @XmlElement(defaultValue = "8192")
+    protected Integer cacheLFUCacheSize = 8192;
+    @XmlElement(defaultValue = "false")
+    protected Boolean cacheRenderedSQL = false;
     @XmlElement(defaultValue = "true")
     protected Boolean cachePreparedStatementInLoader = true;
     @XmlElement(defaultValue = "THROW_ALL")
@@ -268,6 +278,8 @@ public class Settings
     protected Boolean mapConstructorParameterNames = false;
     @XmlElement(defaultValue = "true")
     protected Boolean mapConstructorParameterNamesInKotlin = true;
+    @XmlElement(defaultValue = "false")
+    protected Boolean mapMutablePOJOsWithGeneratedAccessors = false;
     @XmlElement(defaultValue = "DEFAULT")
     @XmlSchemaType(name = "string")
     protected QueryPoolable queryPoolable = QueryPoolable.DEFAULT;
@@ -277,8 +289,16 @@ public class Settings
     protected Integer maxRows = 0;
     @XmlElement(defaultValue = "0")
     protected Integer fetchSize = 0;
+    @XmlElement(defaultValue = "false")
+    protected Boolean fetchColumnarResult = false;
+    @XmlElement(defaultValue = "false")
+    protected Boolean fetchInternLowCardinalityStrings = false;
     @XmlElement(defaultValue = "2147483647")
     protected Integer batchSize = 2147483647;
+    @XmlElement(defaultValue = "256")
+    protected Integer r2dbcPrefetch = 256;
+    @XmlElement(defaultValue = "64")
+    protected Integer r2dbcLowWatermark = 64;
     @XmlElement(defaultValue = "true")
     protected Boolean debugInfoOnStackTrace = true;
     @XmlElement(defaultValue = "false")
@@ -312,6 +332,8 @@ public class Settings
     @XmlElement(defaultValue = "false")
     protected Boolean metaIncludeSystemIndexes = false;
     @XmlElement(defaultValue = "false")
+    protected Boolean metaPrefetchKeysAndIndexes = false;
+    @XmlElement(defaultValue = "false")
     protected Boolean metaIncludeSystemSequences = false;
     @XmlElement(defaultValue = "false")
     protected Boolean migrationAllowsUndo = false;
@@ -2274,6 +2296,62 @@ public class Settings
         this.executeLogging = value;
     }
 
+    /**
+     * Whether the statements of a diagnostics connection should be analysed asynchronously in a bounded background queue, rather than on the calling thread. Statements are dropped when the queue is full.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isDiagnosticsAsynchronous() {
+        return diagnosticsAsynchronous;
+    }
+
+    /**
+     * Sets the value of the diagnosticsAsynchronous property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setDiagnosticsAsynchronous(Boolean value) {
+        this.diagnosticsAsynchronous = value;
+    }
+
+    /**
+     * The maximum number of statements waiting to be analysed by asynchronous diagnostics connections, in total across all connections, which share a single background worker. Further statements are not analysed until the queue has room again.
+     * 
+     */
+    public Integer getDiagnosticsQueueSize() {
+        return diagnosticsQueueSize;
+    }
+
+    /**
+     * The maximum number of statements waiting to be analysed by asynchronous diagnostics connections, in total across all connections, which share a single background worker. Further statements are not analysed until the queue has room again.
+     * 
+     */
+    public void setDiagnosticsQueueSize(Integer value) {
+        this.diagnosticsQueueSize = value;
+    }
+
+    /**
+     * The percentage of statements (0-100) of a diagnostics connection that are analysed.
+     * 
+     */
+    public Integer getDiagnosticsSamplingPercentage() {
+        return diagnosticsSamplingPercentage;
+    }
+
+    /**
+     * The percentage of statements (0-100) of a diagnostics connection that are analysed.
+     * 
+     */
+    public void setDiagnosticsSamplingPercentage(Integer value) {
+        this.diagnosticsSamplingPercentage = value;
+    }
+
     /**
      * Whether store(), insert(), and update() methods should update the record version prior to the operation, for use with {@link #executeWithOptimisticLocking}.
      * 
@@ -2552,6 +2630,46 @@ public class Settings
         this.cacheParsingConnectionLRUCacheSize = value;
     }
 
+    /**
+     * The default implementation of the reflection and record mapper caches' maximum size.
+     * 
+     */
+    public Integer getCacheLFUCacheSize() {
+        return cacheLFUCacheSize;
+    }
+
+    /**
+     * The default implementation of the reflection and record mapper caches' maximum size.
+     * 
+     */
+    public void setCacheLFUCacheSize(Integer value) {
+        this.cacheLFUCacheSize = value;
+    }
+
+    /**
+     * Whether the SQL string and bind value slots rendered by a {@link org.jooq.Query} should be cached on the query instance and reused when it is executed again with the same dialect and the same {@link org.jooq.conf.Settings} instance. Settings are compared by identity, so they must not be modified in place while this flag is active. Use {@link org.jooq.Configuration#derive(Settings)} instead. The cache is invalidated when the query or any of its subqueries is modified through the {@link org.jooq.SelectQuery}, {@link org.jooq.InsertQuery}, {@link org.jooq.UpdateQuery}, or {@link org.jooq.DeleteQuery} API. Other statements are not cached.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isCacheRenderedSQL() {
+        return cacheRenderedSQL;
+    }
+
+    /**
+     * Sets the value of the cacheRenderedSQL property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setCacheRenderedSQL(Boolean value) {
+        this.cacheRenderedSQL = value;
+    }
+
     /**
      * Whether JDBC {@link java.sql.PreparedStatement} instances should be cached in loader API.
      * 
@@ -2829,6 +2947,30 @@ public class Settings
         this.mapConstructorParameterNamesInKotlin = value;
     }
 
+    /**
+     * Whether the {@link org.jooq.impl.DefaultRecordMapper} should call the default constructors and setters of mutable POJOs through accessors generated by {@link java.lang.invoke.LambdaMetafactory}, rather than through reflection. This does not apply to fields, which are still written reflectively, nor to the constructors of immutable POJOs, which are still called reflectively. Members that cannot be accessed through generated accessors are accessed reflectively, too.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isMapMutablePOJOsWithGeneratedAccessors() {
+        return mapMutablePOJOsWithGeneratedAccessors;
+    }
+
+    /**
+     * Sets the value of the mapMutablePOJOsWithGeneratedAccessors property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setMapMutablePOJOsWithGeneratedAccessors(Boolean value) {
+        this.mapMutablePOJOsWithGeneratedAccessors = value;
+    }
+
     /**
      * The default JDBC poolable property that should be applied to all
      * jOOQ queries, for which no specific poolable flag was specified.
@@ -2901,6 +3043,54 @@ public class Settings
         this.fetchSize = value;
     }
 
+    /**
+     * Whether <code>fetch()</code> results should store their data column-wise, using primitive arrays for numeric, boolean and temporal columns and dictionary encoded strings.<p>This reduces the memory footprint of large results. Value accessors such as <code>getValues()</code>, formatting, <code>map()</code>, and <code>into(Class)</code> read the columns directly, materialising a temporary record per row where needed. Modifications to records passed to a {@link org.jooq.RecordMapper} are not reflected in the result. As soon as records are obtained through the {@link java.util.List} API (e.g. <code>get(int)</code>, iteration, or streams), or the result is modified, the result switches to storing records row-wise, such that modifications are reflected. This drops the memory savings, and briefly holds both representations.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isFetchColumnarResult() {
+        return fetchColumnarResult;
+    }
+
+    /**
+     * Sets the value of the fetchColumnarResult property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setFetchColumnarResult(Boolean value) {
+        this.fetchColumnarResult = value;
+    }
+
+    /**
+     * Whether <code>String</code> values fetched from a cursor should be deduplicated automatically for columns whose observed cardinality is low.<p>Deduplication is local to each cursor and bounded, it does not use {@link String#intern()}.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isFetchInternLowCardinalityStrings() {
+        return fetchInternLowCardinalityStrings;
+    }
+
+    /**
+     * Sets the value of the fetchInternLowCardinalityStrings property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setFetchInternLowCardinalityStrings(Boolean value) {
+        this.fetchInternLowCardinalityStrings = value;
+    }
+
     /**
      * A property specifying a batch size that should be applied to all automatically created {@link org.jooq.tools.jdbc.BatchedConnection} instances.
      * 
@@ -2917,6 +3107,38 @@ public class Settings
         this.batchSize = value;
     }
 
+    /**
+     * The maximum number of rows that jOOQ requests from an R2DBC driver ahead of downstream demand, when streaming a reactive query result.
+     * 
+     */
+    public Integer getR2dbcPrefetch() {
+        return r2dbcPrefetch;
+    }
+
+    /**
+     * The maximum number of rows that jOOQ requests from an R2DBC driver ahead of downstream demand, when streaming a reactive query result.
+     * 
+     */
+    public void setR2dbcPrefetch(Integer value) {
+        this.r2dbcPrefetch = value;
+    }
+
+    /**
+     * The number of outstanding rows requested from an R2DBC driver, below which jOOQ replenishes demand up to {@link #r2dbcPrefetch}.
+     * 
+     */
+    public Integer getR2dbcLowWatermark() {
+        return r2dbcLowWatermark;
+    }
+
+    /**
+     * The number of outstanding rows requested from an R2DBC driver, below which jOOQ replenishes demand up to {@link #r2dbcPrefetch}.
+     * 
+     */
+    public void setR2dbcLowWatermark(Integer value) {
+        this.r2dbcLowWatermark = value;
+    }
+
     /**
      * [#5570] Whether exception stack traces should be enhanced with additional debug information.
      * 
@@ -3165,6 +3387,30 @@ public class Settings
         this.metaIncludeSystemIndexes = value;
     }
 
+    /**
+     * Whether {@link org.jooq.Meta} implementations backed by JDBC {@link java.sql.DatabaseMetaData} should fetch the primary keys, foreign keys, and indexes of an entire schema with one dictionary query each, rather than with {@link java.sql.DatabaseMetaData} calls per table.<p>This speeds up meta data access on schemas with many tables, at the price of fetching meta data for tables that may not be needed. This is currently supported only for {@link org.jooq.SQLDialect#H2} (version 2.x). In all other cases, or if a dictionary query fails, jOOQ falls back to fetching meta data per table.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isMetaPrefetchKeysAndIndexes() {
+        return metaPrefetchKeysAndIndexes;
+    }
+
+    /**
+     * Sets the value of the metaPrefetchKeysAndIndexes property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setMetaPrefetchKeysAndIndexes(Boolean value) {
+        this.metaPrefetchKeysAndIndexes = value;
+    }
+
     /**
      * The {@link org.jooq.Meta} implementation that is backed by {@link java.sql.DatabaseMetaData} does not produce system generated sequences, by default.
      * 
@@ -4403,6 +4649,29 @@ public class Settings
         return this;
     }
 
+    public Settings withDiagnosticsAsynchronous(Boolean value) {
+        setDiagnosticsAsynchronous(value);
+        return this;
+    }
+
+    /**
+     * The maximum number of statements waiting to be analysed by asynchronous diagnostics connections, in total across all connections, which share a single background worker. Further statements are not analysed until the queue has room again.
+     * 
+     */
+    public Settings withDiagnosticsQueueSize(Integer value) {
+        setDiagnosticsQueueSize(value);
+        return this;
+    }
+
+    /**
+     * The percentage of statements (0-100) of a diagnostics connection that are analysed.
+     * 
+     */
+    public Settings withDiagnosticsSamplingPercentage(Integer value) {
+        setDiagnosticsSamplingPercentage(value);
+        return this;
+    }
+
     public Settings withUpdateRecordVersion(Boolean value) {
         setUpdateRecordVersion(value);
         return this;
@@ -4471,6 +4740,20 @@ public class Settings
         return this;
     }
 
+    /**
+     * The default implementation of the reflection and record mapper caches' maximum size.
+     * 
+     */
+    public Settings withCacheLFUCacheSize(Integer value) {
+        setCacheLFUCacheSize(value);
+        return this;
+    }
+
+    public Settings withCacheRenderedSQL(Boolean value) {
+        setCacheRenderedSQL(value);
+        return this;
+    }
+
     public Settings withCachePreparedStatementInLoader(Boolean value) {
         setCachePreparedStatementInLoader(value);
         return this;
@@ -4539,6 +4822,11 @@ public class Settings
         return this;
     }
 
+    public Settings withMapMutablePOJOsWithGeneratedAccessors(Boolean value) {
+        setMapMutablePOJOsWithGeneratedAccessors(value);
+        return this;
+    }
+
     /**
      * The default JDBC poolable property that should be applied to all
      * jOOQ queries, for which no specific poolable flag was specified.
@@ -4579,6 +4867,16 @@ public class Settings
         return this;
     }
 
+    public Settings withFetchColumnarResult(Boolean value) {
+        setFetchColumnarResult(value);
+        return this;
+    }
+
+    public Settings withFetchInternLowCardinalityStrings(Boolean value) {
+        setFetchInternLowCardinalityStrings(value);
+        return this;
+    }
+
     /**
      * A property specifying a batch size that should be applied to all automatically created {@link org.jooq.tools.jdbc.BatchedConnection} instances.
      * 
@@ -4588,6 +4886,24 @@ public class Settings
         return this;
     }
 
+    /**
+     * The maximum number of rows that jOOQ requests from an R2DBC driver ahead of downstream demand, when streaming a reactive query result.
+     * 
+     */
+    public Settings withR2dbcPrefetch(Integer value) {
+        setR2dbcPrefetch(value);
+        return this;
+    }
+
+    /**
+     * The number of outstanding rows requested from an R2DBC driver, below which jOOQ replenishes demand up to {@link #r2dbcPrefetch}.
+     * 
+     */
+    public Settings withR2dbcLowWatermark(Integer value) {
+        setR2dbcLowWatermark(value);
+        return this;
+    }
+
     public Settings withDebugInfoOnStackTrace(Boolean value) {
         setDebugInfoOnStackTrace(value);
         return this;
@@ -4685,6 +5001,11 @@ public class Settings
         return this;
     }
 
+    public Settings withMetaPrefetchKeysAndIndexes(Boolean value) {
+        setMetaPrefetchKeysAndIndexes(value);
+        return this;
+    }
+
     public Settings withMetaIncludeSystemSequences(Boolean value) {
         setMetaIncludeSystemSequences(value);
         return this;
@@ -5053,6 +5374,9 @@ public class Settings
         builder.append("executeListenerStartInvocationOrder", executeListenerStartInvocationOrder);
         builder.append("executeListenerEndInvocationOrder", executeListenerEndInvocationOrder);
         builder.append("executeLogging", executeLogging);
+        builder.append("diagnosticsAsynchronous", diagnosticsAsynchronous);
+        builder.append("diagnosticsQueueSize", diagnosticsQueueSize);
+        builder.append("diagnosticsSamplingPercentage", diagnosticsSamplingPercentage);
         builder.append("updateRecordVersion", updateRecordVersion);
         builder.append("updateRecordTimestamp", updateRecordTimestamp);
         builder.append("executeWithOptimisticLocking", executeWithOptimisticLocking);
@@ -5065,6 +5389,8 @@ public class Settings
         builder.append("cacheRecordMappers", cacheRecordMappers);
         builder.append("cacheParsingConnection", cacheParsingConnection);
         builder.append("cacheParsingConnectionLRUCacheSize", cacheParsingConnectionLRUCacheSize);
+        builder.append("cacheLFUCacheSize", cacheLFUCacheSize);
+        builder.append("cacheRenderedSQL", cacheRenderedSQL);
         builder.append("cachePreparedStatementInLoader", cachePreparedStatementInLoader);
         builder.append("throwExceptions", throwExceptions);
         builder.append("fetchWarnings", fetchWarnings);
@@ -5077,11 +5403,16 @@ public class Settings
         builder.append("mapConstructorPropertiesParameterNames", mapConstructorPropertiesParameterNames);
         builder.append("mapConstructorParameterNames", mapConstructorParameterNames);
         builder.append("mapConstructorParameterNamesInKotlin", mapConstructorParameterNamesInKotlin);
+        builder.append("mapMutablePOJOsWithGeneratedAccessors", mapMutablePOJOsWithGeneratedAccessors);
         builder.append("queryPoolable", queryPoolable);
         builder.append("queryTimeout", queryTimeout);
         builder.append("maxRows", maxRows);
         builder.append("fetchSize", fetchSize);
+        builder.append("fetchColumnarResult", fetchColumnarResult);
+        builder.append("fetchInternLowCardinalityStrings", fetchInternLowCardinalityStrings);
         builder.append("batchSize", batchSize);
+        builder.append("r2dbcPrefetch", r2dbcPrefetch);
+        builder.append("r2dbcLowWatermark", r2dbcLowWatermark);
         builder.append("debugInfoOnStackTrace", debugInfoOnStackTrace);
         builder.append("inListPadding", inListPadding);
         builder.append("inListPadBase", inListPadBase);
@@ -5095,6 +5426,7 @@ public class Settings
         builder.append("interpreterLocale", interpreterLocale);
         builder.append("interpreterDelayForeignKeyDeclarations", interpreterDelayForeignKeyDeclarations);
         builder.append("metaIncludeSystemIndexes", metaIncludeSystemIndexes);
+        builder.append("metaPrefetchKeysAndIndexes", metaPrefetchKeysAndIndexes);
         builder.append("metaIncludeSystemSequences", metaIncludeSystemSequences);
         builder.append("migrationAllowsUndo", migrationAllowsUndo);
         builder.append("migrationRevertUntracked", migrationRevertUntracked);
@@ -5823,6 +6155,33 @@ public class Settings
                 return false;
             }
         }
+        if (diagnosticsAsynchronous == null) {
+            if (other.diagnosticsAsynchronous!= null) {
+                return false;
+            }
+        } else {
+            if (!diagnosticsAsynchronous.equals(other.diagnosticsAsynchronous)) {
+                return false;
+            }
+        }
+        if (diagnosticsQueueSize == null) {
+            if (other.diagnosticsQueueSize!= null) {
+                return false;
+            }
+        } else {
+            if (!diagnosticsQueueSize.equals(other.diagnosticsQueueSize)) {
+                return false;
+            }
+        }
+        if (diagnosticsSamplingPercentage == null) {
+            if (other.diagnosticsSamplingPercentage!= null) {
+                return false;
+            }
+        } else {
+            if (!diagnosticsSamplingPercentage.equals(other.diagnosticsSamplingPercentage)) {
+                return false;
+            }
+        }
         if (updateRecordVersion == null) {
             if (other.updateRecordVersion!= null) {
                 return false;
@@ -5931,6 +6290,24 @@ public class Settings
                 return false;
             }
         }
+        if (cacheLFUCacheSize == null) {
+            if (other.cacheLFUCacheSize!= null) {
+                return false;
+            }
+        } else {
+            if (!cacheLFUCacheSize.equals(other.cacheLFUCacheSize)) {
+                return false;
+            }
+        }
+        if (cacheRenderedSQL == null) {
+            if (other.cacheRenderedSQL!= null) {
+                return false;
+            }
+        } else {
+            if (!cacheRenderedSQL.equals(other.cacheRenderedSQL)) {
+                return false;
+            }
+        }
         if (cachePreparedStatementInLoader == null) {
             if (other.cachePreparedStatementInLoader!= null) {
                 return false;
@@ -6039,6 +6416,15 @@ public class Settings
                 return false;
             }
         }
+        if (mapMutablePOJOsWithGeneratedAccessors == null) {
+            if (other.mapMutablePOJOsWithGeneratedAccessors!= null) {
+                return false;
+            }
+        } else {
+            if (!mapMutablePOJOsWithGeneratedAccessors.equals(other.mapMutablePOJOsWithGeneratedAccessors)) {
+                return false;
+            }
+        }
         if (queryPoolable == null) {
             if (other.queryPoolable!= null) {
                 return false;
@@ -6075,6 +6461,24 @@ public class Settings
                 return false;
             }
         }
+        if (fetchColumnarResult == null) {
+            if (other.fetchColumnarResult!= null) {
+                return false;
+            }
+        } else {
+            if (!fetchColumnarResult.equals(other.fetchColumnarResult)) {
+                return false;
+            }
+        }
+        if (fetchInternLowCardinalityStrings == null) {
+            if (other.fetchInternLowCardinalityStrings!= null) {
+                return false;
+            }
+        } else {
+            if (!fetchInternLowCardinalityStrings.equals(other.fetchInternLowCardinalityStrings)) {
+                return false;
+            }
+        }
         if (batchSize == null) {
             if (other.batchSize!= null) {
                 return false;
@@ -6084,6 +6488,24 @@ public class Settings
                 return false;
             }
         }
+        if (r2dbcPrefetch == null) {
+            if (other.r2dbcPrefetch!= null) {
+                return false;
+            }
+        } else {
+            if (!r2dbcPrefetch.equals(other.r2dbcPrefetch)) {
+                return false;
+            }
+        }
+        if (r2dbcLowWatermark == null) {
+            if (other.r2dbcLowWatermark!= null) {
+                return false;
+            }
+        } else {
+            if (!r2dbcLowWatermark.equals(other.r2dbcLowWatermark)) {
+                return false;
+            }
+        }
         if (debugInfoOnStackTrace == null) {
             if (other.debugInfoOnStackTrace!= null) {
                 return false;
@@ -6201,6 +6623,15 @@ public class Settings
                 return false;
             }
         }
+        if (metaPrefetchKeysAndIndexes == null) {
+            if (other.metaPrefetchKeysAndIndexes!= null) {
+                return false;
+            }
+        } else {
+            if (!metaPrefetchKeysAndIndexes.equals(other.metaPrefetchKeysAndIndexes)) {
+                return false;
+            }
+        }
         if (metaIncludeSystemSequences == null) {
             if (other.metaIncludeSystemSequences!= null) {
                 return false;
@@ -6571,6 +7002,9 @@ public class Settings
         result = ((prime*result)+((executeListenerStartInvocationOrder == null)? 0 :executeListenerStartInvocationOrder.hashCode()));
         result = ((prime*result)+((executeListenerEndInvocationOrder == null)? 0 :executeListenerEndInvocationOrder.hashCode()));
         result = ((prime*result)+((executeLogging == null)? 0 :executeLogging.hashCode()));
+        result = ((prime*result)+((diagnosticsAsynchronous == null)? 0 :diagnosticsAsynchronous.hashCode()));
+        result = ((prime*result)+((diagnosticsQueueSize == null)? 0 :diagnosticsQueueSize.hashCode()));
+        result = ((prime*result)+((diagnosticsSamplingPercentage == null)? 0 :diagnosticsSamplingPercentage.hashCode()));
         result = ((prime*result)+((updateRecordVersion == null)? 0 :updateRecordVersion.hashCode()));
         result = ((prime*result)+((updateRecordTimestamp == null)? 0 :updateRecordTimestamp.hashCode()));
         result = ((prime*result)+((executeWithOptimisticLocking == null)? 0 :executeWithOptimisticLocking.hashCode()));
@@ -6583,6 +7017,8 @@ public class Settings
         result = ((prime*result)+((cacheRecordMappers == null)? 0 :cacheRecordMappers.hashCode()));
         result = ((prime*result)+((cacheParsingConnection == null)? 0 :cacheParsingConnection.hashCode()));
         result = ((prime*result)+((cacheParsingConnectionLRUCacheSize == null)? 0 :cacheParsingConnectionLRUCacheSize.hashCode()));
+        result = ((prime*result)+((cacheLFUCacheSize == null)? 0 :cacheLFUCacheSize.hashCode()));
+        result = ((prime*result)+((cacheRenderedSQL == null)? 0 :cacheRenderedSQL.hashCode()));
         result = ((prime*result)+((cachePreparedStatementInLoader == null)? 0 :cachePreparedStatementInLoader.hashCode()));
         result = ((prime*result)+((throwExceptions == null)? 0 :throwExceptions.hashCode()));
         result = ((prime*result)+((fetchWarnings == null)? 0 :fetchWarnings.hashCode()));
@@ -6595,11 +7031,16 @@ public class Settings
         result = ((prime*result)+((mapConstructorPropertiesParameterNames == null)? 0 :mapConstructorPropertiesParameterNames.hashCode()));
         result = ((prime*result)+((mapConstructorParameterNames == null)? 0 :mapConstructorParameterNames.hashCode()));
         result = ((prime*result)+((mapConstructorParameterNamesInKotlin == null)? 0 :mapConstructorParameterNamesInKotlin.hashCode()));
+        result = ((prime*result)+((mapMutablePOJOsWithGeneratedAccessors == null)? 0 :mapMutablePOJOsWithGeneratedAccessors.hashCode()));
         result = ((prime*result)+((queryPoolable == null)? 0 :queryPoolable.hashCode()));
         result = ((prime*result)+((queryTimeout == null)? 0 :queryTimeout.hashCode()));
         result = ((prime*result)+((maxRows == null)? 0 :maxRows.hashCode()));
         result = ((prime*result)+((fetchSize == null)? 0 :fetchSize.hashCode()));
+        result = ((prime*result)+((fetchColumnarResult == null)? 0 :fetchColumnarResult.hashCode()));
+        result = ((prime*result)+((fetchInternLowCardinalityStrings == null)? 0 :fetchInternLowCardinalityStrings.hashCode()));
         result = ((prime*result)+((batchSize == null)? 0 :batchSize.hashCode()));
+        result = ((prime*result)+((r2dbcPrefetch == null)? 0 :r2dbcPrefetch.hashCode()));
+        result = ((prime*result)+((r2dbcLowWatermark == null)? 0 :r2dbcLowWatermark.hashCode()));
         result = ((prime*result)+((debugInfoOnStackTrace == null)? 0 :debugInfoOnStackTrace.hashCode()));
         result = ((prime*result)+((inListPadding == null)? 0 :inListPadding.hashCode()));
         result = ((prime*result)+((inListPadBase == null)? 0 :inListPadBase.hashCode()));
@@ -6613,6 +7054,7 @@ public class Settings
         result = ((prime*result)+((interpreterLocale == null)? 0 :interpreterLocale.hashCode()));
         result = ((prime*result)+((interpreterDelayForeignKeyDeclarations == null)? 0 :interpreterDelayForeignKeyDeclarations.hashCode()));
         result = ((prime*result)+((metaIncludeSystemIndexes == null)? 0 :metaIncludeSystemIndexes.hashCode()));
+        result = ((prime*result)+((metaPrefetchKeysAndIndexes == null)? 0 :metaPrefetchKeysAndIndexes.hashCode()));
         result = ((prime*result)+((metaIncludeSystemSequences == null)? 0 :metaIncludeSystemSequences.hashCode()));
         result = ((prime*result)+((migrationAllowsUndo == null)? 0 :migrationAllowsUndo.hashCode()));
         result = ((prime*result)+((migrationRevertUntracked == null)? 0 :migrationRevertUntracked.hashCode()));
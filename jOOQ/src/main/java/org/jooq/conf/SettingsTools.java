@@ -200,6 +200,13 @@ public final class SettingsTools {
         return defaultIfNull(settings.isCacheParsingConnection(), true);
     }
 
+    /**
+     * Whether rendered SQL caching is active.
+     */
+    public static final boolean renderedSQLCaching(Settings settings) {
+        return defaultIfNull(settings.isCacheRenderedSQL(), false);
+    }
+
     /**
      * The render locale that is applicable, or the default locale if no such
      * locale is configured.
@@ -215,22 +215,26 @@ abstract class AbstractDMLQuery<R extends Record> extends AbstractRowCountQuery
 
     // @Override
     public final void setReturning() {
+        changed();
         setReturning(table.fields());
     }
 
     // @Override
     public final void setReturning(Identity<R, ?> identity) {
+        changed();
         if (identity != null)
             setReturning(identity.getField());
     }
 
     // @Override
     public final void setReturning(SelectFieldOrAsterisk... fields) {
+        changed();
         setReturning(Arrays.asList(fields));
     }
 
     // @Override
     public final void setReturning(Collection<? extends SelectFieldOrAsterisk> fields) {
+        changed();
         returning.clear();
         returning.addAll(fields.isEmpty() ? Arrays.asList(table.fields()) : fields);
 
@@ -335,8 +339,15 @@ abstract class AbstractDMLQuery<R extends Record> extends AbstractRowCountQuery
     // XXX: QueryPart API
     // ------------------------------------------------------------------------
 
+    @Override
+    final boolean tracksChanges() {
+        return true;
+    }
+
     @Override
     public final void accept(Context<?> ctx) {
+        registerRendered(ctx);
+
         WithImpl w = with;
 
         ctx.scopeStart()
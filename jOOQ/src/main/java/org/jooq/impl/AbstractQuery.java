@@ -48,6 +48,7 @@ import static org.jooq.ExecuteType.DDL;
 import static org.jooq.conf.ParamType.INLINED;
 import static org.jooq.conf.SettingsTools.executePreparedStatements;
 import static org.jooq.conf.SettingsTools.getParamType;
+import static org.jooq.conf.SettingsTools.renderedSQLCaching;
 import static org.jooq.conf.ThrowExceptions.THROW_NONE;
 import static org.jooq.impl.DSL.using;
 import static org.jooq.impl.Tools.EMPTY_PARAM;
@@ -55,10 +56,12 @@ import static org.jooq.impl.Tools.blocking;
 import static org.jooq.impl.Tools.consumeExceptions;
 import static org.jooq.impl.Tools.BooleanDataKey.DATA_COUNT_BIND_VALUES;
 import static org.jooq.impl.Tools.BooleanDataKey.DATA_FORCE_STATIC_STATEMENT;
+import static org.jooq.impl.Tools.DataKey.DATA_RENDERED_QUERIES;
 
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
@@ -66,14 +69,17 @@ import java.util.concurrent.Executor;
 
 import org.jooq.CloseableQuery;
 import org.jooq.Configuration;
+import org.jooq.Context;
 import org.jooq.ExecuteContext;
 import org.jooq.ExecuteListener;
 import org.jooq.Param;
 import org.jooq.Query;
 import org.jooq.Record;
 import org.jooq.RenderContext;
+import org.jooq.SQLDialect;
 import org.jooq.Select;
 import org.jooq.conf.QueryPoolable;
+import org.jooq.conf.Settings;
 import org.jooq.conf.SettingsTools;
 import org.jooq.conf.StatementType;
 import org.jooq.exception.ControlFlowSignal;
@@ -95,6 +101,8 @@ abstract class AbstractQuery<R extends Record> extends AbstractAttachableQueryPa
     transient PreparedStatement     statement;
     transient int                   statementExecutionCount;
     transient Rendered              rendered;
+    transient CachedRendered        cachedRendered;
+    transient int                   modCount;
 
     AbstractQuery(Configuration configuration) {
         super(configuration);
@@ -110,6 +118,35 @@ abstract class AbstractQuery<R extends Record> extends AbstractAttachableQueryPa
 
 
 
+    }
+
+    /**
+     * Whether this query reports all of its structural modifications to
+     * {@link #changed()}, such that its rendered SQL can be cached.
+     */
+    boolean tracksChanges() {
+        return false;
+    }
+
+    /**
+     * Record a structural modification of this query, which invalidates any
+     * cached SQL containing it.
+     */
+    final void changed() {
+        modCount++;
+        cachedRendered = null;
+    }
+
+    /**
+     * Register this query with a render context whose SQL string is going to
+     * be cached, such that the cache can be invalidated when this query
+     * changes.
+     */
+    final void registerRendered(Context<?> ctx) {
+        List<AbstractQuery<?>> queries = (List<AbstractQuery<?>>) ctx.data(DATA_RENDERED_QUERIES);
+
+        if (queries != null)
+            queries.add(this);
     }
 
     // -------------------------------------------------------------------------
@@ -171,6 +208,10 @@ abstract class AbstractQuery<R extends Record> extends AbstractAttachableQueryPa
      */
     private final void closeIfNecessary(Param<?> param) {
 
+        // Inlined bind values are part of the cached SQL string
+        if (cachedRendered != null && (param.isInline() || getParamType(configuration().settings()) == INLINED))
+            cachedRendered = null;
+
         // This is relevant when there is an open statement, only
         if (keepStatement() && statement != null) {
 
@@ -457,31 +498,63 @@ abstract class AbstractQuery<R extends Record> extends AbstractAttachableQueryPa
     }
 
     private final Rendered getSQL0(ExecuteContext ctx) {
+        Configuration c = configurationOrThrow();
+
+        // Repeated executions of the same query only need to re-bind the
+        // values of the previously collected bind value slots
+        if (tracksChanges() && renderedSQLCaching(c.settings())) {
+            CachedRendered cached = cachedRendered;
+
+            if (cached != null && cached.valid(c)) {
+                if (cached.forceStaticStatement)
+                    ctx.data(DATA_FORCE_STATIC_STATEMENT, true);
+
+                return new Rendered(cached.sql, cached.bindValues, cached.skipUpdateCounts);
+            }
+
+            List<AbstractQuery<?>> queries = new ArrayList<>();
+            Rendered result = getSQL1(ctx, c, queries);
+            cachedRendered = new CachedRendered(c, result, TRUE.equals(ctx.data(DATA_FORCE_STATIC_STATEMENT)), queries);
+            return result;
+        }
+        else
+            return getSQL1(ctx, c, null);
+    }
+
+    private final DefaultRenderContext renderContext(Configuration c, List<AbstractQuery<?>> queries) {
+        DefaultRenderContext render = new DefaultRenderContext(c);
+
+        if (queries != null)
+            render.data(DATA_RENDERED_QUERIES, queries);
+
+        return render;
+    }
+
+    private final Rendered getSQL1(ExecuteContext ctx, Configuration c, List<AbstractQuery<?>> queries) {
         Rendered result;
         DefaultRenderContext render;
-        Configuration c = configurationOrThrow();
 
         // [#3542] [#4977] Some dialects do not support bind values in DDL statements
         // [#6474] [#6929] Can this be communicated in a leaner way?
         if (ctx.type() == DDL) {
             ctx.data(DATA_FORCE_STATIC_STATEMENT, true);
-            render = new DefaultRenderContext(c);
+            render = renderContext(c, queries);
             result = new Rendered(render.paramType(INLINED).visit(this).render(), null, render.skipUpdateCounts());
         }
         else if (executePreparedStatements(configuration().settings())) {
             try {
-                render = new DefaultRenderContext(c);
+                render = renderContext(c, queries);
                 render.data(DATA_COUNT_BIND_VALUES, true);
                 result = new Rendered(render.visit(this).render(), render.bindValues(), render.skipUpdateCounts());
             }
             catch (DefaultRenderContext.ForceInlineSignal e) {
                 ctx.data(DATA_FORCE_STATIC_STATEMENT, true);
-                render = new DefaultRenderContext(c);
+                render = renderContext(c, queries);
                 result = new Rendered(render.paramType(INLINED).visit(this).render(), null, render.skipUpdateCounts());
             }
         }
         else {
-            render = new DefaultRenderContext(c);
+            render = renderContext(c, queries);
             result = new Rendered(render.paramType(INLINED).visit(this).render(), null, render.skipUpdateCounts());
         }
 
@@ -519,4 +592,48 @@ abstract class AbstractQuery<R extends Record> extends AbstractAttachableQueryPa
 
 
 
+
+    /**
+     * A rendered SQL string along with its bind value slots, which can be
+     * reused as long as the dialect, the settings, and the structure of the
+     * rendered queries do not change.
+     */
+    static final class CachedRendered {
+        final SQLDialect              dialect;
+        final Settings                settings;
+        final String                  sql;
+        final QueryPartList<Param<?>> bindValues;
+        final int                     skipUpdateCounts;
+        final boolean                 forceStaticStatement;
+        final AbstractQuery<?>[]      queries;
+        final int[]                   modCounts;
+
+        CachedRendered(Configuration configuration, Rendered rendered, boolean forceStaticStatement, List<AbstractQuery<?>> queries) {
+            this.dialect = configuration.dialect();
+
+            // Settings are compared by identity. Modifying them in place while
+            // caching is active is not supported (see Settings#cacheRenderedSQL)
+            this.settings = configuration.settings();
+            this.sql = rendered.sql;
+            this.bindValues = rendered.bindValues;
+            this.skipUpdateCounts = rendered.skipUpdateCounts;
+            this.forceStaticStatement = forceStaticStatement;
+            this.queries = queries.toArray(new AbstractQuery[0]);
+            this.modCounts = new int[this.queries.length];
+
+            for (int i = 0; i < this.queries.length; i++)
+                modCounts[i] = this.queries[i].modCount;
+        }
+
+        final boolean valid(Configuration configuration) {
+            if (dialect != configuration.dialect() || settings != configuration.settings())
+                return false;
+
+            for (int i = 0; i < queries.length; i++)
+                if (queries[i].modCount != modCounts[i])
+                    return false;
+
+            return true;
+        }
+    }
 }
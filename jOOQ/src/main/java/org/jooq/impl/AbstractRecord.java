@@ -119,8 +119,17 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
     final AbstractRow<? extends AbstractRecord> fields;
     final Object[]                              values;
-    final Object[]                              originals;
-    final BitSet                                changed;
+
+    /**
+     * The original values, which are the same array instance as
+     * {@link #values} until the two diverge, see {@link #copyOnWrite()}.
+     */
+    Object[]                                    originals;
+
+    /**
+     * The changed flags, which are created lazily, see {@link #changed0()}.
+     */
+    BitSet                                      changed;
     boolean                                     fetched;
 
     /**
@@ -144,8 +153,39 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
         this.fields = (AbstractRow<? extends AbstractRecord>) fields;
         this.values = new Object[size];
-        this.originals = new Object[size];
-        this.changed = new BitSet(size);
+
+        // Most records are fetched and never modified. Avoid allocating the
+        // originals and changed state until they differ from the values.
+        this.originals = values;
+    }
+
+    /**
+     * Make sure {@link #originals} can be modified independently of
+     * {@link #values}, prior to letting the two diverge.
+     */
+    final void copyOnWrite() {
+        if (originals == values)
+            originals = values.clone();
+    }
+
+    /**
+     * Get the {@link #changed} flags, creating them if needed.
+     */
+    final BitSet changed0() {
+        if (changed == null)
+            changed = new BitSet(values.length);
+
+        return changed;
+    }
+
+    /**
+     * Set a {@link #changed} flag without adapting {@link #originals}.
+     */
+    final void changed0(int fieldIndex, boolean c) {
+        if (c)
+            changed0().set(fieldIndex);
+        else if (changed != null)
+            changed.clear(fieldIndex);
     }
 
     // ------------------------------------------------------------------------
@@ -437,22 +477,22 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
         // Normal fields' changed flag is always set to true
         if (key == null || !key.getFields().contains(field)) {
-            changed.set(index);
+            changed0().set(index);
         }
 
         // The primary key's changed flag might've been set previously
-        else if (changed.get(index)) {
-            changed.set(index);
+        else if (changed(index)) {
+            changed0().set(index);
         }
 
         // [#2764] Users may override updatability of primary key values
         else if (updatablePrimaryKeys(settings(this))) {
-            changed.set(index);
+            changed0().set(index);
         }
 
         // [#2698] If the primary key has not yet been set
         else if (originals[index] == null) {
-            changed.set(index);
+            changed0().set(index);
         }
 
         // [#979] If the primary key is being changed, all other fields' flags
@@ -461,13 +501,14 @@ abstract class AbstractRecord extends AbstractStore implements Record {
         else {
 
             // [#945] Be sure that changed is never reset to false
-            changed.set(index, changed.get(index) || !StringUtils.equals(values[index], value));
+            changed0(index, changed(index) || !StringUtils.equals(values[index], value));
 
-            if (changed.get(index)) {
+            if (changed(index)) {
                 changed(true);
             }
         }
 
+        copyOnWrite();
         values[index] = value;
     }
 
@@ -495,18 +536,26 @@ abstract class AbstractRecord extends AbstractStore implements Record {
             int targetIndex = indexOrFail(this.fields, field);
             int sourceIndex = indexOrFail(record.fields, field);
 
-            values[targetIndex] = record.get(sourceIndex);
-            originals[targetIndex] = record.original(sourceIndex);
-            changed.set(targetIndex, record.changed(sourceIndex));
+            Object value = record.get(sourceIndex);
+            Object original = record.original(sourceIndex);
+
+            if (value != original)
+                copyOnWrite();
+
+            values[targetIndex] = value;
+            originals[targetIndex] = original;
+            changed0(targetIndex, record.changed(sourceIndex));
         }
     }
 
-    final void intern0(int fieldIndex) {
+    final void intern0(int fieldIndex, StringInterner interner) {
         safeIndex(fieldIndex);
 
         if (field(fieldIndex).getType() == String.class) {
-            values[fieldIndex] = intern((String) values[fieldIndex]);
-            originals[fieldIndex] = intern((String) originals[fieldIndex]);
+            values[fieldIndex] = interner.intern((String) values[fieldIndex]);
+
+            if (originals != values)
+                originals[fieldIndex] = interner.intern((String) originals[fieldIndex]);
         }
     }
 
@@ -517,10 +566,6 @@ abstract class AbstractRecord extends AbstractStore implements Record {
         throw new IllegalArgumentException("No field at index " + index + " in Record type " + fields);
     }
 
-    final String intern(String string) {
-        return string == null ? null : string.intern();
-    }
-
     /**
      * Subclasses may override this
      */
@@ -564,7 +609,7 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
     @Override
     public final boolean changed() {
-        return !changed.isEmpty();
+        return changed != null && !changed.isEmpty();
     }
 
     @Override
@@ -574,7 +619,8 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
     @Override
     public final boolean changed(int fieldIndex) {
-        return changed.get(safeIndex(fieldIndex));
+        safeIndex(fieldIndex);
+        return changed != null && changed.get(fieldIndex);
     }
 
     @Override
@@ -589,12 +635,15 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
     @Override
     public final void changed(boolean c) {
-        changed.set(0, values.length, c);
+        if (c)
+            changed0().set(0, values.length);
+        else
+            changed = null;
 
         // [#1995] If a value is meant to be "unchanged", the "original" should
         // match the supposedly "unchanged" value.
         if (!c) {
-            System.arraycopy(values, 0, originals, 0, values.length);
+            originals = values;
         }
     }
 
@@ -607,7 +656,7 @@ abstract class AbstractRecord extends AbstractStore implements Record {
     public final void changed(int fieldIndex, boolean c) {
         safeIndex(fieldIndex);
 
-        changed.set(fieldIndex, c);
+        changed0(fieldIndex, c);
 
         // [#1995] If a value is meant to be "unchanged", the "original" should
         // match the supposedly "unchanged" value.
@@ -627,9 +676,12 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
     @Override
     public final void reset() {
-        changed.clear();
+        changed = null;
 
-        System.arraycopy(originals, 0, values, 0, originals.length);
+        if (originals != values) {
+            System.arraycopy(originals, 0, values, 0, originals.length);
+            originals = values;
+        }
     }
 
     @Override
@@ -641,7 +693,7 @@ abstract class AbstractRecord extends AbstractStore implements Record {
     public final void reset(int fieldIndex) {
         safeIndex(fieldIndex);
 
-        changed.clear(fieldIndex);
+        changed0(fieldIndex, false);
         values[fieldIndex] = originals[fieldIndex];
     }
 
@@ -864,6 +916,9 @@ abstract class AbstractRecord extends AbstractStore implements Record {
                     // Iterate over target fields, to avoid ambiguities when two source fields share the same name.
                     // [#3634] If external targetFields are provided, use those instead of the target record's fields.
                     //         The record doesn't know about aliased tables, for instance.
+                    if (originals != values)
+                        t.copyOnWrite();
+
                     for (int targetIndex = 0; targetIndex < (targetFields != null ? targetFields.length : t.size()); targetIndex++) {
                         Field<?> targetField = (targetFields != null ? targetFields[targetIndex] : t.field(targetIndex));
                         int sourceIndex = fields.indexOf(targetField);
@@ -872,8 +927,11 @@ abstract class AbstractRecord extends AbstractStore implements Record {
                             DataType<?> targetType = targetField.getDataType();
 
                             t.values[targetIndex] = targetType.convert(values[sourceIndex]);
-                            t.originals[targetIndex] = targetType.convert(originals[sourceIndex]);
-                            t.changed.set(targetIndex, changed.get(sourceIndex));
+
+                            if (t.originals != t.values)
+                                t.originals[targetIndex] = targetType.convert(originals[sourceIndex]);
+
+                            t.changed0(targetIndex, changed(sourceIndex));
                         }
                     }
                 }
@@ -134,6 +134,16 @@ abstract class AbstractResult<R extends Record> extends AbstractFormattable impl
         return fields;
     }
 
+    /**
+     * The records of this result for read-only access, such as formatting.
+     * <p>
+     * Implementations may return records that are not retained by the result,
+     * in which case any modifications to them are lost.
+     */
+    Iterable<R> readOnly() {
+        return this;
+    }
+
     // -------------------------------------------------------------------------
     // XXX: Formattable API
     // -------------------------------------------------------------------------
@@ -150,7 +160,7 @@ abstract class AbstractResult<R extends Record> extends AbstractFormattable impl
             // The max number of records that will be considered for formatting purposes
             final int MAX_RECORDS = min(50, format.maxRows());
             final Deque<R> buffer = new ArrayDeque<>();
-            final Iterator<R> it = iterator();
+            final Iterator<R> it = readOnly().iterator();
 
             // Buffer some rows for formatting purposes
             for (int i = 0; i < MAX_RECORDS && it.hasNext(); i++)
@@ -392,7 +402,7 @@ abstract class AbstractResult<R extends Record> extends AbstractFormattable impl
                 writer.append(format.newline());
             }
 
-            for (Record record : this) {
+            for (Record record : readOnly()) {
                 String sep2 = "";
 
                 int size = fields.size();
@@ -552,7 +562,7 @@ abstract class AbstractResult<R extends Record> extends AbstractFormattable impl
 
             switch (format.recordFormat()) {
                 case ARRAY:
-                    for (Record record : this) {
+                    for (Record record : readOnly()) {
                         hasRecords = true;
                         writer.append(separator);
 
@@ -565,7 +575,7 @@ abstract class AbstractResult<R extends Record> extends AbstractFormattable impl
 
                     break;
                 case OBJECT:
-                    for (Record record : this) {
+                    for (Record record : readOnly()) {
                         hasRecords = true;
                         writer.append(separator);
 
@@ -788,7 +798,7 @@ abstract class AbstractResult<R extends Record> extends AbstractFormattable impl
                 writer.append(newline).append(format.indentString(1)).append("<records>");
             }
 
-            for (Record record : this) {
+            for (Record record : readOnly()) {
                 writer.append(newline).append(format.indentString(recordLevel));
                 formatXMLRecord(writer, format, recordLevel, record, fields);
             }
@@ -1063,7 +1073,7 @@ abstract class AbstractResult<R extends Record> extends AbstractFormattable impl
         DSLContext ctx = configuration.dsl();
 
         try {
-            for (R record : this) {
+            for (R record : readOnly()) {
                 if (table == null)
                     if (record instanceof TableRecord)
                         table = ((TableRecord<?>) record).getTable();
@@ -1098,7 +1108,7 @@ abstract class AbstractResult<R extends Record> extends AbstractFormattable impl
             writer.append("</thead>");
             writer.append("<tbody>");
 
-            for (Record record : this) {
+            for (Record record : readOnly()) {
                 writer.append("<tr>");
 
                 int size = fields.size();
@@ -1167,7 +1177,7 @@ abstract class AbstractResult<R extends Record> extends AbstractFormattable impl
                 eRecordParent = eRecords;
             }
 
-            for (Record record : this) {
+            for (Record record : readOnly()) {
                 Element eRecord = document.createElement("record");
                 eRecordParent.appendChild(eRecord);
 
@@ -1297,7 +1307,7 @@ abstract class AbstractResult<R extends Record> extends AbstractFormattable impl
             handler.startElement("", "", "records", empty);
         }
 
-        for (Record record : this) {
+        for (Record record : readOnly()) {
             handler.startElement("", "", "record", empty);
 
             int size = fields.size();
@@ -65,6 +65,7 @@ abstract class AbstractStoreQuery<R extends Record> extends AbstractDMLQuery<R>
     @SuppressWarnings({ "unchecked", "rawtypes" })
     @Override
     public final void setRecord(R record) {
+        changed();
         for (int i = 0; i < record.size(); i++)
             if (record.changed(i))
                 addValue((Field) record.field(i), record.get(i));
@@ -72,15 +73,18 @@ abstract class AbstractStoreQuery<R extends Record> extends AbstractDMLQuery<R>
 
     @Override
     public final <T> void addValue(Field<T> field, T value) {
+        changed();
         addValue(field, -1, value);
     }
 
     @Override
     public final <T> void addValue(Field<T> field, Field<T> value) {
+        changed();
         addValue(field, -1, value);
     }
 
     final <T> void addValue(Field<T> field, int index, T value) {
+        changed();
         if (field == null)
             if (index >= 0)
                 addValue(new UnknownField<T>(index), value);
@@ -91,6 +95,7 @@ abstract class AbstractStoreQuery<R extends Record> extends AbstractDMLQuery<R>
     }
 
     final <T> void addValue(Field<T> field, int index, Field<T> value) {
+        changed();
         if (field == null)
             if (index >= 0)
                 addValue(new UnknownField<T>(index), value);
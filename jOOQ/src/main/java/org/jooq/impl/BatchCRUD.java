@@ -37,17 +37,39 @@
  */
 package org.jooq.impl;
 
+import static java.lang.Boolean.FALSE;
+import static java.lang.Boolean.TRUE;
+import static org.jooq.SQLDialect.H2;
 import static org.jooq.conf.SettingsTools.executeStaticStatements;
+import static org.jooq.conf.SettingsTools.updatablePrimaryKeys;
+import static org.jooq.impl.Tools.indexOrFail;
 
+import java.sql.Statement;
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 import org.jooq.BatchBindStep;
 import org.jooq.Configuration;
 import org.jooq.ExecuteContext;
+import org.jooq.Field;
+import org.jooq.InsertQuery;
 import org.jooq.Query;
+import org.jooq.Record;
+import org.jooq.RecordListener;
+import org.jooq.Result;
+import org.jooq.SQLDialect;
+import org.jooq.Table;
+import org.jooq.TableField;
 import org.jooq.TableRecord;
 import org.jooq.UpdatableRecord;
 import org.jooq.exception.ControlFlowSignal;
@@ -59,9 +81,26 @@ import org.jooq.tools.JooqLogger;
  */
 final class BatchCRUD extends AbstractBatch {
 
-    private static final JooqLogger log = JooqLogger.getLogger(BatchCRUD.class);
-    private final TableRecord<?>[]  records;
-    private final Action            action;
+    private static final JooqLogger       log                    = JooqLogger.getLogger(BatchCRUD.class);
+
+    // Dialects whose InsertQuery is known to return the generated keys of all
+    // rows of a multi row INSERT in the order of insertion. Other dialects
+    // keep using JDBC batches, which don't return any generated keys
+    private static final Set<SQLDialect>  SUPPORT_BATCH_RETURNING = SQLDialect.supportedBy(H2);
+
+    /**
+     * The maximum number of rows per multi row INSERT .. RETURNING statement.
+     */
+    private static final int              RETURNING_CHUNK_SIZE   = 1000;
+
+    /**
+     * The maximum number of bind values per multi row INSERT .. RETURNING
+     * statement, which is limited e.g. in PostgreSQL.
+     */
+    private static final int              RETURNING_MAX_BINDS    = 32767;
+
+    private final TableRecord<?>[]        records;
+    private final Action                  action;
 
     BatchCRUD(Configuration configuration, Action action, TableRecord<?>[] records) {
         super(configuration);
@@ -94,7 +133,9 @@ final class BatchCRUD extends AbstractBatch {
             // [#1529] Avoid DEBUG logging of single INSERT / UPDATE statements
             .withExecuteLogging(false)
 
-            // [#3327] [#11509] We can't return generated keys from batches (yet)
+            // [#3327] [#11509] We can't return generated keys from JDBC batches.
+            // Where supported, INSERTs that generate keys bypass the collector
+            // and use multi row INSERT .. RETURNING statements instead
             .withReturnAllOnUpdatableRecord(false)
             .withReturnIdentityOnUpdatableRecord(false);
 
@@ -102,13 +143,46 @@ final class BatchCRUD extends AbstractBatch {
     }
 
     private final int[] executePrepared() {
-        Map<String, List<Query>> queries = new LinkedHashMap<>();
+        List<Object> order = new ArrayList<>();
+        Map<String, Query> templates = new HashMap<>();
+        Map<String, List<Object[]>> bindValues = new HashMap<>();
+        Map<Signature, List<TableRecordImpl<?>>> returning = new HashMap<>();
+        Map<Signature, String> direct = new HashMap<>();
+        Set<Signature> collect = new HashSet<>();
+        Map<Table<?>, int[]> keys = new HashMap<>();
+        boolean directEligible = directEligible();
+        boolean returningEligible = directEligible && returningEligible();
         QueryCollector collector = new QueryCollector();
 
         // Add the QueryCollector to intercept query execution after rendering
         Configuration local = deriveConfiguration(collector);
 
         for (int i = 0; i < records.length; i++) {
+            Signature signature = directEligible ? signature(records[i], keys) : null;
+
+            // [#3327] [#11509] INSERTs that generate keys are executed as multi
+            // row INSERT .. RETURNING statements, instead of batches
+            if (returningEligible
+                    && signature != null
+                    && signature.action == Action.INSERT
+                    && signature.table.getIdentity() != null) {
+                returning.computeIfAbsent(signature, k -> {
+                    order.add(k);
+                    return new ArrayList<>();
+                }).add((TableRecordImpl<?>) records[i]);
+
+                continue;
+            }
+
+            String sql = signature != null ? direct.get(signature) : null;
+
+            // Records whose signature has been rendered before don't need to be
+            // rendered again. Their bind values can be read from the record.
+            if (sql != null) {
+                bindValues.get(sql).add(signature.bindValues(records[i]));
+                continue;
+            }
+
             Configuration previous = records[i].configuration();
 
             try {
@@ -117,11 +191,25 @@ final class BatchCRUD extends AbstractBatch {
             }
             catch (QueryCollectorSignal e) {
                 Query query = e.getQuery();
-                String sql = e.getSQL();
+                sql = e.getSQL();
 
                 // Aggregate executable queries by identical SQL
-                if (query.isExecutable())
-                    queries.computeIfAbsent(sql, s -> new ArrayList<>()).add(query);
+                if (query.isExecutable()) {
+                    Object[] values = query.getBindValues().toArray();
+
+                    if (templates.putIfAbsent(sql, query) == null)
+                        order.add(sql);
+                    bindValues.computeIfAbsent(sql, s -> new ArrayList<>()).add(values);
+
+                    // The direct path is only used for a signature, if it
+                    // produces the same bind values as the rendered query
+                    if (signature != null && !collect.contains(signature)) {
+                        if (Arrays.deepEquals(values, signature.bindValues(records[i])))
+                            direct.put(signature, sql);
+                        else
+                            collect.add(signature);
+                    }
+                }
             }
             finally {
                 records[i].attach(previous);
@@ -129,31 +217,201 @@ final class BatchCRUD extends AbstractBatch {
         }
 
         if (log.isDebugEnabled())
-            log.debug("Batch " + action + " of " + records.length + " records using " + queries.size() + " distinct queries (lower is better) with an average number of bind variable sets of " + queries.values().stream().mapToInt(List::size).average().orElse(0.0) + " (higher is better)");
+            log.debug("Batch " + action + " of " + records.length + " records using " + templates.size() + " distinct queries (lower is better) with an average number of bind variable sets of " + bindValues.values().stream().mapToInt(List::size).average().orElse(0.0) + " (higher is better), and " + returning.size() + " distinct INSERT .. RETURNING queries");
 
         // Execute one batch statement for each identical SQL statement. Every
         // SQL statement may have several queries with different bind values.
         // The order is preserved as much as possible
         List<Integer> result = new ArrayList<>();
-        queries.forEach((k, v) -> {
-            BatchBindStep batch = dsl.batch(v.get(0));
+        Set<TableRecord<?>> unpopulated = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Object k : order) {
+            if (k instanceof Signature) {
+                executeReturning((Signature) k, returning.get(k), result, unpopulated);
+            }
+            else {
+                BatchBindStep batch = dsl.batch(templates.get(k));
 
-            for (Query query : v)
-                batch.bind(query.getBindValues().toArray());
+                for (Object[] values : bindValues.get(k))
+                    batch.bind(values);
 
-            int[] array = batch.execute();
-            for (int i : array)
-                result.add(i);
-        });
+                int[] array = batch.execute();
+                for (int i : array)
+                    result.add(i);
+            }
+        }
 
         int[] array = new int[result.size()];
         for (int i = 0; i < result.size(); i++)
             array[i] = result.get(i);
 
-        updateChangedFlag();
+        updateChangedFlag(unpopulated);
         return array;
     }
 
+    /**
+     * Whether inserted records can have their generated keys returned from
+     * multi row <code>INSERT .. RETURNING</code> statements.
+     */
+    private final boolean returningEligible() {
+        return (action == Action.INSERT || action == Action.STORE)
+            && SUPPORT_BATCH_RETURNING.contains(configuration.dialect())
+            && !FALSE.equals(configuration.settings().isReturnIdentityOnUpdatableRecord());
+    }
+
+    /**
+     * Insert records of the same {@link Signature} in chunks of multi row
+     * <code>INSERT .. RETURNING</code> statements, and populate the records
+     * with the returned keys, like {@link TableRecordImpl#insert()} does.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private final void executeReturning(Signature signature, List<TableRecordImpl<?>> list, List<Integer> result, Set<TableRecord<?>> unpopulated) {
+        Table<Record> table = (Table<Record>) signature.table;
+        Field<?>[] fields = table.fields();
+        Collection<Field<?>> key = TRUE.equals(configuration.settings().isReturnAllOnUpdatableRecord())
+            ? Arrays.asList(fields)
+            : list.get(0).getReturning();
+        int chunkSize = Math.max(1, Math.min(RETURNING_CHUNK_SIZE, RETURNING_MAX_BINDS / Math.max(1, signature.values.length)));
+
+        for (int from = 0; from < list.size(); from += chunkSize) {
+            List<TableRecordImpl<?>> chunk = list.subList(from, Math.min(list.size(), from + chunkSize));
+            InsertQuery<Record> insert = dsl.insertQuery(table);
+
+            for (int i = 0; i < chunk.size(); i++) {
+                if (i > 0)
+                    insert.newRecord();
+
+                for (int j : signature.values)
+                    insert.addValue((Field<Object>) fields[j], chunk.get(i).values[j]);
+            }
+
+            insert.setReturning(key);
+            int rows = insert.execute();
+            Result<Record> returned = insert.getReturnedRecords();
+
+            // The returned records are in the order of the inserted rows
+            if (returned.size() == chunk.size()) {
+                for (int i = 0; i < chunk.size(); i++) {
+                    TableRecordImpl<?> r = chunk.get(i);
+
+                    for (Field<?> field : key) {
+                        int index = indexOrFail(r.fieldsRow(), field);
+                        Object value = returned.get(i).get(field);
+
+                        r.values[index] = value;
+                        r.originals[index] = value;
+                    }
+                }
+            }
+
+            // The records have been inserted already, so they cannot be
+            // inserted again one by one to fetch their keys. They are left
+            // changed and not fetched, as their keys are unknown
+            else {
+                log.warn("Batch " + action, "Cannot populate generated keys, as " + returned.size() + " records were returned for " + chunk.size() + " inserted records");
+                unpopulated.addAll(chunk);
+            }
+
+            for (int i = 0; i < chunk.size(); i++)
+                result.add(rows == chunk.size() ? 1 : Statement.SUCCESS_NO_INFO);
+        }
+    }
+
+    /**
+     * Whether records may skip rendering and bind their values directly, if
+     * another record of the same {@link Signature} has been rendered already.
+     * <p>
+     * This isn't possible if rendering has side effects (e.g. calling
+     * {@link RecordListener}s), or if bind values depend on more than the
+     * record's own values (e.g. with optimistic locking).
+     */
+    private final boolean directEligible() {
+        return action != Action.MERGE
+            && configuration.recordListenerProviders().length == 0
+            && !TRUE.equals(configuration.settings().isExecuteWithOptimisticLocking());
+    }
+
+    /**
+     * The {@link Signature} of a record, or <code>null</code> if the record
+     * must always be rendered.
+     */
+    private final Signature signature(TableRecord<?> record, Map<Table<?>, int[]> keys) {
+        if (!(record instanceof TableRecordImpl))
+            return null;
+
+        Table<?> table = record.getTable();
+        if (table.getRecordVersion() != null || table.getRecordTimestamp() != null)
+            return null;
+
+        TableRecordImpl<?> r = (TableRecordImpl<?>) record;
+        boolean updatablePrimaryKeys = updatablePrimaryKeys(configuration.settings());
+        Action a = action;
+        int[] k = null;
+
+        if (a != Action.INSERT) {
+            if (table.getPrimaryKey() == null || table.getPrimaryKey().getFields().isEmpty())
+                return null;
+
+            k = keys.computeIfAbsent(table, t -> {
+                TableField<?, ?>[] f = t.getPrimaryKey().getFieldsArray();
+                int[] indexes = new int[f.length];
+
+                for (int i = 0; i < f.length; i++)
+                    indexes[i] = t.indexOf(f[i]);
+
+                return indexes;
+            });
+
+            // [#2764] [#3237] The same logic as in UpdatableRecordImpl.store()
+            if (a == Action.STORE) {
+                if (updatablePrimaryKeys) {
+                    a = r.fetched ? Action.UPDATE : Action.INSERT;
+                }
+                else {
+                    a = Action.UPDATE;
+
+                    for (int i : k) {
+                        if (i < 0)
+                            return null;
+
+                        if (r.changed(i) || (!table.field(i).getDataType().nullable() && r.values[i] == null)) {
+                            a = Action.INSERT;
+                            break;
+                        }
+                    }
+                }
+            }
+        }
+
+        int[] values = a == Action.DELETE || r.changed == null ? new int[0] : r.changed.stream().toArray();
+
+        // Unchanged records are subject to Settings.insertUnchangedRecords
+        // and Settings.updateUnchangedRecords
+        if (a != Action.DELETE && values.length == 0)
+            return null;
+
+        int[] conditions = new int[0];
+        BitSet nulls = new BitSet();
+
+        if (a != Action.INSERT) {
+            Object[] source = updatablePrimaryKeys ? r.originals : r.values;
+
+            // [#2764] Conditions compare primary keys using IS NULL or =
+            for (int j = 0; j < k.length; j++) {
+                if (k[j] < 0)
+                    return null;
+                else if (source[k[j]] == null)
+                    nulls.set(j);
+            }
+
+            conditions = new int[k.length - nulls.cardinality()];
+            for (int j = 0, c = 0; j < k.length; j++)
+                if (!nulls.get(j))
+                    conditions[c++] = k[j];
+        }
+
+        return new Signature(table, a, values, conditions, nulls, updatablePrimaryKeys);
+    }
+
     private final int[] executeStatic() {
         List<Query> queries = new ArrayList<>();
         QueryCollector collector = new QueryCollector();
@@ -179,7 +437,7 @@ final class BatchCRUD extends AbstractBatch {
 
         // Resulting statements can be batch executed in their requested order
         int[] result = dsl.batch(queries).execute();
-        updateChangedFlag();
+        updateChangedFlag(Collections.emptySet());
         return result;
     }
 
@@ -203,11 +461,16 @@ final class BatchCRUD extends AbstractBatch {
         }
     }
 
-    private final void updateChangedFlag() {
+    private final void updateChangedFlag(Set<TableRecord<?>> unpopulated) {
         // 1. Deleted records should be marked as changed, such that subsequent
         //    calls to store() will insert them again
         // 2. Stored records should be marked as unchanged
+        // 3. Inserted records whose generated keys are unknown are left as they
+        //    are, such that subsequent calls to store() don't update a null key
         for (TableRecord<?> record : records) {
+            if (unpopulated.contains(record))
+                continue;
+
             record.changed(action == Action.DELETE);
 
             // [#3362] If new records (fetched = false) are batch-stored twice in a row, the second
@@ -248,6 +511,68 @@ final class BatchCRUD extends AbstractBatch {
         DELETE
     }
 
+    /**
+     * The distinguishing properties of records whose store operations render
+     * the same SQL, given identical settings.
+     */
+    private static final class Signature {
+        final Table<?> table;
+        final Action   action;
+        final int[]    values;
+        final int[]    conditions;
+        final BitSet   nulls;
+        final boolean  originals;
+        final int      hash;
+
+        Signature(Table<?> table, Action action, int[] values, int[] conditions, BitSet nulls, boolean originals) {
+            this.table = table;
+            this.action = action;
+            this.values = values;
+            this.conditions = conditions;
+            this.nulls = nulls;
+            this.originals = originals;
+            this.hash = Objects.hash(table, action, Arrays.hashCode(values), nulls);
+        }
+
+        /**
+         * The bind values of the record, in the order in which
+         * {@link TableRecordImpl} and {@link UpdatableRecordImpl} add them to
+         * their queries: changed values first, then primary key conditions.
+         */
+        final Object[] bindValues(TableRecord<?> record) {
+            AbstractRecord r = (AbstractRecord) record;
+            Object[] result = new Object[values.length + conditions.length];
+
+            for (int i = 0; i < values.length; i++)
+                result[i] = r.values[values[i]];
+
+            Object[] source = originals ? r.originals : r.values;
+            for (int i = 0; i < conditions.length; i++)
+                result[values.length + i] = source[conditions[i]];
+
+            return result;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj)
+                return true;
+            if (!(obj instanceof Signature))
+                return false;
+
+            Signature other = (Signature) obj;
+            return table.equals(other.table)
+                && action == other.action
+                && Arrays.equals(values, other.values)
+                && nulls.equals(other.nulls);
+        }
+    }
+
     /**
      * Collect queries
      * <p>
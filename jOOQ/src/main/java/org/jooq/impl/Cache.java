@@ -42,9 +42,13 @@ import static org.jooq.tools.StringUtils.defaultIfNull;
 import java.io.Serializable;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Supplier;
 
 import org.jooq.impl.CacheType;
+import org.jooq.CacheStatistics;
 import org.jooq.Configuration;
 
 /**
@@ -73,38 +77,175 @@ final class Cache {
         if (!type.category.predicate.test(configuration.settings()))
             return operation.get();
 
-        Object cacheOrNull = configuration.data(type);
-        if (cacheOrNull == null) {
-            synchronized (type) {
-                cacheOrNull = configuration.data(type);
-
-                if (cacheOrNull == null)
-                    configuration.data(type, cacheOrNull = defaultIfNull(
-                        configuration.cacheProvider().provide(new DefaultCacheContext(configuration, type)),
-                        NULL
-                    ));
-            }
-        }
-
-        if (cacheOrNull == NULL)
+        Instance instance = instance(configuration, type, true);
+        if (instance.cache == null)
             return operation.get();
 
         // The cache is guaranteed to be thread safe by the CacheProvider
         // contract. However since we cannot use ConcurrentHashMap.computeIfAbsent()
-        // recursively, we have to revert to double checked locking nonetheless.
-        Map<Object, Object> cache = (Map<Object, Object>) cacheOrNull;
+        // recursively, concurrent computations of the same key are
+        // coordinated by the Instance, instead.
         Object k = key.get();
-        Object v = cache.get(k);
+        Object v = instance.cache.get(k);
+
         if (v == null) {
-            synchronized (cache) {
-                v = cache.get(k);
+            instance.misses.increment();
+            v = instance.compute(k, operation);
+        }
+        else
+            instance.hits.increment();
+
+        return (V) (v == NULL ? null : v);
+    }
+
+    /**
+     * Get the statistics of a cache in a {@link Configuration}.
+     */
+    static final CacheStatistics statistics(Configuration configuration, CacheType type) {
+        Instance instance = instance(configuration, type, false);
+
+        return instance != null ? instance : new Instance(type, null);
+    }
+
+    private static final Instance instance(Configuration configuration, CacheType type, boolean create) {
+        Object instance = configuration.data(type);
+
+        if (instance instanceof Instance || !create)
+            return (Instance) instance;
+
+        // Racing threads may both create a cache, only one of which is
+        // retained. The CacheProvider is not called while holding any locks.
+        Instance result = new Instance(type, configuration.cacheProvider().provide(new DefaultCacheContext(configuration, type)));
+        Map<Object, Object> data = configuration.data();
+
+        if (data instanceof ConcurrentMap) {
+            instance = data.putIfAbsent(type, result);
+        }
+        else {
+            synchronized (data) {
+                instance = data.putIfAbsent(type, result);
+            }
+        }
+
+        return instance instanceof Instance ? (Instance) instance : result;
+    }
+
+    /**
+     * A cache and its statistics, stored in {@link Configuration#data()}.
+     */
+    private static final class Instance implements CacheStatistics {
+
+        /**
+         * The computations of the current thread, which must not wait for other
+         * threads to avoid deadlocks between mutually dependent computations.
+         */
+        private static final ThreadLocal<int[]>          DEPTH    = ThreadLocal.withInitial(() -> new int[1]);
+
+        final CacheType                                  type;
+        final Map<Object, Object>                        cache;
+        final Map<Object, Computation>                   inFlight = new ConcurrentHashMap<>();
+        final LongAdder                                  hits     = new LongAdder();
+        final LongAdder                                  misses   = new LongAdder();
+
+        Instance(CacheType type, Map<Object, Object> cache) {
+            this.type = type;
+            this.cache = cache;
+        }
+
+        final Object compute(Object k, Supplier<?> operation) {
+            int[] depth = DEPTH.get();
+            Computation own = new Computation();
+            Computation other = inFlight.putIfAbsent(k, own);
+
+            // Another thread is already computing the same key. Wait for it,
+            // unless this thread is itself computing a value
+            if (other != null) {
+                if (depth[0] == 0) {
+                    Object v = other.await();
+
+                    if (v != null)
+                        return v;
+                }
+
+                Object v = defaultIfNull(operation.get(), NULL);
+                cache.putIfAbsent(k, v);
+                return v;
+            }
+
+            depth[0]++;
+            try {
+                Object v = cache.get(k);
 
                 if (v == null)
-                    cache.put(k, (v = operation.get()) == null ? NULL : v);
+                    cache.put(k, v = defaultIfNull(operation.get(), NULL));
+
+                own.value = v;
+                return v;
+            }
+            finally {
+                depth[0]--;
+                inFlight.remove(k, own);
+                own.latch.countDown();
             }
         }
 
-        return (V) (v == NULL ? null : v);
+        @Override
+        public final CacheType cacheType() {
+            return type;
+        }
+
+        @Override
+        public final long hits() {
+            return hits.sum();
+        }
+
+        @Override
+        public final long misses() {
+            return misses.sum();
+        }
+
+        @Override
+        public final long evictions() {
+            return cache instanceof TinyLFUCache ? ((TinyLFUCache<?, ?>) cache).evictions() : 0L;
+        }
+
+        @Override
+        public final int size() {
+            return cache == null ? 0 : cache.size();
+        }
+
+        @Override
+        public String toString() {
+            return type + " [hits=" + hits() + ", misses=" + misses() + ", evictions=" + evictions() + ", size=" + size() + "]";
+        }
+    }
+
+    /**
+     * A value being computed by a thread. The value remains <code>null</code>
+     * if the computation failed.
+     */
+    private static final class Computation {
+        final CountDownLatch latch = new CountDownLatch(1);
+        volatile Object      value;
+
+        final Object await() {
+            boolean interrupted = false;
+
+            while (true) {
+                try {
+                    latch.await();
+                    break;
+                }
+                catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+
+            if (interrupted)
+                Thread.currentThread().interrupt();
+
+            return value;
+        }
     }
 
     /**
@@ -38,6 +38,7 @@
 package org.jooq.impl;
 
 
+import static org.jooq.impl.CacheType.CacheCategory.DIAGNOSTICS;
 import static org.jooq.impl.CacheType.CacheCategory.PARSING_CONNECTION;
 import static org.jooq.impl.CacheType.CacheCategory.RECORD_MAPPER;
 import static org.jooq.impl.CacheType.CacheCategory.REFLECTION;
@@ -45,6 +46,7 @@ import static org.jooq.impl.CacheType.CacheCategory.REFLECTION;
 import java.util.function.Predicate;
 
 import org.jooq.CacheProvider;
+import org.jooq.CacheStatistics;
 import org.jooq.Configuration;
 import org.jooq.DSLContext;
 import org.jooq.RecordMapper;
@@ -52,6 +54,8 @@ import org.jooq.RecordType;
 import org.jooq.conf.Settings;
 import org.jooq.conf.SettingsTools;
 
+import org.jetbrains.annotations.NotNull;
+
 /**
  * The set of internal cache types.
  * <p>
@@ -121,7 +125,14 @@ public enum CacheType {
      * [#8334] A cache for SQL to SQL translations in the
      * {@link DSLContext#parsingConnection()}, to speed up its usage.
      */
-    CACHE_PARSING_CONNECTION(PARSING_CONNECTION, "org.jooq.configuration.cache.parsing-connection");
+    CACHE_PARSING_CONNECTION(PARSING_CONNECTION, "org.jooq.configuration.cache.parsing-connection"),
+
+    /**
+     * A cache for parsed and normalised SQL strings in the
+     * {@link DSLContext#diagnosticsConnection()}, such that each distinct
+     * statement is parsed only once.
+     */
+    CACHE_DIAGNOSTICS_NORMALISATION(DIAGNOSTICS, "org.jooq.configuration.cache.diagnostics-normalisation");
 
     final CacheCategory category;
     final String        key;
@@ -131,10 +142,20 @@ public enum CacheType {
         this.key = key;
     }
 
+    /**
+     * The hit, miss, and eviction statistics of this cache type in a
+     * {@link Configuration}.
+     */
+    @NotNull
+    public final CacheStatistics statistics(Configuration configuration) {
+        return Cache.statistics(configuration, this);
+    }
+
     enum CacheCategory {
         REFLECTION(SettingsTools::reflectionCaching),
         RECORD_MAPPER(SettingsTools::recordMapperCaching),
-        PARSING_CONNECTION(SettingsTools::parsingConnectionCaching);
+        PARSING_CONNECTION(SettingsTools::parsingConnectionCaching),
+        DIAGNOSTICS(s -> true);
 
         final Predicate<? super Settings> predicate;
 
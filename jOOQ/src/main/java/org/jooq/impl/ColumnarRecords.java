@@ -0,0 +1,607 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.impl.Tools.attachRecords;
+
+import java.io.ObjectStreamException;
+import java.lang.reflect.Array;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Supplier;
+
+import org.jooq.Attachable;
+import org.jooq.Configuration;
+import org.jooq.Record;
+
+/**
+ * A {@link List} of records backed by column-wise storage, used by
+ * {@link ResultImpl} when {@link org.jooq.conf.Settings#isFetchColumnarResult()}
+ * is turned on.
+ * <p>
+ * Numeric, boolean and temporal values are stored in primitive arrays, strings
+ * are dictionary encoded, and all other values are stored in an
+ * <code>Object[]</code> per column. Values are read from the columns directly
+ * by the {@link ResultImpl} value accessors and by {@link #readOnly()}, which
+ * is used for formatting and mapping. As soon as a {@link Record} is handed out through
+ * the {@link List} API, which may be modified by the caller, or as soon as the
+ * list is modified in any other way than by appending unchanged records of the
+ * same type, it switches to storing records row-wise.
+ */
+final class ColumnarRecords<R extends Record> extends AbstractList<R> implements RandomAccess, Attachable {
+
+    private Configuration         configuration;
+    private final AbstractRow<R>  fields;
+    private final Supplier<R>     factory;
+    private Class<?>              recordType;
+    private Column[]              columns;
+    private int                   size;
+    private List<R>               rows;
+
+    ColumnarRecords(Configuration configuration, AbstractRow<R> fields, Supplier<R> factory) {
+        this.configuration = configuration;
+        this.fields = fields;
+        this.factory = factory;
+        this.columns = new Column[fields.size()];
+
+        for (int i = 0; i < columns.length; i++)
+            columns[i] = column(fields.field(i).getType());
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Attachable API
+    // -------------------------------------------------------------------------
+
+    @Override
+    public final void attach(Configuration c) {
+        configuration = c;
+
+        if (rows != null)
+            for (R record : rows)
+                if (record != null)
+                    record.attach(c);
+    }
+
+    @Override
+    public final void detach() {
+        attach(null);
+    }
+
+    @Override
+    public final Configuration configuration() {
+        return configuration;
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Column access
+    // -------------------------------------------------------------------------
+
+    /**
+     * Whether the records are still stored column-wise.
+     */
+    final boolean columnWise() {
+        return rows == null;
+    }
+
+    final Object get(int index, int fieldIndex) {
+        if (rows != null)
+            return rows.get(index).get(fieldIndex);
+
+        Objects.checkIndex(index, size);
+        return columns[fieldIndex].get(index);
+    }
+
+    final List<Object> getValues(int fieldIndex) {
+        List<Object> result = new ArrayList<>(size());
+
+        if (rows != null)
+            for (R record : rows)
+                result.add(record.get(fieldIndex));
+        else
+            for (int i = 0; i < size; i++)
+                result.add(columns[fieldIndex].get(i));
+
+        return result;
+    }
+
+    final Object[] intoArray(int fieldIndex, Class<?> type) {
+        Object[] result = (Object[]) Array.newInstance(type, size());
+
+        if (rows != null)
+            for (int i = 0; i < result.length; i++)
+                result[i] = rows.get(i).get(fieldIndex);
+        else
+            for (int i = 0; i < result.length; i++)
+                result[i] = columns[fieldIndex].get(i);
+
+        return result;
+    }
+
+    final Object[][] intoArrays() {
+        Object[][] result = new Object[size()][];
+
+        if (rows != null)
+            for (int i = 0; i < result.length; i++)
+                result[i] = rows.get(i).intoArray();
+        else
+            for (int i = 0; i < result.length; i++) {
+                result[i] = new Object[columns.length];
+
+                for (int j = 0; j < columns.length; j++)
+                    result[i][j] = columns[j].get(i);
+            }
+
+        return result;
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: List API
+    // -------------------------------------------------------------------------
+
+    @Override
+    public final int size() {
+        return rows != null ? rows.size() : size;
+    }
+
+    @Override
+    public final R get(int index) {
+
+        // Records handed out to callers must retain their modifications
+        return rows().get(index);
+    }
+
+    @Override
+    public final R set(int index, R element) {
+        return rows().set(index, element);
+    }
+
+    @Override
+    public final void add(int index, R element) {
+        modCount++;
+
+        if (rows == null && index == size && append(element))
+            return;
+
+        rows().add(index, element);
+    }
+
+    @Override
+    public final R remove(int index) {
+        modCount++;
+        return rows().remove(index);
+    }
+
+    @Override
+    public final void clear() {
+        modCount++;
+        rows = new ArrayList<>();
+        columns = null;
+        size = 0;
+    }
+
+    private final boolean append(R element) {
+        if (!(element instanceof AbstractRecord))
+            return false;
+
+        AbstractRecord record = (AbstractRecord) element;
+
+        // Only fetched records without any modified state can be restored
+        // from the column values
+        if (record.fields != fields
+                || !record.fetched
+                || record.originals != record.values
+                || record.changed()
+                || recordType != null && recordType != record.getClass())
+            return false;
+
+        recordType = record.getClass();
+
+        for (int i = 0; i < columns.length; i++) {
+            Object value = record.values[i];
+
+            if (!columns[i].set(size, value)) {
+                Column column = new ObjectColumn();
+
+                for (int j = 0; j < size; j++)
+                    column.set(j, columns[i].get(j));
+
+                column.set(size, value);
+                columns[i] = column;
+            }
+        }
+
+        size++;
+        return true;
+    }
+
+    private final R materialise(int index) {
+        R result = factory.get();
+        AbstractRecord record = (AbstractRecord) result;
+
+        record.fetched = true;
+        if (attachRecords(configuration))
+            record.attach(configuration);
+
+        for (int i = 0; i < columns.length; i++)
+            record.values[i] = columns[i].get(index);
+
+        return result;
+    }
+
+    private final List<R> rows() {
+        if (rows == null) {
+            List<R> list = new ArrayList<>(size);
+
+            for (int i = 0; i < size; i++)
+                list.add(materialise(i));
+
+            rows = list;
+            columns = null;
+        }
+
+        return rows;
+    }
+
+    /**
+     * The records for read-only access, materialised on each access if the
+     * records are still stored column-wise. Modifications to these records
+     * are lost.
+     */
+    final Iterable<R> readOnly() {
+        if (rows != null)
+            return rows;
+
+        return () -> new Iterator<R>() {
+            final int expectedModCount = modCount;
+            int       index;
+
+            @Override
+            public boolean hasNext() {
+                return index < size();
+            }
+
+            @Override
+            public R next() {
+                if (modCount != expectedModCount)
+                    throw new ConcurrentModificationException();
+                else if (!hasNext())
+                    throw new NoSuchElementException();
+                else if (rows != null)
+                    return rows.get(index++);
+                else
+                    return materialise(index++);
+            }
+        };
+    }
+
+    /**
+     * Serialise the records row-wise, as the record factory is not
+     * serialisable.
+     */
+    private final Object writeReplace() throws ObjectStreamException {
+        List<R> result = new ArrayList<>(size());
+
+        for (R record : readOnly())
+            result.add(record);
+
+        return result;
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Columns
+    // -------------------------------------------------------------------------
+
+    private static final Column column(Class<?> type) {
+        if (type == Boolean.class)
+            return new BooleanColumn();
+        else if (type == Byte.class || type == Short.class || type == Integer.class || type == Float.class)
+            return new IntColumn(type);
+        else if (type == Long.class || type == Double.class || type == Date.class || type == Time.class || type == LocalDate.class || type == LocalTime.class)
+            return new LongColumn(type);
+        else if (type == Timestamp.class || type == LocalDateTime.class)
+            return new TimestampColumn(type);
+        else if (type == String.class)
+            return new StringColumn();
+        else
+            return new ObjectColumn();
+    }
+
+    private static abstract class Column {
+        int    capacity;
+        BitSet nulls;
+
+        /**
+         * Store a value, or return <code>false</code> if this column cannot
+         * store it.
+         */
+        final boolean set(int index, Object value) {
+            if (index >= capacity)
+                grow(capacity = Math.max(16, Math.max(index + 1, capacity + (capacity >> 1))));
+
+            if (value != null)
+                return set0(index, value);
+
+            if (nulls == null)
+                nulls = new BitSet();
+
+            nulls.set(index);
+            return true;
+        }
+
+        final Object get(int index) {
+            return nulls != null && nulls.get(index) ? null : get0(index);
+        }
+
+        abstract void grow(int c);
+        abstract boolean set0(int index, Object value);
+        abstract Object get0(int index);
+    }
+
+    private static final class BooleanColumn extends Column {
+        final BitSet data = new BitSet();
+
+        @Override
+        final void grow(int c) {}
+
+        @Override
+        final boolean set0(int index, Object value) {
+            if (value.getClass() != Boolean.class)
+                return false;
+
+            data.set(index, (Boolean) value);
+            return true;
+        }
+
+        @Override
+        final Object get0(int index) {
+            return data.get(index);
+        }
+    }
+
+    private static final class IntColumn extends Column {
+        final Class<?> type;
+        int[]          data = {};
+
+        IntColumn(Class<?> type) {
+            this.type = type;
+        }
+
+        @Override
+        final void grow(int c) {
+            data = Arrays.copyOf(data, c);
+        }
+
+        @Override
+        final boolean set0(int index, Object value) {
+            if (value.getClass() != type)
+                return false;
+            else if (type == Float.class)
+                data[index] = Float.floatToRawIntBits((Float) value);
+            else
+                data[index] = ((Number) value).intValue();
+
+            return true;
+        }
+
+        @Override
+        final Object get0(int index) {
+            int v = data[index];
+
+            if (type == Integer.class)
+                return v;
+            else if (type == Short.class)
+                return (short) v;
+            else if (type == Byte.class)
+                return (byte) v;
+            else
+                return Float.intBitsToFloat(v);
+        }
+    }
+
+    private static final class LongColumn extends Column {
+        final Class<?> type;
+        long[]         data = {};
+
+        LongColumn(Class<?> type) {
+            this.type = type;
+        }
+
+        @Override
+        final void grow(int c) {
+            data = Arrays.copyOf(data, c);
+        }
+
+        @Override
+        final boolean set0(int index, Object value) {
+            if (value.getClass() != type)
+                return false;
+            else if (type == Long.class)
+                data[index] = (Long) value;
+            else if (type == Double.class)
+                data[index] = Double.doubleToRawLongBits((Double) value);
+            else if (type == Date.class || type == Time.class)
+                data[index] = ((java.util.Date) value).getTime();
+            else if (type == LocalDate.class)
+                data[index] = ((LocalDate) value).toEpochDay();
+            else
+                data[index] = ((LocalTime) value).toNanoOfDay();
+
+            return true;
+        }
+
+        @Override
+        final Object get0(int index) {
+            long v = data[index];
+
+            if (type == Long.class)
+                return v;
+            else if (type == Double.class)
+                return Double.longBitsToDouble(v);
+            else if (type == Date.class)
+                return new Date(v);
+            else if (type == Time.class)
+                return new Time(v);
+            else if (type == LocalDate.class)
+                return LocalDate.ofEpochDay(v);
+            else
+                return LocalTime.ofNanoOfDay(v);
+        }
+    }
+
+    private static final class TimestampColumn extends Column {
+        final Class<?> type;
+        long[]         seconds = {};
+        int[]          nanos   = {};
+
+        TimestampColumn(Class<?> type) {
+            this.type = type;
+        }
+
+        @Override
+        final void grow(int c) {
+            seconds = Arrays.copyOf(seconds, c);
+            nanos = Arrays.copyOf(nanos, c);
+        }
+
+        @Override
+        final boolean set0(int index, Object value) {
+            if (value.getClass() != type)
+                return false;
+
+            // Timestamp stores milliseconds, with the nanos overriding the
+            // fractional second
+            if (type == Timestamp.class) {
+                Timestamp v = (Timestamp) value;
+                seconds[index] = v.getTime();
+                nanos[index] = v.getNanos();
+            }
+            else {
+                LocalDateTime v = (LocalDateTime) value;
+                seconds[index] = v.toEpochSecond(ZoneOffset.UTC);
+                nanos[index] = v.getNano();
+            }
+
+            return true;
+        }
+
+        @Override
+        final Object get0(int index) {
+            if (type == Timestamp.class) {
+                Timestamp result = new Timestamp(seconds[index]);
+                result.setNanos(nanos[index]);
+                return result;
+            }
+            else
+                return LocalDateTime.ofEpochSecond(seconds[index], nanos[index], ZoneOffset.UTC);
+        }
+    }
+
+    private static final class StringColumn extends Column {
+        final List<String>         dictionary = new ArrayList<>();
+        final Map<String, Integer> codes      = new HashMap<>();
+        int[]                      data       = {};
+
+        @Override
+        final void grow(int c) {
+            data = Arrays.copyOf(data, c);
+        }
+
+        @Override
+        final boolean set0(int index, Object value) {
+            if (value.getClass() != String.class)
+                return false;
+
+            Integer code = codes.get(value);
+
+            if (code == null) {
+
+                // Dictionary encoding doesn't pay off for mostly distinct values
+                if (index >= 1024 && dictionary.size() > index / 2)
+                    return false;
+
+                codes.put((String) value, code = dictionary.size());
+                dictionary.add((String) value);
+            }
+
+            data[index] = code;
+            return true;
+        }
+
+        @Override
+        final Object get0(int index) {
+            return dictionary.get(data[index]);
+        }
+    }
+
+    private static final class ObjectColumn extends Column {
+        Object[] data = {};
+
+        @Override
+        final void grow(int c) {
+            data = Arrays.copyOf(data, c);
+        }
+
+        @Override
+        final boolean set0(int index, Object value) {
+            data[index] = value;
+            return true;
+        }
+
+        @Override
+        final Object get0(int index) {
+            return data[index];
+        }
+    }
+}
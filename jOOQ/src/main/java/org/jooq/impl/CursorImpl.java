@@ -37,8 +37,13 @@
  */
 package org.jooq.impl;
 
+import static java.lang.Boolean.TRUE;
 import static java.util.Collections.emptyList;
 // ...
+import static org.jooq.impl.ExecuteListeners.RECORD_END;
+import static org.jooq.impl.ExecuteListeners.RECORD_START;
+import static org.jooq.impl.ExecuteListeners.RESULT_END;
+import static org.jooq.impl.ExecuteListeners.RESULT_START;
 import static org.jooq.impl.RowAsField.NO_NATIVE_SUPPORT;
 import static org.jooq.impl.Tools.embeddedFields;
 import static org.jooq.impl.Tools.embeddedRecordType;
@@ -74,7 +79,9 @@ import java.util.NoSuchElementException;
 import java.util.function.Supplier;
 
 import org.jooq.Attachable;
+import org.jooq.Binding;
 import org.jooq.BindingGetResultSetContext;
+import org.jooq.Configuration;
 import org.jooq.Converter;
 import org.jooq.ExecuteContext;
 import org.jooq.ExecuteListener;
@@ -83,6 +90,10 @@ import org.jooq.Field;
 import org.jooq.Record;
 import org.jooq.Result;
 import org.jooq.exception.ControlFlowSignal;
+import org.jooq.impl.DefaultBinding.DefaultBooleanBinding;
+import org.jooq.impl.DefaultBinding.DefaultDoubleBinding;
+import org.jooq.impl.DefaultBinding.DefaultIntegerBinding;
+import org.jooq.impl.DefaultBinding.DefaultLongBinding;
 import org.jooq.tools.JooqLogger;
 import org.jooq.tools.jdbc.JDBC41ResultSet;
 import org.jooq.tools.jdbc.JDBCUtils;
@@ -96,7 +107,8 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> {
 
     final ExecuteContext                                   ctx;
     final ExecuteListener                                  listener;
-    private final boolean[]                                intern;
+    private final StringInterner[]                         interners;
+    private final boolean                                  recordEvents;
     private final boolean                                  keepResultSet;
     private final boolean                                  keepStatement;
     private final boolean                                  autoclosing;
@@ -125,6 +137,9 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> {
 
         this.ctx = ctx;
         this.listener = (listener != null ? listener : ExecuteListeners.getAndStart(ctx));
+
+        // Skip the per record events and their bookkeeping if no one listens
+        this.recordEvents = ExecuteListeners.anyOf(this.listener, RECORD_START | RECORD_END | RESULT_START | RESULT_END);
         this.factory = recordFactory(type, this.fields);
         this.keepStatement = keepStatement;
         this.keepResultSet = keepResultSet;
@@ -137,14 +152,23 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> {
         this.maxRows = maxRows;
         this.autoclosing = autoclosing;
 
-        if (internIndexes != null) {
-            this.intern = new boolean[fields.length];
+        boolean auto = TRUE.equals(ctx.settings().isFetchInternLowCardinalityStrings());
+
+        if (internIndexes != null || auto) {
+            this.interners = new StringInterner[fields.length];
+
+            if (internIndexes != null)
+                for (int i : internIndexes)
+                    interners[i] = new StringInterner(false);
 
-            for (int i : internIndexes)
-                intern[i] = true;
+            // Interning stops for columns whose cardinality turns out to be high
+            if (auto)
+                for (int i = 0; i < fields.length; i++)
+                    if (interners[i] == null && fields[i].getType() == String.class)
+                        interners[i] = new StringInterner(true);
         }
         else
-            this.intern = null;
+            this.interners = null;
     }
 
     // -------------------------------------------------------------------------
@@ -228,7 +252,10 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> {
         // [#1157] This invokes listener.fetchStart(ctx), which has to be called
         // Before listener.resultStart(ctx)
         iterator();
-        ResultImpl<R> result = new ResultImpl<>(((DefaultExecuteContext) ctx).originalConfiguration(), fields);
+        Configuration configuration = ((DefaultExecuteContext) ctx).originalConfiguration();
+        ResultImpl<R> result = TRUE.equals(ctx.settings().isFetchColumnarResult())
+            ? new ResultImpl<>(configuration, fields, new ColumnarRecords<>(configuration, fields, (Supplier<R>) factory))
+            : new ResultImpl<>(configuration, fields);
 
         ctx.result(result);
         listener.resultStart(ctx);
@@ -1383,6 +1410,17 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> {
         }
     }
 
+    /**
+     * A reader for a single column, or a nested record occupying several
+     * columns, at a fixed JDBC index.
+     */
+    private interface ColumnReader {
+        Field<?> field();
+        int index();
+        int width();
+        Object read() throws SQLException;
+    }
+
     /**
      * An iterator for records fetched by this cursor
      */
@@ -1444,7 +1482,7 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> {
 
             try {
                 if (!isClosed && rs.next()) {
-                    record = recordDelegate.operate(initialiser.reset());
+                    record = recordDelegate.operate(initialiser);
                     rows++;
                 }
             }
@@ -1482,22 +1520,31 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> {
         private class CursorRecordInitialiser implements ThrowingFunction<AbstractRecord, AbstractRecord, SQLException> {
 
             private final AbstractRow<?> initialiserFields;
-            private int                  offset;
+            private final ColumnReader[] readers;
+            private final int            width;
 
             CursorRecordInitialiser(AbstractRow<?> initialiserFields, int offset) {
                 this.initialiserFields = initialiserFields;
-                this.offset = offset;
-            }
 
-            CursorRecordInitialiser reset() {
-                offset = 0;
-                return this;
+                // The dispatch on nested records, embeddables, bindings and
+                // converters is done only once per cursor, not once per row
+                int size = initialiserFields.size();
+                int index = offset;
+
+                this.readers = new ColumnReader[size];
+                for (int i = 0; i < size; i++)
+                    index += (readers[i] = reader(initialiserFields.field(i), index + 1)).width();
+
+                this.width = index - offset;
             }
 
             @Override
             public AbstractRecord apply(AbstractRecord record) throws SQLException {
-                ctx.record(record);
-                listener.recordStart(ctx);
+                if (recordEvents) {
+                    ctx.record(record);
+                    listener.recordStart(ctx);
+                }
+
                 int size = initialiserFields.size();
 
 
@@ -1518,62 +1565,27 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> {
 
 
 
+
 
                 for (int i = 0; i < size; i++)
-                    setValue(record, initialiserFields.field(i), i);
+                    setValue(record, readers[i], i);
 
-                if (intern != null)
-                    for (int i = 0; i < intern.length; i++)
-                        if (intern[i])
-                            record.intern0(i);
+                if (interners != null)
+                    for (int i = 0; i < interners.length; i++)
+                        if (interners[i] != null)
+                            record.intern0(i, interners[i]);
 
-                ctx.record(record);
-                listener.recordEnd(ctx);
+                if (recordEvents) {
+                    ctx.record(record);
+                    listener.recordEnd(ctx);
+                }
 
                 return record;
             }
 
-            /**
-             * Utility method to prevent unnecessary unchecked conversions
-             */
-            @SuppressWarnings("unchecked")
-            private final <T> void setValue(AbstractRecord record, Field<T> field, int index) throws SQLException {
+            private final void setValue(AbstractRecord record, ColumnReader reader, int index) throws SQLException {
                 try {
-                    T value;
-                    AbstractRow<?> nested = null;
-                    Class<? extends AbstractRecord> recordType = null;
-
-                    // [#7100] TODO: This should be transparent to the CursorImpl
-                    //         RowField may have a Row[N].mapping(...) applied
-                    Field<?> f = uncoerce(field);
-
-                    if (f instanceof AbstractRowAsField && NO_NATIVE_SUPPORT.contains(ctx.dialect())) {
-                        nested = ((AbstractRowAsField<?>) f).emulatedFields(configuration);
-                        recordType = (Class<? extends AbstractRecord>) ((AbstractRowAsField<?>) f).getRecordType();
-                    }
-                    else if (f.getDataType().isEmbeddable()) {
-                        nested = Tools.row0(embeddedFields(f));
-                        recordType = embeddedRecordType(f);
-                    }
-
-                    int nestedOffset = offset + index;
-                    if (nested != null) {
-                        CursorRecordInitialiser operation = new CursorRecordInitialiser(nested, nestedOffset);
-                        value = (T) Tools.newRecord(true, (Class<AbstractRecord>) recordType, (AbstractRow<AbstractRecord>) nested, ((DefaultExecuteContext) ctx).originalConfiguration())
-                                         .operate(operation);
-
-                        // [#7100] TODO: Is there a more elegant way to do this?
-                        if (f != field)
-                            value = ((Converter<Object, T>) field.getConverter()).from(value);
-
-                        offset += operation.offset - nestedOffset + nested.size() - 1;
-                    }
-                    else {
-                        rsContext.index(nestedOffset + 1);
-                        rsContext.field((Field) field);
-                        field.getBinding().get((BindingGetResultSetContext<T>) rsContext);
-                        value = (T) rsContext.value();
-                    }
+                    Object value = reader.read();
 
                     record.values[index] = value;
                     record.originals[index] = value;
@@ -1581,8 +1593,179 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> {
 
                 // [#5901] Improved error logging, mostly useful when there are some data type conversion errors
                 catch (Exception e) {
-                    throw new SQLException("Error while reading field: " + field + ", at JDBC index: " + (offset + index + 1), e);
+                    throw new SQLException("Error while reading field: " + reader.field() + ", at JDBC index: " + reader.index(), e);
+                }
+            }
+
+            @SuppressWarnings("unchecked")
+            private final ColumnReader reader(Field<?> field, int index) {
+                AbstractRow<?> nested = null;
+                Class<? extends AbstractRecord> recordType = null;
+
+                // [#7100] TODO: This should be transparent to the CursorImpl
+                //         RowField may have a Row[N].mapping(...) applied
+                Field<?> f = uncoerce(field);
+
+                if (f instanceof AbstractRowAsField && NO_NATIVE_SUPPORT.contains(ctx.dialect())) {
+                    nested = ((AbstractRowAsField<?>) f).emulatedFields(configuration);
+                    recordType = (Class<? extends AbstractRecord>) ((AbstractRowAsField<?>) f).getRecordType();
+                }
+                else if (f.getDataType().isEmbeddable()) {
+                    nested = Tools.row0(embeddedFields(f));
+                    recordType = embeddedRecordType(f);
+                }
+
+                if (nested != null)
+                    return new NestedReader(field, f, index, nested, recordType);
+
+                // Built-in bindings of primitive wrapper types without any
+                // user converter can be read directly from the ResultSet
+                Binding<?, ?> binding = field.getBinding();
+                if (binding.converter() instanceof IdentityConverter) {
+                    if (binding instanceof DefaultIntegerBinding)
+                        return new IntegerReader(field, index);
+                    else if (binding instanceof DefaultLongBinding)
+                        return new LongReader(field, index);
+                    else if (binding instanceof DefaultDoubleBinding)
+                        return new DoubleReader(field, index);
+                    else if (binding instanceof DefaultBooleanBinding)
+                        return new BooleanReader(field, index);
+                }
+
+                return new BindingReader(field, index);
+            }
+        }
+
+        private abstract class AbstractColumnReader implements ColumnReader {
+            final Field<?> field;
+            final int      index;
+
+            AbstractColumnReader(Field<?> field, int index) {
+                this.field = field;
+                this.index = index;
+            }
+
+            @Override
+            public final Field<?> field() {
+                return field;
+            }
+
+            @Override
+            public final int index() {
+                return index;
+            }
+
+            @Override
+            public int width() {
+                return 1;
+            }
+        }
+
+        private class BindingReader extends AbstractColumnReader {
+            BindingReader(Field<?> field, int index) {
+                super(field, index);
+            }
+
+            @SuppressWarnings({ "unchecked", "rawtypes" })
+            @Override
+            public Object read() throws SQLException {
+                rsContext.index(index);
+                rsContext.field((Field) field);
+                field.getBinding().get((BindingGetResultSetContext) rsContext);
+                return rsContext.value();
+            }
+        }
+
+        private final class IntegerReader extends AbstractColumnReader {
+            IntegerReader(Field<?> field, int index) {
+                super(field, index);
+            }
+
+            @Override
+            public final Object read() throws SQLException {
+                int value = rs.getInt(index);
+                return value == 0 && rs.wasNull() ? null : value;
+            }
+        }
+
+        private final class LongReader extends AbstractColumnReader {
+            LongReader(Field<?> field, int index) {
+                super(field, index);
+            }
+
+            @Override
+            public final Object read() throws SQLException {
+                long value = rs.getLong(index);
+                return value == 0L && rs.wasNull() ? null : value;
+            }
+        }
+
+        private final class DoubleReader extends BindingReader {
+            DoubleReader(Field<?> field, int index) {
+                super(field, index);
+            }
+
+            @Override
+            public final Object read() throws SQLException {
+                double value;
+
+                // Dialect specific fallbacks (e.g. for infinity) are handled
+                // by the binding
+                try {
+                    value = rs.getDouble(index);
+                }
+                catch (SQLException e) {
+                    return super.read();
                 }
+
+                return value == 0.0d && rs.wasNull() ? null : value;
+            }
+        }
+
+        private final class BooleanReader extends AbstractColumnReader {
+            BooleanReader(Field<?> field, int index) {
+                super(field, index);
+            }
+
+            @Override
+            public final Object read() throws SQLException {
+                boolean value = rs.getBoolean(index);
+                return rs.wasNull() ? null : value;
+            }
+        }
+
+        private final class NestedReader extends AbstractColumnReader {
+            private final Field<?>                        uncoerced;
+            private final AbstractRow<AbstractRecord>     nested;
+            private final Class<AbstractRecord>           recordType;
+            private final CursorRecordInitialiser         initialiser;
+
+            @SuppressWarnings("unchecked")
+            NestedReader(Field<?> field, Field<?> uncoerced, int index, AbstractRow<?> nested, Class<? extends AbstractRecord> recordType) {
+                super(field, index);
+
+                this.uncoerced = uncoerced;
+                this.nested = (AbstractRow<AbstractRecord>) nested;
+                this.recordType = (Class<AbstractRecord>) recordType;
+                this.initialiser = new CursorRecordInitialiser(nested, index - 1);
+            }
+
+            @Override
+            public final int width() {
+                return initialiser.width;
+            }
+
+            @SuppressWarnings("unchecked")
+            @Override
+            public final Object read() throws SQLException {
+                Object value = Tools.newRecord(true, recordType, nested, ((DefaultExecuteContext) ctx).originalConfiguration())
+                                    .operate(initialiser);
+
+                // [#7100] TODO: Is there a more elegant way to do this?
+                if (uncoerced != field)
+                    value = ((Converter<Object, Object>) field.getConverter()).from(value);
+
+                return value;
             }
         }
     }
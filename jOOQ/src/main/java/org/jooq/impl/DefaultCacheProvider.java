@@ -37,19 +37,17 @@
  */
 package org.jooq.impl;
 
-import static java.util.Collections.synchronizedMap;
 import static org.jooq.impl.Tools.settings;
 import static org.jooq.tools.StringUtils.defaultIfNull;
 
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 import org.jooq.CacheContext;
 import org.jooq.CacheProvider;
 
 /**
- * A default implementation producing a {@link ConcurrentHashMap} in most cases,
- * or a synchronized LRU cache where appropriate.
+ * A default implementation producing a bounded {@link TinyLFUCache} in most
+ * cases, or a cache of a specific size where appropriate.
  *
  * @author Lukas Eder
  */
@@ -58,14 +56,11 @@ final class DefaultCacheProvider implements CacheProvider {
     @Override
     public Map<Object, Object> provide(CacheContext ctx) {
         switch (ctx.cacheType()) {
-
-            // TODO: Is there a better implementation than wrapping LinkedHashMap
-            // in synchronizedMap(), i.e. one that does not use a monitor?
             case CACHE_PARSING_CONNECTION:
-                return synchronizedMap(new LRUCache<>(defaultIfNull(settings(ctx.configuration()).getCacheParsingConnectionLRUCacheSize(), 8912)));
+                return new TinyLFUCache<>(defaultIfNull(settings(ctx.configuration()).getCacheParsingConnectionLRUCacheSize(), 8912));
 
             default:
-                return new ConcurrentHashMap<>();
+                return new TinyLFUCache<>(defaultIfNull(settings(ctx.configuration()).getCacheLFUCacheSize(), 8192));
         }
     }
 }
@@ -87,6 +87,7 @@ import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import javax.sql.DataSource;
@@ -529,7 +530,7 @@ public class DefaultDSLContext extends AbstractScope implements DSLContext, Seri
         // The same is true for all asynchronous transactions, which must always
         // run in a ManagedBlocker context.
 
-        return blocking(() -> {
+        Supplier<T> supplier = blocking(() -> {
             T result;
 
             DefaultTransactionContext ctx = new DefaultTransactionContext(configuration.derive());
@@ -594,7 +595,13 @@ public class DefaultDSLContext extends AbstractScope implements DSLContext, Seri
             }
 
             return result;
-        }, threadLocal).get();
+        }, threadLocal);
+
+        // Scope-bound transaction state must be bound around the entire transaction
+        TransactionProvider tp = configuration.transactionProvider();
+        return tp instanceof ThreadLocalTransactionProvider
+            ? ((ThreadLocalTransactionProvider) tp).scoped(supplier)
+            : supplier.get();
     }
 
     @Override
@@ -2798,6 +2805,33 @@ public class DefaultDSLContext extends AbstractScope implements DSLContext, Seri
         return batchInsert(records.toArray(EMPTY_TABLE_RECORD));
     }
 
+    @Override
+    public int bulkInsert(TableRecord<?>... records) {
+        int result = connectionResult(c -> PostgresCopy.insert(this, c, records));
+
+        // COPY is not available
+        if (result < 0) {
+            result = 0;
+
+            for (int rowCount : batchInsert(records).execute()) {
+
+                // Some drivers don't report row counts for batches, in case
+                // of which the total is unknown, too
+                if (rowCount < 0)
+                    return java.sql.Statement.SUCCESS_NO_INFO;
+
+                result += rowCount;
+            }
+        }
+
+        return result;
+    }
+
+    @Override
+    public int bulkInsert(Collection<? extends TableRecord<?>> records) {
+        return bulkInsert(records.toArray(EMPTY_TABLE_RECORD));
+    }
+
     @Override
     public Batch batchUpdate(UpdatableRecord<?>... records) {
         return new BatchCRUD(configuration(), Action.UPDATE, records);
@@ -83,6 +83,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.Callable;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -402,7 +403,7 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
 
         // [#1340] Allow for using non-public default constructors
         try {
-            MutablePOJOMapper m = new MutablePOJOMapper(new ConstructorCall<>(accessible(type.getDeclaredConstructor())), instance);
+            MutablePOJOMapper m = new MutablePOJOMapper(constructorCall(accessible(type.getDeclaredConstructor())), instance);
 
             // [#10194] Check if the POJO is really mutable. There might as well
             //          be a no-args constructor for other reasons, e.g. when
@@ -755,6 +756,15 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
         }
     }
 
+    private final Callable<E> constructorCall(Constructor<? extends E> constructor) {
+        Callable<E> result = null;
+
+        if (TRUE.equals(configuration.settings().isMapMutablePOJOsWithGeneratedAccessors()))
+            result = GeneratedAccessors.constructor(constructor);
+
+        return result != null ? result : new ConstructorCall<>(constructor);
+    }
+
     private static final /* record */ class ConstructorCall<E> implements Callable<E> { private final Constructor<? extends E> constructor; public ConstructorCall(Constructor<? extends E> constructor) { this.constructor = constructor; } public Constructor<? extends E> constructor() { return constructor; } @Override public boolean equals(Object o) { if (!(o instanceof ConstructorCall)) return false; ConstructorCall other = (ConstructorCall) o; if (!java.util.Objects.equals(this.constructor, other.constructor)) return false; return true; } @Override public int hashCode() { return java.util.Objects.hash(this.constructor); } @Override public String toString() { return new StringBuilder("ConstructorCall[").append("constructor=").append(this.constructor).append("]").toString(); }
         @Override
         public E call() throws Exception {
@@ -774,6 +784,7 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
         private final boolean                          useAnnotations;
         private final List<java.lang.reflect.Field>[]  members;
         private final List<java.lang.reflect.Method>[] methods;
+        private final BiConsumer<Object, Object>[][]   setters;
         private final Map<String, NestedMappingInfo>   nestedMappingInfos;
         private final E                                instance;
 
@@ -782,6 +793,7 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
             this.useAnnotations = hasColumnAnnotations(configuration, type);
             this.members = new List[fields.length];
             this.methods = new List[fields.length];
+            this.setters = new BiConsumer[fields.length][];
             this.instance = instance;
             this.nestedMappingInfos = new HashMap<>();
 
@@ -829,6 +841,17 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
                 }
             }
 
+            if (TRUE.equals(configuration.settings().isMapMutablePOJOsWithGeneratedAccessors())) {
+                for (int i = 0; i < fields.length; i++) {
+                    if (!methods[i].isEmpty()) {
+                        setters[i] = new BiConsumer[methods[i].size()];
+
+                        for (int j = 0; j < setters[i].length; j++)
+                            setters[i][j] = GeneratedAccessors.setter(methods[i].get(j));
+                    }
+                }
+            }
+
             if (nestedMappedFields != null) {
                 nestedMappedFields.forEach((prefix, list) -> {
                     NestedMappingInfo nestedMappingInfo = nestedMappingInfos.get(prefix);
@@ -873,16 +896,17 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
                         if ((member.getModifiers() & Modifier.FINAL) == 0)
                             map(record, result, member, i);
 
-                    for (java.lang.reflect.Method method : methods[i]) {
+                    for (int j = 0; j < methods[i].size(); j++) {
+                        java.lang.reflect.Method method = methods[i].get(j);
                         Class<?> mType = method.getParameterTypes()[0];
                         Object value = record.get(i, mType);
 
                         // [#3082] [#10910] Try mapping nested collection types
                         Object list = tryConvertToList(value, mType, method.getGenericParameterTypes()[0]);
                         if (list != null)
-                            method.invoke(result, list);
+                            invoke(method, setters[i], j, result, list);
                         else
-                            method.invoke(result, record.get(i, mType));
+                            invoke(method, setters[i], j, result, record.get(i, mType));
                     }
                 }
 
@@ -952,6 +976,13 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
             }
         }
 
+        private final void invoke(Method method, BiConsumer<Object, Object>[] s, int j, Object result, Object value) throws Exception {
+            if (s != null && s[j] != null)
+                s[j].accept(result, value);
+            else
+                method.invoke(result, value);
+        }
+
         private final List<?> tryConvertToList(Object value, Class<?> mType, Type genericType) {
             if (value instanceof Collection && (mType == List.class || mType == ArrayList.class) && genericType instanceof ParameterizedType) {
                 Class<?> componentType = (Class<?>) ((ParameterizedType) genericType).getActualTypeArguments()[0];
@@ -159,68 +159,81 @@ final class DeleteQueryImpl<R extends Record> extends AbstractDMLQuery<R> implem
 
     @Override
     public final void addUsing(Collection<? extends TableLike<?>> f) {
+        changed();
         for (TableLike<?> provider : f)
             using.add(provider.asTable());
     }
 
     @Override
     public final void addUsing(TableLike<?> f) {
+        changed();
         using.add(f.asTable());
     }
 
     @Override
     public final void addUsing(TableLike<?>... f) {
+        changed();
         for (TableLike<?> provider : f)
             using.add(provider.asTable());
     }
 
     @Override
     public final void addConditions(Collection<? extends Condition> conditions) {
+        changed();
         condition.addConditions(conditions);
     }
 
     @Override
     public final void addConditions(Condition conditions) {
+        changed();
         condition.addConditions(conditions);
     }
 
     @Override
     public final void addConditions(Condition... conditions) {
+        changed();
         condition.addConditions(conditions);
     }
 
     @Override
     public final void addConditions(Operator operator, Condition conditions) {
+        changed();
         condition.addConditions(operator, conditions);
     }
 
     @Override
     public final void addConditions(Operator operator, Condition... conditions) {
+        changed();
         condition.addConditions(operator, conditions);
     }
 
     @Override
     public final void addConditions(Operator operator, Collection<? extends Condition> conditions) {
+        changed();
         condition.addConditions(operator, conditions);
     }
 
     @Override
     public final void addOrderBy(OrderField<?>... fields) {
+        changed();
         addOrderBy(Arrays.asList(fields));
     }
 
     @Override
     public final void addOrderBy(Collection<? extends OrderField<?>> fields) {
+        changed();
         orderBy.addAll(Tools.sortFields(fields));
     }
 
     @Override
     public final void addLimit(Number numberOfRows) {
+        changed();
         addLimit(DSL.val(numberOfRows));
     }
 
     @Override
     public final void addLimit(Field<? extends Number> numberOfRows) {
+        changed();
         limit = numberOfRows;
     }
 
@@ -39,6 +39,8 @@ package org.jooq.impl;
 
 // ...
 import static org.jooq.conf.ParamType.FORCE_INDEXED;
+import static org.jooq.impl.CacheType.CACHE_DIAGNOSTICS_NORMALISATION;
+import static org.jooq.tools.StringUtils.defaultIfNull;
 
 import java.sql.CallableStatement;
 import java.sql.PreparedStatement;
@@ -52,12 +54,18 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.jooq.Configuration;
 import org.jooq.Parser;
 import org.jooq.Queries;
 import org.jooq.QueryPart;
 import org.jooq.RenderContext;
+import org.jooq.conf.Settings;
 import org.jooq.impl.QOM.Eq;
 import org.jooq.tools.jdbc.DefaultConnection;
 
@@ -73,15 +81,36 @@ final class DiagnosticsConnection extends DefaultConnection {
     static final Map<String, Set<String>> DUPLICATE_SQL   = Collections.synchronizedMap(new LRU<>(LRU_SIZE_GLOBAL));
 
     final Map<String, List<String>>       repeatedSQL     = new LRU<>(LRU_SIZE_LOCAL);
+    /**
+     * A single, lazily started worker thread analyses statements of all
+     * asynchronous diagnostics connections, such that the per connection
+     * state is accessed concurrently only when a connection is closed.
+     */
+    static final ThreadPoolExecutor       EXECUTOR        = executor();
+
+    /**
+     * The number of statements waiting to be analysed by {@link #EXECUTOR},
+     * which is bounded by {@link Settings#getDiagnosticsQueueSize()} across
+     * all connections.
+     */
+    static final AtomicInteger            QUEUED          = new AtomicInteger();
+
     final Configuration                   configuration;
     final RenderContext                   normalisingRenderer;
     final Parser                          parser;
     final DiagnosticsListeners            listeners;
+    final boolean                         asynchronous;
+    final int                             queueSize;
+    final int                             samplingPercentage;
 
     DiagnosticsConnection(Configuration configuration) {
         super(configuration.connectionProvider().acquire());
 
+        Settings settings = configuration.settings();
         this.configuration = configuration;
+        this.asynchronous = Boolean.TRUE.equals(settings.isDiagnosticsAsynchronous());
+        this.queueSize = defaultIfNull(settings.getDiagnosticsQueueSize(), 10000);
+        this.samplingPercentage = defaultIfNull(settings.getDiagnosticsSamplingPercentage(), 100);
         this.normalisingRenderer = configuration.deriveSettings(s -> s
 
             // Forcing all inline parameters to be indexed helps find opportunities to use bind variables
@@ -157,24 +186,80 @@ final class DiagnosticsConnection extends DefaultConnection {
 
     @Override
     public final void close() throws SQLException {
-        repeatedSQL.clear();
+
+        // Don't submit this to the background worker, where it could be
+        // dropped if the queue is full
+        synchronized (repeatedSQL) {
+            repeatedSQL.clear();
+        }
+
         configuration.connectionProvider().release(getDelegate());
     }
 
     final String parse(String sql) {
-        Queries queries = null;
-        String normalised;
+        if (samplingPercentage < 100 && ThreadLocalRandom.current().nextInt(100) >= samplingPercentage)
+            return sql;
+
+        if (asynchronous)
+            submit(() -> analyse(sql));
+        else
+            analyse(sql);
+
+        return sql;
+    }
+
+    /**
+     * Hand off a task to the background worker, or drop it if the queue is
+     * full.
+     */
+    private final void submit(Runnable task) {
+        if (QUEUED.incrementAndGet() > queueSize) {
+            QUEUED.decrementAndGet();
+            return;
+        }
+
+        EXECUTOR.execute(() -> {
+            try {
+                task.run();
+            }
+            finally {
+                QUEUED.decrementAndGet();
+            }
+        });
+    }
+
+    private static final ThreadPoolExecutor executor() {
+        ThreadPoolExecutor result = new ThreadPoolExecutor(1, 1, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+            Thread thread = new Thread(r, "jooq-diagnostics");
+            thread.setDaemon(true);
+            return thread;
+        });
 
+        result.allowCoreThreadTimeOut(true);
+        return result;
+    }
+
+    private final Normalised normalise(String sql) {
         try {
-            queries = parser.parse(sql);
-            normalised = normalisingRenderer.render(queries);
+            Queries queries = parser.parse(sql);
+            return new Normalised(queries, normalisingRenderer.render(queries), null);
         }
         catch (ParserException exception) {
-            normalised = sql;
+            return new Normalised(null, sql, exception);
+        }
+    }
+
+    private final void analyse(String sql) {
+
+        // Distinct statements are parsed and normalised only once
+        Normalised n = Cache.run(configuration, () -> normalise(sql), CACHE_DIAGNOSTICS_NORMALISATION, () -> sql);
+        Queries queries = n.queries;
+        String normalised = n.normalised;
+
+        if (n.exception != null)
             listeners.exception(new DefaultDiagnosticsContext(
-                "Query could not be parsed.", sql, exception
+                "Query could not be parsed.", sql, n.exception
             ));
-        }
 
         try {
             Set<String> duplicates = null;
@@ -188,7 +273,11 @@ final class DiagnosticsConnection extends DefaultConnection {
                     sql, normalised, duplicates, null, queries, null
                 ));
 
-            List<String> repetitions = repetitions(repeatedSQL, sql, normalised);
+            List<String> repetitions;
+            synchronized (repeatedSQL) {
+                repetitions = repetitions(repeatedSQL, sql, normalised);
+            }
+
             if (repetitions != null)
                 listeners.repeatedStatements(new DefaultDiagnosticsContext(
                     "Repeated statements encountered.",
@@ -223,8 +312,6 @@ final class DiagnosticsConnection extends DefaultConnection {
                 sql, normalised, null, null, queries, exception
             ));
         }
-
-        return sql;
     }
 
     private Set<String> duplicates(Map<String, Set<String>> map, String sql, String normalised) {
@@ -245,6 +332,18 @@ final class DiagnosticsConnection extends DefaultConnection {
             return null;
     }
 
+    private static final class Normalised {
+        final Queries          queries;
+        final String           normalised;
+        final ParserException  exception;
+
+        Normalised(Queries queries, String normalised, ParserException exception) {
+            this.queries = queries;
+            this.normalised = normalised;
+            this.exception = exception;
+        }
+    }
+
     // See https://stackoverflow.com/a/1953516/521799
     static class LRU<V> extends LinkedHashMap<String, V> {
         private final int size;
@@ -62,7 +62,77 @@ final class ExecuteListeners implements ExecuteListener {
     private static final ExecuteListener EMPTY_LISTENER         = new DefaultExecuteListener();
     private static final JooqLogger      LOGGER_LISTENER_LOGGER = JooqLogger.getLogger(LoggerListener.class);
 
+    // The events an ExecuteListener may be interested in, as bits of a mask
+    static final int                     START                  = 1 << 0;
+    static final int                     RENDER_START           = 1 << 1;
+    static final int                     RENDER_END             = 1 << 2;
+    static final int                     PREPARE_START          = 1 << 3;
+    static final int                     PREPARE_END            = 1 << 4;
+    static final int                     BIND_START             = 1 << 5;
+    static final int                     BIND_END               = 1 << 6;
+    static final int                     EXECUTE_START          = 1 << 7;
+    static final int                     EXECUTE_END            = 1 << 8;
+    static final int                     OUT_START              = 1 << 9;
+    static final int                     OUT_END                = 1 << 10;
+    static final int                     FETCH_START            = 1 << 11;
+    static final int                     RESULT_START           = 1 << 12;
+    static final int                     RECORD_START           = 1 << 13;
+    static final int                     RECORD_END             = 1 << 14;
+    static final int                     RESULT_END             = 1 << 15;
+    static final int                     FETCH_END              = 1 << 16;
+    static final int                     END                    = 1 << 17;
+    static final int                     EXCEPTION              = 1 << 18;
+    static final int                     WARNING                = 1 << 19;
+
+    private static final String[]        EVENT_NAMES            = {
+        "start",
+        "renderStart",
+        "renderEnd",
+        "prepareStart",
+        "prepareEnd",
+        "bindStart",
+        "bindEnd",
+        "executeStart",
+        "executeEnd",
+        "outStart",
+        "outEnd",
+        "fetchStart",
+        "resultStart",
+        "recordStart",
+        "recordEnd",
+        "resultEnd",
+        "fetchEnd",
+        "end",
+        "exception",
+        "warning"
+    };
+
+    /**
+     * The events a listener type is interested in, i.e. the events it
+     * implements itself, rather than inheriting a no-op implementation from
+     * {@link DefaultExecuteListener}.
+     */
+    private static final ClassValue<Integer> EVENTS             = new ClassValue<Integer>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            int result = 0;
+
+            for (int i = 0; i < EVENT_NAMES.length; i++) {
+                try {
+                    if (type.getMethod(EVENT_NAMES[i], ExecuteContext.class).getDeclaringClass() != DefaultExecuteListener.class)
+                        result |= 1 << i;
+                }
+                catch (NoSuchMethodException e) {
+                    result |= 1 << i;
+                }
+            }
+
+            return result;
+        }
+    };
+
     private final ExecuteListener[][]    listeners;
+    private final int                    events;
 
     // In some setups, these two events may get mixed up chronologically by the
     // Cursor. Postpone fetchEnd event until after resultEnd event, if there is
@@ -139,49 +209,78 @@ final class ExecuteListeners implements ExecuteListener {
     }
 
     private ExecuteListeners(ExecuteListener[][] listeners) {
+        int e = 0;
+
+        for (ExecuteListener listener : listeners[0])
+            e |= EVENTS.get(listener.getClass());
+
         this.listeners = listeners;
+        this.events = e;
+    }
+
+    /**
+     * Whether a listener obtained from {@link #get(ExecuteContext)} is
+     * interested in any of the argument events.
+     * <p>
+     * Callers may skip any bookkeeping required only by these events, if it
+     * isn't.
+     */
+    static final boolean anyOf(ExecuteListener listener, int events) {
+        if (listener == EMPTY_LISTENER)
+            return false;
+        else if (listener instanceof ExecuteListeners)
+            return (((ExecuteListeners) listener).events & events) != 0;
+        else
+            return (EVENTS.get(listener.getClass()) & events) != 0;
     }
 
     @Override
     public final void start(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners[0])
-            listener.start(ctx);
+        if ((events & START) != 0)
+            for (ExecuteListener listener : listeners[0])
+                listener.start(ctx);
     }
 
     @Override
     public final void renderStart(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners[0])
-            listener.renderStart(ctx);
+        if ((events & RENDER_START) != 0)
+            for (ExecuteListener listener : listeners[0])
+                listener.renderStart(ctx);
     }
 
     @Override
     public final void renderEnd(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners[1])
-            listener.renderEnd(ctx);
+        if ((events & RENDER_END) != 0)
+            for (ExecuteListener listener : listeners[1])
+                listener.renderEnd(ctx);
     }
 
     @Override
     public final void prepareStart(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners[0])
-            listener.prepareStart(ctx);
+        if ((events & PREPARE_START) != 0)
+            for (ExecuteListener listener : listeners[0])
+                listener.prepareStart(ctx);
     }
 
     @Override
     public final void prepareEnd(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners[1])
-            listener.prepareEnd(ctx);
+        if ((events & PREPARE_END) != 0)
+            for (ExecuteListener listener : listeners[1])
+                listener.prepareEnd(ctx);
     }
 
     @Override
     public final void bindStart(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners[0])
-            listener.bindStart(ctx);
+        if ((events & BIND_START) != 0)
+            for (ExecuteListener listener : listeners[0])
+                listener.bindStart(ctx);
     }
 
     @Override
     public final void bindEnd(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners[1])
-            listener.bindEnd(ctx);
+        if ((events & BIND_END) != 0)
+            for (ExecuteListener listener : listeners[1])
+                listener.bindEnd(ctx);
     }
 
     @Override
@@ -189,48 +288,55 @@ final class ExecuteListeners implements ExecuteListener {
         if (ctx instanceof DefaultExecuteContext)
             ((DefaultExecuteContext) ctx).incrementStatementExecutionCount();
 
-        for (ExecuteListener listener : listeners[0])
-            listener.executeStart(ctx);
+        if ((events & EXECUTE_START) != 0)
+            for (ExecuteListener listener : listeners[0])
+                listener.executeStart(ctx);
     }
 
     @Override
     public final void executeEnd(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners[1])
-            listener.executeEnd(ctx);
+        if ((events & EXECUTE_END) != 0)
+            for (ExecuteListener listener : listeners[1])
+                listener.executeEnd(ctx);
     }
 
     @Override
     public final void fetchStart(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners[0])
-            listener.fetchStart(ctx);
+        if ((events & FETCH_START) != 0)
+            for (ExecuteListener listener : listeners[0])
+                listener.fetchStart(ctx);
     }
 
     @Override
     public final void outStart(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners[0])
-            listener.outStart(ctx);
+        if ((events & OUT_START) != 0)
+            for (ExecuteListener listener : listeners[0])
+                listener.outStart(ctx);
     }
 
     @Override
     public final void outEnd(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners[1])
-            listener.outEnd(ctx);
+        if ((events & OUT_END) != 0)
+            for (ExecuteListener listener : listeners[1])
+                listener.outEnd(ctx);
     }
 
     @Override
     public final void resultStart(ExecuteContext ctx) {
         resultStart = true;
 
-        for (ExecuteListener listener : listeners[0])
-            listener.resultStart(ctx);
+        if ((events & RESULT_START) != 0)
+            for (ExecuteListener listener : listeners[0])
+                listener.resultStart(ctx);
 
         ((DefaultExecuteContext) ctx).resultLevel++;
     }
 
     @Override
     public final void recordStart(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners[0])
-            listener.recordStart(ctx);
+        if ((events & RECORD_START) != 0)
+            for (ExecuteListener listener : listeners[0])
+                listener.recordStart(ctx);
 
         ((DefaultExecuteContext) ctx).recordLevel++;
     }
@@ -239,8 +345,9 @@ final class ExecuteListeners implements ExecuteListener {
     public final void recordEnd(ExecuteContext ctx) {
         ((DefaultExecuteContext) ctx).recordLevel--;
 
-        for (ExecuteListener listener : listeners[1])
-            listener.recordEnd(ctx);
+        if ((events & RECORD_END) != 0)
+            for (ExecuteListener listener : listeners[1])
+                listener.recordEnd(ctx);
     }
 
     @Override
@@ -248,8 +355,9 @@ final class ExecuteListeners implements ExecuteListener {
         ((DefaultExecuteContext) ctx).resultLevel--;
         resultStart = false;
 
-        for (ExecuteListener listener : listeners[1])
-            listener.resultEnd(ctx);
+        if ((events & RESULT_END) != 0)
+            for (ExecuteListener listener : listeners[1])
+                listener.resultEnd(ctx);
 
         if (fetchEnd)
             fetchEnd(ctx);
@@ -259,26 +367,29 @@ final class ExecuteListeners implements ExecuteListener {
     public final void fetchEnd(ExecuteContext ctx) {
         if (resultStart)
             fetchEnd = true;
-        else
+        else if ((events & FETCH_END) != 0)
             for (ExecuteListener listener : listeners[1])
                 listener.fetchEnd(ctx);
     }
 
     @Override
     public final void end(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners[1])
-            listener.end(ctx);
+        if ((events & END) != 0)
+            for (ExecuteListener listener : listeners[1])
+                listener.end(ctx);
     }
 
     @Override
     public final void exception(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners[0])
-            listener.exception(ctx);
+        if ((events & EXCEPTION) != 0)
+            for (ExecuteListener listener : listeners[0])
+                listener.exception(ctx);
     }
 
     @Override
     public final void warning(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners[0])
-            listener.warning(ctx);
+        if ((events & WARNING) != 0)
+            for (ExecuteListener listener : listeners[0])
+                listener.warning(ctx);
     }
 }
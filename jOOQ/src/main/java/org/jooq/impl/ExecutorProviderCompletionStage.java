@@ -61,8 +61,9 @@ import org.jooq.ExecutorProvider;
  */
 final class ExecutorProviderCompletionStage<T> implements CompletionStage<T> {
 
-    private final CompletionStage<T> delegate;
-    private final ExecutorProvider   provider;
+    private final CompletionStage<T>             delegate;
+    private final ExecutorProvider               provider;
+    private ExecutorProviderCompletableFuture<T> future;
 
     static final <T> ExecutorProviderCompletionStage<T> of(CompletionStage<T> delegate, ExecutorProvider provider) {
         return new ExecutorProviderCompletionStage<>(delegate, provider);
@@ -260,7 +261,95 @@ final class ExecutorProviderCompletionStage<T> implements CompletionStage<T> {
     }
 
     @Override
-    public final CompletableFuture<T> toCompletableFuture() {
-        return delegate.toCompletableFuture();
+    public final synchronized CompletableFuture<T> toCompletableFuture() {
+        if (future == null) {
+            CompletableFuture<T> d = delegate.toCompletableFuture();
+
+            // Async stages chained onto the CompletableFuture should run in the
+            // provided Executor as well, not in the ForkJoinPool.commonPool()
+            ExecutorProviderCompletableFuture<T> result = new ExecutorProviderCompletableFuture<>(provider, d);
+            d.whenComplete((v, t) -> {
+                if (t != null)
+                    result.completeExceptionally0(t);
+                else
+                    result.complete0(v);
+            });
+
+            future = result;
+        }
+
+        return future;
+    }
+
+    /**
+     * A {@link CompletableFuture} that defaults to an {@link ExecutorProvider}
+     * for all async methods that do not have an explicit {@link Executor}.
+     * <p>
+     * If it was created from a source {@link CompletableFuture}, then it
+     * mirrors the source's completion, and completing, cancelling, or
+     * obtruding it is forwarded to the source, as required by
+     * {@link CompletionStage#toCompletableFuture()}.
+     */
+    static final class ExecutorProviderCompletableFuture<T> extends CompletableFuture<T> {
+
+        private final ExecutorProvider     provider;
+        private final CompletableFuture<T> source;
+
+        ExecutorProviderCompletableFuture(ExecutorProvider provider, CompletableFuture<T> source) {
+            this.provider = provider;
+            this.source = source;
+        }
+
+        final boolean complete0(T value) {
+            return super.complete(value);
+        }
+
+        final boolean completeExceptionally0(Throwable ex) {
+            return super.completeExceptionally(ex);
+        }
+
+        @Override
+        public final Executor defaultExecutor() {
+            return provider.provide();
+        }
+
+        @Override
+        public final <U> CompletableFuture<U> newIncompleteFuture() {
+            return new ExecutorProviderCompletableFuture<>(provider, null);
+        }
+
+        // The source completes this future synchronously, if it isn't
+        // completed already
+
+        @Override
+        public final boolean complete(T value) {
+            return source != null ? source.complete(value) : super.complete(value);
+        }
+
+        @Override
+        public final boolean completeExceptionally(Throwable ex) {
+            return source != null ? source.completeExceptionally(ex) : super.completeExceptionally(ex);
+        }
+
+        @Override
+        public final boolean cancel(boolean mayInterruptIfRunning) {
+            return source != null ? source.cancel(mayInterruptIfRunning) : super.cancel(mayInterruptIfRunning);
+        }
+
+        @Override
+        public final void obtrudeValue(T value) {
+            if (source != null)
+                source.obtrudeValue(value);
+
+            super.obtrudeValue(value);
+        }
+
+        @Override
+        public final void obtrudeException(Throwable ex) {
+            if (source != null)
+                source.obtrudeException(ex);
+
+            super.obtrudeException(ex);
+        }
     }
 }
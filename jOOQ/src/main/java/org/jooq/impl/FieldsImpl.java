@@ -49,7 +49,10 @@ import java.sql.SQLWarning;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Stream;
 
 import org.jooq.Configuration;
@@ -77,8 +80,17 @@ import org.jooq.tools.JooqLogger;
  */
 final class FieldsImpl<R extends Record> extends AbstractQueryPart implements RecordType<R>, Mappable<R>, UTransient {
 
-    private static final JooqLogger log = JooqLogger.getLogger(FieldsImpl.class);
+    private static final JooqLogger log             = JooqLogger.getLogger(FieldsImpl.class);
+
+    /**
+     * The number of fields from which on lookups use an {@link Index} rather
+     * than linear scans.
+     */
+    private static final int        INDEX_THRESHOLD = 8;
+    private static final int[]      NO_INDEXES      = {};
+
     Field<?>[]                      fields;
+    private transient Index         index;
 
     FieldsImpl(SelectField<?>... fields) {
         this.fields = Tools.map(fields, toField(), Field<?>[]::new);
@@ -219,16 +231,33 @@ final class FieldsImpl<R extends Record> extends AbstractQueryPart implements Re
         if (field == null)
             return result.resultNull();
 
+        Index x = index();
+        int[] c;
+
         // [#4540] Try finding a match by identity
-        for (int i = 0; i < fields.length; i++) {
-            Field<?> f = fields[i];
+        if (x != null) {
+            Integer i = x.identities.get(field);
 
-            if (f == field)
-                return result.result(f, i);
+            if (i != null)
+                return result.result(fields[i], i);
+        }
+        else {
+            for (int i = 0; i < fields.length; i++) {
+                Field<?> f = fields[i];
+
+                if (f == field)
+                    return result.result(f, i);
+            }
         }
 
         // [#1802] Try finding an exact match (e.g. exact matching qualified name)
-        for (int i = 0; i < fields.length; i++) {
+        // Named fields can only be equal if their qualified names are equal
+        c = x != null && x.named && field instanceof AbstractNamed
+          ? x.qualifiedNames.getOrDefault(field.getQualifiedName(), NO_INDEXES)
+          : null;
+
+        for (int k = 0, n = c == null ? fields.length : c.length; k < n; k++) {
+            int i = c == null ? k : c[k];
             Field<?> f = fields[i];
 
             if (f.equals(field))
@@ -243,7 +272,10 @@ final class FieldsImpl<R extends Record> extends AbstractQueryPart implements Re
         String tableName = tableName(field);
         String fieldName = field.getName();
 
-        for (int i = 0; i < fields.length; i++) {
+        c = x != null ? x.names.getOrDefault(fieldName, NO_INDEXES) : null;
+
+        for (int k = 0, n = c == null ? fields.length : c.length; k < n; k++) {
+            int i = c == null ? k : c[k];
             Field<?> f = fields[i];
             String fName = f.getName();
 
@@ -278,6 +310,26 @@ final class FieldsImpl<R extends Record> extends AbstractQueryPart implements Re
         return result.result(columnMatch, indexMatch);
     }
 
+    /**
+     * Get the lookup index for the current {@link #fields}, building it lazily
+     * if there are enough fields for it to pay off.
+     * <p>
+     * The index is immutable and may be shared across threads. Concurrent
+     * initialisation may build it several times.
+     */
+    private final Index index() {
+        Field<?>[] f = fields;
+
+        if (f.length < INDEX_THRESHOLD)
+            return null;
+
+        Index x = index;
+        if (x == null || x.fields != f)
+            index = x = new Index(f);
+
+        return x;
+    }
+
     private final String tableName(Field<?> field) {
         if (field instanceof TableField) { TableField<?, ?> f = (TableField<?, ?>) field;
             Table<?> table = f.getTable();
@@ -301,7 +353,11 @@ final class FieldsImpl<R extends Record> extends AbstractQueryPart implements Re
         Field<?> columnMatch = null;
         int indexMatch = -1;
 
-        for (int i = 0; i < fields.length; i++) {
+        Index x = index();
+        int[] c = x != null ? x.names.getOrDefault(fieldName, NO_INDEXES) : null;
+
+        for (int k = 0, n = c == null ? fields.length : c.length; k < n; k++) {
+            int i = c == null ? k : c[k];
             Field<?> f = fields[i];
 
             if (f.getName().equals(fieldName)) {
@@ -544,6 +600,48 @@ final class FieldsImpl<R extends Record> extends AbstractQueryPart implements Re
 
 
 
+
+    // -------------------------------------------------------------------------
+    // XXX: Lookup index
+    // -------------------------------------------------------------------------
+
+    /**
+     * Name and identity based lookups into a {@link Field} array, yielding
+     * candidate indexes in ascending order.
+     */
+    private static final class Index {
+        final Field<?>[]             fields;
+        final Map<Field<?>, Integer> identities;
+        final Map<String, int[]>     names;
+        final Map<Name, int[]>       qualifiedNames;
+        final boolean                named;
+
+        Index(Field<?>[] fields) {
+            boolean n = true;
+
+            this.fields = fields;
+            this.identities = new IdentityHashMap<>();
+            this.names = new HashMap<>();
+            this.qualifiedNames = new HashMap<>();
+
+            for (int i = 0; i < fields.length; i++) {
+                Field<?> f = fields[i];
+
+                identities.putIfAbsent(f, i);
+                names.merge(f.getName(), new int[] { i }, Index::concat);
+                qualifiedNames.merge(f.getQualifiedName(), new int[] { i }, Index::concat);
+                n &= f instanceof AbstractNamed;
+            }
+
+            this.named = n;
+        }
+
+        private static final int[] concat(int[] a, int[] b) {
+            int[] result = Arrays.copyOf(a, a.length + b.length);
+            System.arraycopy(b, 0, result, a.length, b.length);
+            return result;
+        }
+    }
 
     // -------------------------------------------------------------------------
     // XXX: [#8040] An abstraction over two possible return types.
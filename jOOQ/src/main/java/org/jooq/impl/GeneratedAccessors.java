@@ -0,0 +1,167 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static java.lang.invoke.MethodType.methodType;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+import org.jooq.tools.JooqLogger;
+import org.jooq.tools.reflect.Reflect;
+
+/**
+ * Accessors for constructors and methods that are generated by the
+ * {@link LambdaMetafactory}, rather than called through reflection.
+ * <p>
+ * The generated classes can be inlined by the JIT like hand written code.
+ * Their creation is expensive, so they are generated only once per
+ * constructor or method, and cached on the declaring class, such that
+ * {@link org.jooq.RecordMapper} instances that aren't cached themselves don't
+ * generate new classes. If an accessor cannot be generated (e.g. because of
+ * module access restrictions), <code>null</code> is returned and callers
+ * should fall back to reflection.
+ */
+final class GeneratedAccessors {
+
+    private static final JooqLogger                      log       = JooqLogger.getLogger(GeneratedAccessors.class);
+    private static final Object                          NONE      = new Object();
+    private static final ClassValue<Map<Member, Object>> ACCESSORS = new ClassValue<Map<Member, Object>>() {
+        @Override
+        protected Map<Member, Object> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    /**
+     * Generate a {@link Callable} calling a no-args constructor.
+     */
+    @SuppressWarnings("unchecked")
+    static final <E> Callable<E> constructor(Constructor<? extends E> constructor) {
+        return (Callable<E>) cached(constructor, () -> constructor0(constructor));
+    }
+
+    private static final Callable<?> constructor0(Constructor<?> constructor) {
+        try {
+            Class<?> type = constructor.getDeclaringClass();
+            Lookup lookup = lookup(type);
+            MethodHandle handle = lookup.unreflectConstructor(constructor);
+            CallSite site = LambdaMetafactory.metafactory(
+                lookup,
+                "call",
+                methodType(Callable.class),
+                methodType(Object.class),
+                handle,
+                methodType(type)
+            );
+
+            return (Callable<?>) site.getTarget().invoke();
+        }
+        catch (Throwable e) {
+            log.debug("Cannot generate accessor for constructor", constructor, e);
+            return null;
+        }
+    }
+
+    /**
+     * Generate a {@link BiConsumer} calling a single argument instance method,
+     * ignoring its result.
+     */
+    @SuppressWarnings("unchecked")
+    static final BiConsumer<Object, Object> setter(Method method) {
+        if (Modifier.isStatic(method.getModifiers()) || method.getParameterCount() != 1)
+            return null;
+
+        return (BiConsumer<Object, Object>) cached(method, () -> setter0(method));
+    }
+
+    private static final BiConsumer<?, ?> setter0(Method method) {
+        try {
+            Class<?> type = method.getDeclaringClass();
+            Lookup lookup = lookup(type);
+            MethodHandle handle = lookup.unreflect(method);
+            CallSite site = LambdaMetafactory.metafactory(
+                lookup,
+                "accept",
+                methodType(BiConsumer.class),
+                methodType(void.class, Object.class, Object.class),
+                handle,
+                methodType(void.class, type, Reflect.wrapper(method.getParameterTypes()[0]))
+            );
+
+            return (BiConsumer<?, ?>) site.getTarget().invoke();
+        }
+        catch (Throwable e) {
+            log.debug("Cannot generate accessor for method", method, e);
+            return null;
+        }
+    }
+
+    /**
+     * Look up or generate the accessor of a member, remembering also members
+     * for which no accessor can be generated.
+     */
+    private static final Object cached(Member member, Supplier<Object> generate) {
+        Object result = ACCESSORS.get(member.getDeclaringClass()).computeIfAbsent(member, m -> {
+            Object accessor = generate.get();
+            return accessor != null ? accessor : NONE;
+        });
+
+        return result != NONE ? result : null;
+    }
+
+    private static final Lookup lookup(Class<?> type) throws IllegalAccessException {
+
+        // The generated class is defined in the target class's package, which
+        // requires private access and readability of the target module
+        GeneratedAccessors.class.getModule().addReads(type.getModule());
+        return MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+    }
+}
@@ -162,6 +162,7 @@ final class InsertQueryImpl<R extends Record> extends AbstractStoreQuery<R> impl
 
     @Override
     public final void newRecord() {
+        changed();
         insertMaps.newRecord();
     }
 
@@ -180,32 +181,38 @@ final class InsertQueryImpl<R extends Record> extends AbstractStoreQuery<R> impl
 
     @Override
     public final void addRecord(R record) {
+        changed();
         newRecord();
         setRecord(record);
     }
 
     @Override
     public final void onConflict(Field<?>... fields) {
+        changed();
         onConflict(Arrays.asList(fields));
     }
 
     @Override
     public final void onConflict(Collection<? extends Field<?>> fields) {
+        changed();
         this.onConflict = new QueryPartList<Field<?>>(fields).qualify(false);
     }
 
     @Override
     public final void onConflictWhere(Condition conditions) {
+        changed();
         onConflictWhere.addConditions(conditions);
     }
 
     @Override
     public final void onConflictOnConstraint(Constraint constraint) {
+        changed();
         onConflictOnConstraint0(constraint);
     }
 
     @Override
     public void onConflictOnConstraint(UniqueKey<R> constraint) {
+        changed();
         if (StringUtils.isEmpty(constraint.getName()))
             throw new IllegalArgumentException("UniqueKey's name is not specified");
 
@@ -215,6 +222,7 @@ final class InsertQueryImpl<R extends Record> extends AbstractStoreQuery<R> impl
 
     @Override
     public final void onConflictOnConstraint(Name constraint) {
+        changed();
         onConflictOnConstraint0(constraint(constraint));
     }
 
@@ -227,63 +235,75 @@ final class InsertQueryImpl<R extends Record> extends AbstractStoreQuery<R> impl
 
     @Override
     public final void onDuplicateKeyUpdate(boolean flag) {
+        changed();
         this.onDuplicateKeyIgnore = false;
         this.onDuplicateKeyUpdate = flag;
     }
 
     @Override
     public final void onDuplicateKeyIgnore(boolean flag) {
+        changed();
         this.onDuplicateKeyUpdate = false;
         this.onDuplicateKeyIgnore = flag;
     }
 
     @Override
     public final <T> void addValueForUpdate(Field<T> field, T value) {
+        changed();
         updateMap.put(field, Tools.field(value, field));
     }
 
     @Override
     public final <T> void addValueForUpdate(Field<T> field, Field<T> value) {
+        changed();
         updateMap.put(field, Tools.field(value, field));
     }
 
     @Override
     public final void addValuesForUpdate(Map<?, ?> map) {
+        changed();
         updateMap.set(map);
     }
 
     @Override
     public final void addConditions(Condition conditions) {
+        changed();
         condition.addConditions(conditions);
     }
 
     @Override
     public final void addConditions(Condition... conditions) {
+        changed();
         condition.addConditions(conditions);
     }
 
     @Override
     public final void addConditions(Collection<? extends Condition> conditions) {
+        changed();
         condition.addConditions(conditions);
     }
 
     @Override
     public final void addConditions(Operator operator, Condition conditions) {
+        changed();
         condition.addConditions(operator, conditions);
     }
 
     @Override
     public final void addConditions(Operator operator, Condition... conditions) {
+        changed();
         condition.addConditions(operator, conditions);
     }
 
     @Override
     public final void addConditions(Operator operator, Collection<? extends Condition> conditions) {
+        changed();
         condition.addConditions(operator, conditions);
     }
 
     @Override
     public final void setDefaultValues() {
+        changed();
         defaultValues = true;
     }
 
@@ -298,17 +318,20 @@ final class InsertQueryImpl<R extends Record> extends AbstractStoreQuery<R> impl
 
     @Override
     public final void setSelect(Field<?>[] f, Select<?> s) {
+        changed();
         setSelect(Arrays.asList(f), s);
     }
 
     @Override
     public final void setSelect(Collection<? extends Field<?>> f, Select<?> s) {
+        changed();
         insertMaps.addFields(f);
         select = s;
     }
 
     @Override
     public final void addValues(Map<?, ?> map) {
+        changed();
         insertMaps.set(map);
     }
 
@@ -45,22 +45,27 @@ import static org.jooq.impl.DefaultDataType.getDataType;
 import static org.jooq.impl.SQLDataType.VARCHAR;
 import static org.jooq.impl.Tools.fields;
 import static org.jooq.impl.Tools.newRecord;
+import static org.jooq.impl.Tools.resetChangedOnNotNull;
 import static org.jooq.tools.StringUtils.defaultIfBlank;
 
 import java.io.Reader;
 import java.io.StringReader;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 
 import org.jooq.DSLContext;
+import org.jooq.DataType;
 import org.jooq.Field;
-import org.jooq.Fields;
+import org.jooq.JSONFormat;
 import org.jooq.Record;
 import org.jooq.Result;
-import org.jooq.tools.json.ContainerFactory;
+import org.jooq.Row;
+import org.jooq.tools.json.ContentHandler;
 import org.jooq.tools.json.JSONParser;
 
 import jakarta.xml.bind.DatatypeConverter;
@@ -94,43 +99,187 @@ final class JSONReader<R extends Record> {
 
     final Result<R> read(final Reader reader, boolean multiset) {
         try {
-            Object root = new JSONParser().parse(reader, new ContainerFactory() {
-                @Override
-                public Map createObjectContainer() {
-                    return new LinkedHashMap();
-                }
-
-                @Override
-                public List createArrayContainer() {
-                    return new ArrayList();
-                }
-            });
-
-            return read(ctx, row, recordType, multiset, root);
+            Handler handler = new Handler(multiset);
+            new JSONParser().parse(reader, handler);
+            return (Result<R>) handler.result;
         }
         catch (Exception e) {
             throw new RuntimeException(e);
         }
     }
 
-    private static final <R extends Record> Result<R> read(
-        DSLContext ctx,
-        AbstractRow<R> actualRow,
-        Class<? extends R> recordType,
-        boolean multiset,
-        Object root
-    ) {
-        List<Field<?>> header = new ArrayList<>();
+    /**
+     * A {@link ContentHandler} that creates records directly from parser
+     * events, without creating an intermediary tree of {@link Map} and
+     * {@link List} values for the entire document.
+     * <p>
+     * Nested values are handled by a stack of {@link Frame} objects. Only
+     * values that do not correspond to a record or result (e.g. the
+     * <code>"fields"</code> header, or nested {@link Row} values) are still
+     * materialised as {@link Map} and {@link List} trees.
+     */
+    private final class Handler implements ContentHandler {
+        final boolean      multiset;
+        final Deque<Frame> stack;
+        Object             result;
+
+        Handler(boolean multiset) {
+            this.multiset = multiset;
+            this.stack = new ArrayDeque<>();
+        }
+
+        @Override
+        public void startJSON() {}
+
+        @Override
+        public void endJSON() {}
+
+        @Override
+        public boolean startObject() {
+            stack.push(stack.isEmpty() ? new DocumentFrame(multiset) : stack.peek().startObject());
+            return true;
+        }
+
+        @Override
+        public boolean endObject() {
+            return end();
+        }
+
+        @Override
+        public boolean startObjectEntry(String key) {
+            stack.peek().key(key);
+            return true;
+        }
+
+        @Override
+        public boolean endObjectEntry() {
+            return true;
+        }
+
+        @Override
+        public boolean startArray() {
+            stack.push(stack.isEmpty() ? new ResultFrame(row, recordType, multiset) : stack.peek().startArray());
+            return true;
+        }
+
+        @Override
+        public boolean endArray() {
+            return end();
+        }
+
+        @Override
+        public boolean primitive(Object value) {
+            if (stack.isEmpty())
+                result = value;
+            else
+                stack.peek().value(value);
+
+            return true;
+        }
+
+        private final boolean end() {
+            Object value = stack.pop().end();
+
+            if (stack.isEmpty())
+                result = value;
+            else
+                stack.peek().value(value);
+
+            return true;
+        }
+    }
+
+    /**
+     * The state of an array or object that is currently being parsed.
+     */
+    private abstract class Frame {
+        void key(String key) {}
+        abstract void value(Object value);
+        abstract Object end();
+
+        Frame startArray() {
+            return new TreeFrame(false);
+        }
+
+        Frame startObject() {
+            return new TreeFrame(true);
+        }
+    }
+
+    /**
+     * An arbitrary JSON array or object, which is materialised as a
+     * {@link List} or {@link Map}.
+     */
+    private final class TreeFrame extends Frame {
+        final List<Object>        list;
+        final Map<String, Object> map;
+        String                    key;
+
+        TreeFrame(boolean object) {
+            this.list = object ? null : new ArrayList<>();
+            this.map = object ? new LinkedHashMap<>() : null;
+        }
+
+        @Override
+        final void key(String k) {
+            key = k;
+        }
+
+        @Override
+        final void value(Object value) {
+            if (map != null)
+                map.put(key, value);
+            else
+                list.add(value);
+        }
+
+        @Override
+        final Object end() {
+            return map != null ? map : list;
+        }
+    }
+
+    /**
+     * A document of the form <code>{"fields": [...], "records": [...]}</code>.
+     * <p>
+     * If the <code>"records"</code> precede the <code>"fields"</code> and there
+     * is no explicit row type, then the records are materialised as
+     * {@link List} and {@link Map} trees first, and read only at the end of
+     * the document, when the header is known.
+     */
+    private final class DocumentFrame extends Frame {
+        final boolean        multiset;
+        final List<Field<?>> header;
+        String               key;
+        Result<R>            result;
+        List<Object>         deferred;
+
+        DocumentFrame(boolean multiset) {
+            this.multiset = multiset;
+            this.header = new ArrayList<>();
+        }
 
-        List<?> records;
-        Result<R> result = null;
+        @Override
+        final void key(String k) {
+            key = k;
+        }
 
-        if (root instanceof Map) {
-            Map<String, Object> o1 = (Map<String, Object>) root;
-            List<Map<String, String>> fields = (List<Map<String, String>>) o1.get("fields");
+        @Override
+        final Frame startArray() {
+            if ("records".equals(key) && (row != null || !header.isEmpty()))
+                return new ResultFrame(
+                    row == null && !header.isEmpty() ? (AbstractRow<R>) Tools.row0(header) : row,
+                    recordType,
+                    multiset
+                );
+            else
+                return super.startArray();
+        }
 
-            if (fields != null) {
-                for (Map<String, String> field : fields) {
+        @Override
+        final void value(Object value) {
+            if ("fields".equals(key) && value instanceof List) {
+                for (Map<String, String> field : (List<Map<String, String>>) value) {
                     String catalog = field.get("catalog");
                     String schema = field.get("schema");
                     String table = field.get("table");
@@ -140,113 +289,242 @@ final class JSONReader<R extends Record> {
                     header.add(field(name(catalog, schema, table, name), getDataType(ctx.dialect(), defaultIfBlank(type, "VARCHAR"))));
                 }
             }
-
-            records = (List<?>) o1.get("records");
+            else if ("records".equals(key) && value instanceof Result)
+                result = (Result<R>) value;
+            else if ("records".equals(key) && value instanceof List)
+                deferred = (List<Object>) value;
         }
-        else
-            records = (List<?>) root;
 
-        if (actualRow == null && !header.isEmpty())
-            actualRow = (AbstractRow<R>) Tools.row0(header);
-
-        if (actualRow != null)
-            result = new ResultImpl<>(ctx.configuration(), actualRow);
+        @Override
+        final Object end() {
+            if (deferred != null)
+                result = read(deferred);
+
+            if (result != null)
+                return result;
+            else if (row != null)
+                return new ResultImpl<>(ctx.configuration(), row);
+            else if (!header.isEmpty())
+                return new ResultImpl<>(ctx.configuration(), (AbstractRow<R>) Tools.row0(header));
+            else
+                return null;
+        }
 
-        if (records != null) {
-            for (Object o3 : records) {
-                if (o3 instanceof Map) {
-                    Map<String, Object> record = (Map<String, Object>) o3;
+        /**
+         * Read records that have been materialised as a tree, by replaying the
+         * parser events that would have produced them.
+         */
+        private final Result<R> read(List<Object> records) {
+            ResultFrame frame = new ResultFrame(header.isEmpty() ? null : (AbstractRow<R>) Tools.row0(header), recordType, multiset);
 
-                    if (result == null) {
-                        if (header.isEmpty())
-                            for (String name : record.keySet())
-                                header.add(field(name(name), VARCHAR));
+            for (Object record : records) {
+                if (record instanceof Map) {
+                    Frame f = frame.startObject();
 
-                        result = new ResultImpl<>(ctx.configuration(), actualRow = (AbstractRow<R>) Tools.row0(header));
+                    for (Entry<String, Object> e : ((Map<String, Object>) record).entrySet()) {
+                        f.key(e.getKey());
+                        f.value(e.getValue());
                     }
 
-                    List<Object> list = multiset
-                        ? patchRecord(
-                            ctx,
-                            multiset,
-                            actualRow,
-
-                            // This sort is required if we use the JSONFormat.RecordFormat.OBJECT encoding (e.g. in SQL Server)
-                            sortedValues(record)
-                        )
-                        : null;
-
-                    result.add(newRecord(true, recordType, actualRow, ctx.configuration()).operate(r -> {
-                        if (multiset)
-                            r.from(list);
-                        else
-                            r.fromMap(record);
-
-                        return r;
-                    }));
+                    frame.value(f.end());
                 }
-                else {
-                    List<Object> record = (List<Object>) o3;
-
-                    if (result == null) {
-                        if (header.isEmpty())
-                            header.addAll(asList(fields(record.size())));
+                else if (record instanceof List) {
+                    Frame f = frame.startArray();
 
-                        result = new ResultImpl<>(ctx.configuration(), actualRow = (AbstractRow<R>) Tools.row0(header));
-                    }
+                    for (Object value : (List<Object>) record)
+                        f.value(value);
 
-                    patchRecord(ctx, multiset, actualRow, record);
-
-                    // [#12930] NULL records are possible when nested ROW is
-                    //          returned from an empty scalar subquery.
-                    if (record == null)
-                        result.add(null);
-                    else
-                        result.add(newRecord(true, recordType, actualRow, ctx.configuration()).operate(r -> {
-                            r.from(record);
-                            return r;
-                        }));
+                    frame.value(f.end());
                 }
+                else
+                    frame.value(record);
             }
-        }
 
-        return result;
+            return (Result<R>) frame.end();
+        }
     }
 
-    private static final List<Object> sortedValues(Map<String, Object> record) {
+    /**
+     * An array of records.
+     */
+    private final class ResultFrame extends Frame {
+        final Class<? extends R> type;
+        final boolean            multiset;
+        AbstractRow<R>           resultRow;
+        Result<R>                result;
+
+        ResultFrame(AbstractRow<R> resultRow, Class<? extends R> type, boolean multiset) {
+            this.resultRow = resultRow;
+            this.type = type;
+            this.multiset = multiset;
+
+            if (resultRow != null)
+                result = new ResultImpl<>(ctx.configuration(), resultRow);
+        }
+
+        @Override
+        final Frame startArray() {
+            return new RecordFrame(this, false);
+        }
+
+        @Override
+        final Frame startObject() {
+            return new RecordFrame(this, true);
+        }
+
+        @Override
+        final void value(Object value) {
 
-        // [#13200] The MULTISET map keys are always of the form v0, v1, v2, ...
-        List<Object> result = asList(new Object[record.size()]);
+            // [#12930] NULL records are possible when nested ROW is
+            //          returned from an empty scalar subquery.
+            if (value == null || value instanceof Record)
+                result.add((R) value);
+            else
+                throw new IllegalArgumentException("Record expected, but found: " + value);
+        }
+
+        @Override
+        final Object end() {
+            return result;
+        }
 
-        // [#13200] Knowing the key format, we can "sort" the contents in O(N)
-        //          rather than with a more name-agnostic O(N log N) approach
-        for (Entry<String, Object> e : record.entrySet())
-            result.set(parseInt(e.getKey().substring(1)), e.getValue());
+        /**
+         * Lazy initialisation of the row type from the first record, in case
+         * there was no explicit row type or header.
+         */
+        final void init(List<Object> list, Map<String, Object> map) {
+            List<Field<?>> header = new ArrayList<>();
 
-        return result;
+            if (map != null)
+                for (String name : map.keySet())
+                    header.add(field(name(name), VARCHAR));
+            else
+                header.addAll(asList(fields(list.size())));
+
+            result = new ResultImpl<>(ctx.configuration(), resultRow = (AbstractRow<R>) Tools.row0(header));
+        }
     }
 
-    private static final List<Object> patchRecord(DSLContext ctx, boolean multiset, Fields result, List<Object> record) {
-        for (int i = 0; i < result.fields().length; i++) {
-            Field<?> field = result.field(i);
+    /**
+     * A record in either of the {@link JSONFormat.RecordFormat} encodings.
+     */
+    private final class RecordFrame extends Frame {
+        final ResultFrame         parent;
+        final boolean             object;
+        final Object[]            values;
+        final List<Object>        list;
+        final Map<String, Object> map;
+        String                    key;
+        int                       index;
+        int                       size;
+
+        RecordFrame(ResultFrame parent, boolean object) {
+            this.parent = parent;
+            this.object = object;
+
+            // The record format is known in advance, so values can be
+            // collected positionally, and then set on the record directly.
+            if (parent.resultRow != null && (!object || parent.multiset)) {
+                this.values = new Object[parent.resultRow.size()];
+                this.list = null;
+                this.map = null;
+            }
+            else {
+                this.values = null;
+                this.list = object ? null : new ArrayList<>();
+                this.map = object ? new LinkedHashMap<>() : null;
+            }
+        }
+
+        @Override
+        final void key(String k) {
+            key = k;
 
-            // [#8829] LoaderImpl expects binary data to be encoded in base64,
-            //         not according to org.jooq.tools.Convert
-            if (field.getType() == byte[].class && record.get(i) instanceof String)
-                record.set(i, DatatypeConverter.parseBase64Binary((String) record.get(i)));
+            // [#13200] The MULTISET map keys are always of the form v0, v1, v2, ...
+            //          Knowing the key format, we can place values in O(1)
+            if (values != null)
+                index = parseInt(k.substring(1));
+        }
+
+        @Override
+        final Frame startArray() {
+            ResultFrame nested = nested();
+            return nested != null ? nested : super.startArray();
+        }
 
-            // [#12155] Recurse for nested data types
-            else if (multiset && field.getDataType().isMultiset())
-                record.set(i, read(
-                    ctx,
-                    (AbstractRow) field.getDataType().getRow(),
-                    (Class) field.getDataType().getRecordType(),
-                    multiset,
-                    record.get(i)
-                ));
+        @Override
+        final Frame startObject() {
+            ResultFrame nested = nested();
+            return nested != null ? nested : super.startObject();
         }
 
-        return record;
+        /**
+         * [#12155] Recurse for nested data types.
+         */
+        private final ResultFrame nested() {
+            if (values != null && parent.multiset && index < values.length) {
+                DataType<?> t = parent.resultRow.field(index).getDataType();
+
+                if (t.isMultiset())
+                    return new ResultFrame((AbstractRow) t.getRow(), (Class) t.getRecordType(), true);
+            }
+
+            return null;
+        }
+
+        @Override
+        final void value(Object value) {
+            if (values != null) {
+                if (index < values.length)
+                    values[index] = value;
+
+                size = Math.max(size, index + 1);
+            }
+            else if (map != null) {
+                map.put(key, value);
+            }
+            else
+                list.add(value);
+
+            if (!object)
+                index++;
+        }
+
+        @Override
+        final Object end() {
+            if (parent.result == null)
+                parent.init(list, map);
+
+            AbstractRow<R> r0 = parent.resultRow;
+
+            if (values == null && map != null)
+                return newRecord(true, parent.type, r0, ctx.configuration()).operate(r -> {
+                    r.fromMap(map);
+                    return r;
+                });
+
+            Object[] v = values != null ? values : list.toArray();
+            int s = values != null ? size : v.length;
+
+            return newRecord(true, parent.type, r0, ctx.configuration()).operate(r -> {
+                for (int i = 0; i < s && i < r0.size(); i++) {
+                    Field<?> field = r0.field(i);
+
+                    // [#8829] LoaderImpl expects binary data to be encoded in base64,
+                    //         not according to org.jooq.tools.Convert
+                    if (field.getType() == byte[].class && v[i] instanceof String)
+                        v[i] = DatatypeConverter.parseBase64Binary((String) v[i]);
+
+                    // [#12155] Nested results are empty, not NULL
+                    else if (v[i] == null && parent.multiset && field.getDataType().isMultiset())
+                        v[i] = new ResultImpl<>(ctx.configuration(), (AbstractRow) field.getDataType().getRow());
+
+                    Tools.setValue((AbstractRecord) r, field, i, v[i]);
+                }
+
+                resetChangedOnNotNull(r);
+                return r;
+            });
+        }
     }
 }
-
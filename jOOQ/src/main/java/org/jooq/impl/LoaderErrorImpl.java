@@ -50,13 +50,15 @@ final class LoaderErrorImpl implements LoaderError {
 
     private final DataAccessException exception;
     private final int                 rowIndex;
+    private final int                 chunkIndex;
     private final String[]            row;
     private final Query               query;
 
-    LoaderErrorImpl(DataAccessException exception, Object[] row, int rowIndex, Query query) {
+    LoaderErrorImpl(DataAccessException exception, Object[] row, int rowIndex, int chunkIndex, Query query) {
         this.exception = exception;
         this.row = strings(row);
         this.rowIndex = rowIndex;
+        this.chunkIndex = chunkIndex;
         this.query = query;
     }
 
@@ -77,6 +79,11 @@ final class LoaderErrorImpl implements LoaderError {
         return rowIndex;
     }
 
+    @Override
+    public int chunkIndex() {
+        return chunkIndex;
+    }
+
     @Override
     public String[] row() {
         return row;
@@ -55,15 +55,21 @@ import java.nio.charset.CharsetDecoder;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.BitSet;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import jakarta.xml.bind.DatatypeConverter;
@@ -159,6 +165,8 @@ final class LoaderImpl<R extends Record> implements
     private int                          batchAfter                       = 1;
     private int                          bulk                             = BULK_NONE;
     private int                          bulkAfter                        = 1;
+    private boolean                      bulkCopy;
+    private int                          parallelism                      = 1;
     private int                          content                          = CONTENT_CSV;
     private Source                       input;
     private Iterator<? extends Object[]> arrays;
@@ -298,6 +306,18 @@ final class LoaderImpl<R extends Record> implements
         return this;
     }
 
+    @Override
+    public final LoaderImpl<R> bulkCopy() {
+        bulkCopy = true;
+        return this;
+    }
+
+    @Override
+    public final LoaderImpl<R> parallelism(int number) {
+        parallelism = number;
+        return this;
+    }
+
     @Override
     public final LoaderRowsStep<R> loadArrays(Object[]... a) {
         return loadArrays(Arrays.asList(a));
@@ -679,6 +699,18 @@ final class LoaderImpl<R extends Record> implements
     private final void checkFlags() {
         if (bulk != BULK_NONE && onDuplicate != ON_DUPLICATE_KEY_ERROR)
             throw new LoaderConfigurationException("Cannot apply bulk loading with onDuplicateKey flags. Turn off either flag.");
+
+        if (bulkCopy && onDuplicate != ON_DUPLICATE_KEY_ERROR)
+            throw new LoaderConfigurationException("Cannot apply COPY loading with onDuplicateKey flags. Turn off either flag.");
+
+        if (parallelism <= 0)
+            throw new LoaderConfigurationException("Parallelism must be positive: " + parallelism);
+        else if (parallelism > 1) {
+            if (commit != COMMIT_AFTER)
+                throw new LoaderConfigurationException("Parallel loading requires commitEach() or commitAfter(int), as each worker commits its chunks on its own connection.");
+            else if (bulk == BULK_ALL || batch == BATCH_ALL)
+                throw new LoaderConfigurationException("Cannot apply parallel loading with bulkAll() or batchAll(), as all rows would be executed as a single chunk.");
+        }
     }
 
     private final void executeJSON() {
@@ -760,6 +792,11 @@ final class LoaderImpl<R extends Record> implements
     }
 
     private final void executeSQL(final Iterator<? extends Object[]> iterator) {
+        if (parallelism > 1) {
+            executeParallel(iterator);
+            return;
+        }
+
         configuration.dsl().connection(connection -> {
             Configuration c = configuration.derive(new DefaultConnectionProvider(connection));
 
@@ -779,6 +816,13 @@ final class LoaderImpl<R extends Record> implements
     }
 
     private final void executeSQL(Iterator<? extends Object[]> iterator, DSLContext ctx) {
+        PostgresCopy copy = bulkCopy ? ctx.connectionResult(c -> PostgresCopy.copy(ctx, c, table)) : null;
+
+        if (copy != null) {
+            executeCopy(iterator, copy);
+            return;
+        }
+
         Object[] row = null;
         BatchBindStep bind = null;
         InsertQuery<R> insert = null;
@@ -787,35 +831,7 @@ final class LoaderImpl<R extends Record> implements
         execution: {
             rows: while (iterator.hasNext() && ((row = iterator.next()) != null)) {
                 try {
-
-                    // [#5858] Work with non String[] types from here on (e.g. after CSV import)
-                    if (row.getClass() != Object[].class)
-                        row = Arrays.copyOf(row, row.length, Object[].class);
-
-                    // [#5145][#8755] Lazy initialisation of fields from the first row
-                    // in case fields(LoaderFieldMapper) or fieldsCorresponding() was used
-                    if (fields == null)
-                        fields0(row);
-
-                    // [#1627] [#5858] Handle NULL values and base64 encodings
-                    // [#2741]         TODO: This logic will be externalised in new SPI
-                    // [#8829]         JSON binary data has already been decoded at this point
-                    for (int i = 0; i < row.length; i++)
-                        if (StringUtils.equals(nullString, row[i]))
-                            row[i] = null;
-                        else if (i < fields.length && fields[i] != null)
-                            if (fields[i].getType() == byte[].class && row[i] instanceof String)
-                                row[i] = DatatypeConverter.parseBase64Binary((String) row[i]);
-
-                    // [#10583] Pad row to the fields length
-                    if (row.length < fields.length)
-                        row = Arrays.copyOf(row, fields.length);
-
-                    rowCtx.row(row);
-                    if (onRowStart != null) {
-                        onRowStart.row(rowCtx);
-                        row = rowCtx.row();
-                    }
+                    row = prepare0(row);
 
                     // TODO: In batch mode, we can probably optimise this by not creating
                     // new statements every time, just to convert bind values to their
@@ -833,27 +849,7 @@ final class LoaderImpl<R extends Record> implements
                         insert.newRecord();
                     }
 
-                    for (int i = 0; i < row.length; i++)
-                        if (i < fields.length && fields[i] != null)
-                            addValue0(insert, fields[i], row[i]);
-
-                    // TODO: This is only supported by some dialects. Let other
-                    // dialects execute a SELECT and then either an INSERT or UPDATE
-                    if (onDuplicate == ON_DUPLICATE_KEY_UPDATE) {
-                        insert.onDuplicateKeyUpdate(true);
-
-                        for (int i = 0; i < row.length; i++)
-                            if (i < fields.length && fields[i] != null && !primaryKey.get(i))
-                                addValueForUpdate0(insert, fields[i], row[i]);
-                    }
-
-                    // [#7253]  Use native onDuplicateKeyIgnore() support
-                    else if (onDuplicate == ON_DUPLICATE_KEY_IGNORE) {
-                        insert.onDuplicateKeyIgnore(true);
-                    }
-
-                    // Don't do anything. Let the execution fail
-                    else if (onDuplicate == ON_DUPLICATE_KEY_ERROR) {}
+                    addRow0(insert, row);
 
                     try {
                         if (bulk != BULK_NONE) {
@@ -904,7 +900,7 @@ final class LoaderImpl<R extends Record> implements
                                 commit();
                     }
                     catch (DataAccessException e) {
-                        errors.add(new LoaderErrorImpl(e, row, processed - 1, insert));
+                        errors.add(new LoaderErrorImpl(e, row, processed - 1, chunk(processed - 1), insert));
                         ignored += unexecuted;
                         unexecuted = 0;
 
@@ -934,7 +930,7 @@ final class LoaderImpl<R extends Record> implements
                     unexecuted = 0;
                 }
                 catch (DataAccessException e) {
-                    errors.add(new LoaderErrorImpl(e, row, processed - 1, insert));
+                    errors.add(new LoaderErrorImpl(e, row, processed - 1, chunk(processed - 1), insert));
                     ignored += unexecuted;
                     unexecuted = 0;
                 }
@@ -950,6 +946,84 @@ final class LoaderImpl<R extends Record> implements
             // execution:
         }
 
+        commitAll0();
+    }
+
+    /**
+     * Load rows with the PostgreSQL <code>COPY</code> protocol, where each
+     * <code>COPY</code> statement replaces a bulk or batch statement.
+     */
+    private final void executeCopy(Iterator<? extends Object[]> iterator, PostgresCopy copy) {
+        int size = bulk == BULK_ALL || batch == BATCH_ALL ? Integer.MAX_VALUE : bulkAfter * batchAfter;
+        Object[] row = null;
+
+        execution: {
+            while (iterator.hasNext() && ((row = iterator.next()) != null)) {
+                try {
+                    row = prepare0(row);
+                    processed++;
+                    unexecuted++;
+                    uncommitted++;
+
+                    try {
+                        copy.fields(fields).row(row);
+
+                        if (unexecuted < size)
+                            continue;
+
+                        copy0(copy);
+
+                        if (commit == COMMIT_AFTER)
+                            if ((processed / size) % commitAfter == 0)
+                                commit();
+                    }
+                    catch (DataAccessException e) {
+                        copy.cancel();
+                        errors.add(new LoaderErrorImpl(e, row, processed - 1, chunk(processed - 1), DSL.query(copy.sql())));
+                        ignored += unexecuted;
+                        unexecuted = 0;
+
+                        if (onError == ON_ERROR_ABORT)
+                            break execution;
+                    }
+                }
+                finally {
+                    if (onRowEnd != null)
+                        onRowEnd.row(rowCtx);
+                }
+            }
+
+            // Execute remaining rows
+            if (unexecuted != 0) {
+                try {
+                    copy0(copy);
+                }
+                catch (DataAccessException e) {
+                    errors.add(new LoaderErrorImpl(e, row, processed - 1, chunk(processed - 1), DSL.query(copy.sql())));
+                    ignored += unexecuted;
+                    unexecuted = 0;
+                }
+            }
+
+            // Commit remaining elements in COMMIT_AFTER mode
+            if (commit == COMMIT_AFTER && uncommitted != 0)
+                commit();
+        }
+
+        commitAll0();
+    }
+
+    private final void copy0(PostgresCopy copy) {
+        int rowCount = copy.end();
+
+        stored += rowCount;
+        ignored += unexecuted - rowCount;
+        executed++;
+        unexecuted = 0;
+    }
+
+    private final void commitAll0() {
+
         // Rollback on errors in COMMIT_ALL mode
         try {
             if (commit == COMMIT_ALL) {
@@ -962,7 +1036,402 @@ final class LoaderImpl<R extends Record> implements
             }
         }
         catch (DataAccessException e) {
-            errors.add(new LoaderErrorImpl(e, null, processed - 1, null));
+            errors.add(new LoaderErrorImpl(e, null, processed - 1, chunk(processed - 1), null));
+        }
+    }
+
+    /**
+     * The number of rows that are committed together in
+     * {@link #COMMIT_AFTER} mode, and that form a single {@link Chunk} in
+     * parallel mode.
+     */
+    private final int chunkSize() {
+        return bulkAfter * batchAfter * commitAfter;
+    }
+
+    /**
+     * The chunk index of a given row index.
+     */
+    private final int chunk(int rowIndex) {
+        return commit == COMMIT_AFTER ? rowIndex / chunkSize() : 0;
+    }
+
+    /**
+     * Read rows on the calling thread and dispatch them in chunks of
+     * {@link #chunkSize()} rows to the {@link Configuration#executorProvider()},
+     * executing at most {@link #parallelism} chunks at a time.
+     * <p>
+     * Each chunk is executed and committed on its own connection, but commits
+     * happen in input order: A chunk waits for its predecessor before deciding
+     * whether to commit or roll back. With {@link #ON_ERROR_ABORT}, the chunk
+     * that fails first in input order, and all subsequent chunks are rolled
+     * back. The outcome is merged in input order as well, so the result does
+     * not depend on thread scheduling.
+     */
+    private final void executeParallel(Iterator<? extends Object[]> iterator) {
+        int size = chunkSize();
+        Executor executor = configuration.executorProvider().provide();
+
+        // Limit the number of chunks that are executed, and held in memory, at
+        // any time
+        Semaphore permits = new Semaphore(parallelism);
+        AtomicInteger failed = new AtomicInteger(Integer.MAX_VALUE);
+        Deque<Chunk> pending = new ArrayDeque<>();
+        ParallelOutcome outcome = new ParallelOutcome();
+        CompletableFuture<Boolean> previous = CompletableFuture.completedFuture(false);
+        List<Object[]> rows = new ArrayList<>(size);
+        Object[] row;
+
+        try {
+            while (failed.get() == Integer.MAX_VALUE && iterator.hasNext() && ((row = iterator.next()) != null)) {
+                try {
+                    rows.add(prepare0(row));
+                    processed++;
+
+                    if (rows.size() == size) {
+                        previous = submit(executor, permits, failed, pending, previous, rows);
+                        rows = new ArrayList<>(size);
+                    }
+                }
+                finally {
+                    if (onRowEnd != null)
+                        onRowEnd.row(rowCtx);
+                }
+
+                while (!pending.isEmpty() && pending.peek().done.isDone())
+                    outcome.merge(pending.poll());
+            }
+
+            if (!rows.isEmpty() && failed.get() == Integer.MAX_VALUE)
+                submit(executor, permits, failed, pending, previous, rows);
+        }
+        finally {
+
+            // Chunks complete in input order, and never wait for chunks that
+            // have not yet been submitted
+            while (!pending.isEmpty())
+                outcome.merge(pending.poll().await());
+        }
+
+        if (outcome.aborted)
+            processed = outcome.merged;
+
+        if (outcome.fatal != null)
+            throw outcome.fatal;
+    }
+
+    private final CompletableFuture<Boolean> submit(
+        Executor executor,
+        Semaphore permits,
+        AtomicInteger failed,
+        Deque<Chunk> pending,
+        CompletableFuture<Boolean> previous,
+        List<Object[]> rows
+    ) {
+        permits.acquireUninterruptibly();
+
+        Chunk chunk = new Chunk(chunk(processed - rows.size()), processed - rows.size(), rows, previous, failed, permits);
+        pending.add(chunk);
+        executor.execute(chunk);
+        return chunk.done;
+    }
+
+    /**
+     * The merged outcome of all chunks, in input order.
+     */
+    private final class ParallelOutcome {
+        int              merged;
+        boolean          aborted;
+        RuntimeException fatal;
+
+        final void merge(Chunk chunk) {
+
+            // A preceding chunk has aborted the load, and this chunk was rolled back
+            if (aborted)
+                return;
+
+            merged += chunk.rows.size();
+            stored += chunk.stored;
+            ignored += chunk.ignored;
+            executed += chunk.executed;
+            errors.addAll(chunk.errors);
+
+            if (chunk.fatal != null)
+                fatal = chunk.fatal;
+
+            aborted = chunk.abort;
+        }
+    }
+
+    /**
+     * A chunk of rows that is executed and committed by a worker thread on its
+     * own connection.
+     */
+    private final class Chunk implements Runnable {
+        final int                        index;
+        final int                        rowIndex;
+        final List<Object[]>             rows;
+        final CompletableFuture<Boolean> previous;
+        final CompletableFuture<Boolean> done;
+        final AtomicInteger              failed;
+        final Semaphore                  permits;
+        final List<LoaderError>          errors;
+        int                              stored;
+        int                              ignored;
+        int                              executed;
+        boolean                          abort;
+        RuntimeException                 fatal;
+
+        Chunk(
+            int index,
+            int rowIndex,
+            List<Object[]> rows,
+            CompletableFuture<Boolean> previous,
+            AtomicInteger failed,
+            Semaphore permits
+        ) {
+            this.index = index;
+            this.rowIndex = rowIndex;
+            this.rows = rows;
+            this.previous = previous;
+            this.done = new CompletableFuture<>();
+            this.failed = failed;
+            this.permits = permits;
+            this.errors = new ArrayList<>();
+        }
+
+        final Chunk await() {
+            done.join();
+            return this;
+        }
+
+        @Override
+        public final void run() {
+            Connection connection = null;
+            Configuration c = null;
+            boolean autoCommit = false;
+            boolean aborted = true;
+
+            try {
+
+                // Execute the chunk only if no preceding chunk has failed yet.
+                // Otherwise, it would be discarded anyway.
+                if (index < failed.get()) {
+                    connection = configuration.connectionProvider().acquire();
+
+                    // Pooled connections are usually in auto-commit mode, which
+                    // would commit each row before the chunk's turn
+                    if (autoCommit = autoCommit(connection))
+                        autoCommit(connection, false);
+
+                    c = configuration.derive(new DefaultConnectionProvider(connection));
+
+                    if (FALSE.equals(c.settings().isCachePreparedStatementInLoader())) {
+                        execute(c.dsl());
+                    }
+                    else {
+                        try (CachedPSListener cache = new CachedPSListener()) {
+                            execute(c
+                                .derive(combine(new DefaultExecuteListenerProvider(cache), c.executeListenerProviders()))
+                                .dsl()
+                            );
+                        }
+                    }
+                }
+            }
+            catch (RuntimeException e) {
+                fail(e);
+            }
+            catch (SQLException e) {
+                fail(new DataAccessException("Cannot close cached statements", e));
+            }
+            finally {
+                try {
+                    aborted = previous.join();
+
+                    if (c != null) {
+                        if (aborted || abort) {
+                            c.dsl().connection(Connection::rollback);
+                        }
+                        else {
+                            try {
+                                c.dsl().connection(Connection::commit);
+                            }
+                            catch (DataAccessException e) {
+                                errors.add(new LoaderErrorImpl(e, null, rowIndex + rows.size() - 1, index, null));
+
+                                if (onError == ON_ERROR_ABORT)
+                                    fail(null);
+                                else
+                                    rollback0();
+
+                                c.dsl().connection(Connection::rollback);
+                            }
+                        }
+                    }
+                }
+                catch (RuntimeException e) {
+                    fail(e);
+                }
+                finally {
+                    if (abort)
+                        rollback0();
+
+                    if (connection != null) {
+                        try {
+                            if (autoCommit)
+                                autoCommit(connection, true);
+                        }
+                        catch (DataAccessException e) {
+                            if (fatal == null)
+                                fatal = e;
+                        }
+                        finally {
+                            configuration.connectionProvider().release(connection);
+                        }
+                    }
+
+                    done.complete(aborted || abort);
+                    permits.release();
+                }
+            }
+        }
+
+        private final void execute(DSLContext ctx) {
+            int bulkSize = bulk == BULK_NONE ? 1 : bulkAfter;
+            int batchSize = batch == BATCH_NONE ? 1 : batchAfter;
+            int statementSize = bulkSize * batchSize;
+            PostgresCopy copy = bulkCopy ? ctx.connectionResult(c -> PostgresCopy.copy(ctx, c, table)) : null;
+
+            if (copy != null) {
+                executeCopy(copy.fields(fields), statementSize);
+                return;
+            }
+
+            for (int from = 0; from < rows.size(); from += statementSize) {
+                int to = Math.min(from + statementSize, rows.size());
+                List<InsertQuery<R>> inserts = new ArrayList<>(batchSize);
+
+                for (int i = from; i < to; i += bulkSize) {
+                    InsertQuery<R> insert = ctx.insertQuery(table);
+
+                    for (int j = i; j < Math.min(i + bulkSize, to); j++) {
+                        if (j > i)
+                            insert.newRecord();
+
+                        addRow0(insert, rows.get(j));
+                    }
+
+                    inserts.add(insert);
+                }
+
+                // The last bulk statement of the input may contain fewer rows,
+                // and thus produce different SQL than the rest of the batch
+                InsertQuery<R> tail = (to - from) % bulkSize != 0 ? inserts.remove(inserts.size() - 1) : null;
+                InsertQuery<R> last = tail != null ? tail : inserts.get(inserts.size() - 1);
+
+                try {
+                    int totalRowCounts = 0;
+
+                    if (inserts.size() > 1) {
+                        BatchBindStep bind = ctx.batch(inserts.get(0));
+
+                        for (InsertQuery<R> insert : inserts)
+                            bind.bind(insert.getBindValues().toArray());
+
+                        for (int rowCount : bind.execute())
+                            totalRowCounts += rowCount;
+                    }
+                    else if (inserts.size() == 1) {
+                        totalRowCounts += inserts.get(0).execute();
+                    }
+
+                    if (tail != null)
+                        totalRowCounts += tail.execute();
+
+                    // [#10358] The MySQL dialect category doesn't return rowcounts
+                    //          in INSERT .. ON DUPLICATE KEY UPDATE statements, but
+                    //          1 = INSERT, 2 = UPDATE, instead
+                    if (onDuplicate == ON_DUPLICATE_KEY_UPDATE && NO_SUPPORT_ROWCOUNT_ON_DUPLICATE.contains(ctx.dialect()))
+                        totalRowCounts = to - from;
+
+                    stored += totalRowCounts;
+                    ignored += to - from - totalRowCounts;
+                    executed++;
+                }
+                catch (DataAccessException e) {
+                    errors.add(new LoaderErrorImpl(e, rows.get(to - 1), rowIndex + to - 1, index, last));
+                    ignored += to - from;
+
+                    if (onError == ON_ERROR_ABORT) {
+                        fail(null);
+                        return;
+                    }
+                }
+            }
+        }
+
+        private final void executeCopy(PostgresCopy copy, int statementSize) {
+            for (int from = 0; from < rows.size(); from += statementSize) {
+                int to = Math.min(from + statementSize, rows.size());
+
+                try {
+                    for (int i = from; i < to; i++)
+                        copy.row(rows.get(i));
+
+                    int rowCount = copy.end();
+                    stored += rowCount;
+                    ignored += to - from - rowCount;
+                    executed++;
+                }
+                catch (DataAccessException e) {
+                    copy.cancel();
+                    errors.add(new LoaderErrorImpl(e, rows.get(to - 1), rowIndex + to - 1, index, DSL.query(copy.sql())));
+                    ignored += to - from;
+
+                    if (onError == ON_ERROR_ABORT) {
+                        fail(null);
+                        return;
+                    }
+                }
+            }
+        }
+
+        /**
+         * Abort the load from this chunk onwards.
+         */
+        private final void fail(RuntimeException e) {
+            if (e != null && fatal == null)
+                fatal = e;
+
+            abort = true;
+            failed.accumulateAndGet(index, Math::min);
+        }
+
+        /**
+         * All rows of a rolled back chunk count as ignored.
+         */
+        private final void rollback0() {
+            ignored = rows.size();
+            stored = 0;
+        }
+    }
+
+    private static final boolean autoCommit(Connection connection) {
+        try {
+            return connection.getAutoCommit();
+        }
+        catch (SQLException e) {
+            throw new DataAccessException("Cannot read auto-commit flag", e);
+        }
+    }
+
+    private static final void autoCommit(Connection connection, boolean autoCommit) {
+        try {
+            connection.setAutoCommit(autoCommit);
+        }
+        catch (SQLException e) {
+            throw new DataAccessException("Cannot set auto-commit flag", e);
         }
     }
 
@@ -975,6 +1444,70 @@ final class LoaderImpl<R extends Record> implements
         configuration.dsl().connection(Connection::rollback);
     }
 
+    /**
+     * Normalise a row that has just been read from the input.
+     */
+    private final Object[] prepare0(Object[] row) {
+
+        // [#5858] Work with non String[] types from here on (e.g. after CSV import)
+        if (row.getClass() != Object[].class)
+            row = Arrays.copyOf(row, row.length, Object[].class);
+
+        // [#5145][#8755] Lazy initialisation of fields from the first row
+        // in case fields(LoaderFieldMapper) or fieldsCorresponding() was used
+        if (fields == null)
+            fields0(row);
+
+        // [#1627] [#5858] Handle NULL values and base64 encodings
+        // [#2741]         TODO: This logic will be externalised in new SPI
+        // [#8829]         JSON binary data has already been decoded at this point
+        for (int i = 0; i < row.length; i++)
+            if (StringUtils.equals(nullString, row[i]))
+                row[i] = null;
+            else if (i < fields.length && fields[i] != null)
+                if (fields[i].getType() == byte[].class && row[i] instanceof String)
+                    row[i] = DatatypeConverter.parseBase64Binary((String) row[i]);
+
+        // [#10583] Pad row to the fields length
+        if (row.length < fields.length)
+            row = Arrays.copyOf(row, fields.length);
+
+        rowCtx.row(row);
+        if (onRowStart != null) {
+            onRowStart.row(rowCtx);
+            row = rowCtx.row();
+        }
+
+        return row;
+    }
+
+    /**
+     * Add a row to the current record of an <code>INSERT</code> statement.
+     */
+    private final void addRow0(InsertQuery<R> insert, Object[] row) {
+        for (int i = 0; i < row.length; i++)
+            if (i < fields.length && fields[i] != null)
+                addValue0(insert, fields[i], row[i]);
+
+        // TODO: This is only supported by some dialects. Let other
+        // dialects execute a SELECT and then either an INSERT or UPDATE
+        if (onDuplicate == ON_DUPLICATE_KEY_UPDATE) {
+            insert.onDuplicateKeyUpdate(true);
+
+            for (int i = 0; i < row.length; i++)
+                if (i < fields.length && fields[i] != null && !primaryKey.get(i))
+                    addValueForUpdate0(insert, fields[i], row[i]);
+        }
+
+        // [#7253]  Use native onDuplicateKeyIgnore() support
+        else if (onDuplicate == ON_DUPLICATE_KEY_IGNORE) {
+            insert.onDuplicateKeyIgnore(true);
+        }
+
+        // Don't do anything. Let the execution fail
+        else if (onDuplicate == ON_DUPLICATE_KEY_ERROR) {}
+    }
+
     /**
      * Type-safety...
      */
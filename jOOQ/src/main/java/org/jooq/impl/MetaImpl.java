@@ -88,6 +88,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -101,6 +102,7 @@ import org.jooq.Catalog;
 import org.jooq.Condition;
 import org.jooq.Configuration;
 import org.jooq.ConstraintEnforcementStep;
+import org.jooq.DSLContext;
 import org.jooq.DataType;
 import org.jooq.Field;
 import org.jooq.ForeignKey;
@@ -157,6 +159,22 @@ final class MetaImpl extends AbstractMeta {
     private static final Pattern         P_SYSINDEX_HSQLDB                = Pattern.compile("^(?i:SYS_IDX_(?:PK|UK|FK)_).*$");
     private static final Pattern         P_SYSINDEX_SQLITE                = Pattern.compile("^(?i:sqlite_autoindex_).*$");
 
+    // Dictionary queries producing the same columns as DatabaseMetaData's
+    // getPrimaryKeys(), getImportedKeys(), and getIndexInfo() for all tables
+    // of a schema, which is passed as the only bind value
+    private static final Map<SQLDialect, String> M_PRIMARY_KEYS  = new EnumMap<>(SQLDialect.class);
+    private static final Map<SQLDialect, String> M_IMPORTED_KEYS = new EnumMap<>(SQLDialect.class);
+    private static final Map<SQLDialect, String> M_INDEX_INFO    = new EnumMap<>(SQLDialect.class);
+
+    static {
+
+        // H2 2.x INFORMATION_SCHEMA, where the JDBC driver doesn't accept a
+        // null table name in these DatabaseMetaData calls
+        M_PRIMARY_KEYS.put(H2, "select tc.TABLE_CATALOG as TABLE_CAT, tc.TABLE_SCHEMA as TABLE_SCHEM, tc.TABLE_NAME, kcu.COLUMN_NAME, kcu.ORDINAL_POSITION as KEY_SEQ, tc.CONSTRAINT_NAME as PK_NAME from INFORMATION_SCHEMA.TABLE_CONSTRAINTS as tc join INFORMATION_SCHEMA.KEY_COLUMN_USAGE as kcu on tc.CONSTRAINT_CATALOG = kcu.CONSTRAINT_CATALOG and tc.CONSTRAINT_SCHEMA = kcu.CONSTRAINT_SCHEMA and tc.CONSTRAINT_NAME = kcu.CONSTRAINT_NAME where tc.CONSTRAINT_TYPE = 'PRIMARY KEY' and tc.TABLE_SCHEMA = ? order by tc.TABLE_NAME, kcu.COLUMN_NAME");
+        M_IMPORTED_KEYS.put(H2, "select pk.TABLE_CATALOG as PKTABLE_CAT, pk.TABLE_SCHEMA as PKTABLE_SCHEM, pk.TABLE_NAME as PKTABLE_NAME, pk.COLUMN_NAME as PKCOLUMN_NAME, fk.TABLE_CATALOG as FKTABLE_CAT, fk.TABLE_SCHEMA as FKTABLE_SCHEM, fk.TABLE_NAME as FKTABLE_NAME, fk.COLUMN_NAME as FKCOLUMN_NAME, fk.ORDINAL_POSITION as KEY_SEQ, case rc.UPDATE_RULE when 'CASCADE' then 0 when 'RESTRICT' then 1 when 'SET NULL' then 2 when 'SET DEFAULT' then 4 else 3 end as UPDATE_RULE, case rc.DELETE_RULE when 'CASCADE' then 0 when 'RESTRICT' then 1 when 'SET NULL' then 2 when 'SET DEFAULT' then 4 else 3 end as DELETE_RULE, rc.CONSTRAINT_NAME as FK_NAME, rc.UNIQUE_CONSTRAINT_NAME as PK_NAME from INFORMATION_SCHEMA.REFERENTIAL_CONSTRAINTS as rc join INFORMATION_SCHEMA.KEY_COLUMN_USAGE as fk on fk.CONSTRAINT_CATALOG = rc.CONSTRAINT_CATALOG and fk.CONSTRAINT_SCHEMA = rc.CONSTRAINT_SCHEMA and fk.CONSTRAINT_NAME = rc.CONSTRAINT_NAME join INFORMATION_SCHEMA.KEY_COLUMN_USAGE as pk on pk.CONSTRAINT_CATALOG = rc.UNIQUE_CONSTRAINT_CATALOG and pk.CONSTRAINT_SCHEMA = rc.UNIQUE_CONSTRAINT_SCHEMA and pk.CONSTRAINT_NAME = rc.UNIQUE_CONSTRAINT_NAME and pk.ORDINAL_POSITION = fk.POSITION_IN_UNIQUE_CONSTRAINT where fk.TABLE_SCHEMA = ? order by fk.TABLE_NAME, pk.TABLE_CATALOG, pk.TABLE_SCHEMA, pk.TABLE_NAME, rc.CONSTRAINT_NAME, fk.ORDINAL_POSITION");
+        M_INDEX_INFO.put(H2, "select ic.TABLE_CATALOG as TABLE_CAT, ic.TABLE_SCHEMA as TABLE_SCHEM, ic.TABLE_NAME, not ic.IS_UNIQUE as NON_UNIQUE, ic.INDEX_CATALOG as INDEX_QUALIFIER, ic.INDEX_NAME, 3 as TYPE, ic.ORDINAL_POSITION, ic.COLUMN_NAME, case ic.ORDERING_SPECIFICATION when 'DESC' then 'D' else 'A' end as ASC_OR_DESC, t.ROW_COUNT_ESTIMATE as CARDINALITY, 0 as PAGES, cast(null as varchar) as FILTER_CONDITION from INFORMATION_SCHEMA.INDEX_COLUMNS as ic join INFORMATION_SCHEMA.TABLES as t on t.TABLE_CATALOG = ic.TABLE_CATALOG and t.TABLE_SCHEMA = ic.TABLE_SCHEMA and t.TABLE_NAME = ic.TABLE_NAME where ic.TABLE_SCHEMA = ? order by ic.TABLE_NAME, NON_UNIQUE, ic.INDEX_NAME, ic.ORDINAL_POSITION");
+    }
+
     private final DatabaseMetaData       databaseMetaData;
     private final boolean                inverseSchemaCatalog;
 
@@ -342,6 +360,10 @@ final class MetaImpl extends AbstractMeta {
         private transient volatile Map<Name, Result<Record>> columnCache;
         private transient volatile Map<Name, Result<Record>> ukCache;
         private transient volatile Map<Name, Result<Record>> sequenceCache;
+        private transient volatile TableCache                pkCache;
+        private transient volatile TableCache                fkCache;
+        private transient volatile TableCache                indexCache;
+        private transient volatile boolean                   prefetchUnsupported;
 
         MetaSchema(String name, Catalog catalog) {
             super(name, catalog);
@@ -624,8 +646,180 @@ final class MetaImpl extends AbstractMeta {
             else
                 return null;
         }
+
+        final Result<Record> getPrimaryKeyInfo(String table) {
+            if (prefetch()) {
+                if (pkCache == null)
+                    pkCache = prefetch(M_PRIMARY_KEYS, GET_PRIMARY_KEYS, 2);
+
+                if (pkCache != null)
+                    return pkCache.get(dsl(), table);
+            }
+
+            return getPrimaryKeyInfo0(table);
+        }
+
+        final Result<Record> getImportedKeyInfo(String table) {
+            if (prefetch()) {
+                if (fkCache == null)
+                    fkCache = prefetch(M_IMPORTED_KEYS, GET_IMPORTED_KEYS, 6);
+
+                if (fkCache != null)
+                    return fkCache.get(dsl(), table);
+            }
+
+            return getImportedKeyInfo0(table);
+        }
+
+        final Result<Record> getIndexInfo(String table) {
+            if (prefetch()) {
+                if (indexCache == null)
+                    indexCache = prefetch(M_INDEX_INFO, GET_INDEX_INFO, 2);
+
+                if (indexCache != null)
+                    return indexCache.get(dsl(), table);
+            }
+
+            return getIndexInfo0(table);
+        }
+
+        private final boolean prefetch() {
+            return !prefetchUnsupported
+                && M_PRIMARY_KEYS.containsKey(family())
+                && TRUE.equals(settings().isMetaPrefetchKeysAndIndexes());
+        }
+
+        /**
+         * Fetch meta data for all tables of this schema at once, using a
+         * dictionary query that produces the same columns as the
+         * corresponding {@link DatabaseMetaData} call, and group the result by
+         * table name.
+         */
+        private final TableCache prefetch(Map<SQLDialect, String> queries, Class<?>[] types, int tableIndex) {
+            Result<Record> result;
+
+            try {
+                result = meta(meta -> {
+                    try (ResultSet rs = DSL.using(meta.getConnection(), family()).resultQuery(queries.get(family()), MetaSchema.this.getName()).fetchResultSet()) {
+                        return dsl().fetch(rs, types);
+                    }
+                });
+            }
+
+            // The dictionary views may differ between versions of a database
+            // product, in case of which we fall back to fetching meta data per
+            // table
+            catch (DataAccessException e) {
+                log.debug("Cannot prefetch meta data for schema " + getName(), e);
+                prefetchUnsupported = true;
+                return null;
+            }
+
+            Map<String, List<Record>> tables = new HashMap<>();
+            for (Record record : result)
+                tables.computeIfAbsent(record.get(tableIndex, String.class), t -> new ArrayList<>()).add(record);
+
+            return new TableCache(result.fields(), tables);
+        }
+
+        private final Result<Record> getPrimaryKeyInfo0(String table) {
+            return meta(meta -> {
+                try (ResultSet rs = catalogSchema(getCatalog(), this, (c, s) -> meta.getPrimaryKeys(c, s, table))) {
+                    return dsl().fetch(rs, GET_PRIMARY_KEYS);
+                }
+            });
+        }
+
+        private final Result<Record> getImportedKeyInfo0(String table) {
+            return meta(meta -> {
+                try (ResultSet rs = catalogSchema(getCatalog(), this, (c, s) -> meta.getImportedKeys(c, s, table))) {
+                    return dsl().fetch(rs, GET_IMPORTED_KEYS);
+                }
+            });
+        }
+
+        private final Result<Record> getIndexInfo0(String table) {
+            return meta(meta -> {
+                try (ResultSet rs = catalogSchema(getCatalog(), this, (c, s) -> meta.getIndexInfo(c, s, table, false, true))) {
+                    return dsl().fetch(rs, GET_INDEX_INFO);
+                }
+            });
+        }
+    }
+
+    /**
+     * {@link DatabaseMetaData} records of a schema, grouped by table name.
+     */
+    private static final class TableCache {
+        private final Field<?>[]                fields;
+        private final Map<String, List<Record>> tables;
+
+        TableCache(Field<?>[] fields, Map<String, List<Record>> tables) {
+            this.fields = fields;
+            this.tables = tables;
+        }
+
+        /**
+         * Get a new, modifiable result containing the records of a table,
+         * which is empty if the table has no such records.
+         */
+        final Result<Record> get(DSLContext ctx, String table) {
+            Result<Record> result = ctx.newResult(fields);
+            List<Record> records = tables.get(table);
+
+            if (records != null)
+                result.addAll(records);
+
+            return result;
+        }
     }
 
+    // Columns of DatabaseMetaData.getPrimaryKeys()
+    private static final Class<?>[] GET_PRIMARY_KEYS = {
+        String.class, // TABLE_CAT
+        String.class, // TABLE_SCHEM
+        String.class, // TABLE_NAME
+        String.class, // COLUMN_NAME
+        int.class,    // KEY_SEQ
+        String.class  // PK_NAME
+    };
+
+    // Columns of DatabaseMetaData.getImportedKeys()
+    private static final Class<?>[] GET_IMPORTED_KEYS = {
+        String.class,  // PKTABLE_CAT
+        String.class,  // PKTABLE_SCHEM
+        String.class,  // PKTABLE_NAME
+        String.class,  // PKCOLUMN_NAME
+        String.class,  // FKTABLE_CAT
+
+        String.class,  // FKTABLE_SCHEM
+        String.class,  // FKTABLE_NAME
+        String.class,  // FKCOLUMN_NAME
+        Short.class,   // KEY_SEQ
+        Short.class,   // UPDATE_RULE
+
+        Short.class,   // DELETE_RULE
+        String.class,  // FK_NAME
+        String.class   // PK_NAME
+    };
+
+    // Columns of DatabaseMetaData.getIndexInfo()
+    private static final Class<?>[] GET_INDEX_INFO = {
+        String.class,  // TABLE_CAT
+        String.class,  // TABLE_SCHEM
+        String.class,  // TABLE_NAME
+        boolean.class, // NON_UNIQUE
+        String.class,  // INDEX_QUALIFIER
+        String.class,  // INDEX_NAME
+        int.class,     // TYPE
+        int.class,     // ORDINAL_POSITION
+        String.class,  // COLUMN_NAME
+        String.class,  // ASC_OR_DESC
+        long.class,    // CARDINALITY
+        long.class,    // PAGES
+        String.class   // FILTER_CONDITION
+    };
+
     // Columns available from JDBC 3.0+
     private static final Class<?>[] GET_COLUMNS_SHORT = {
         String.class,  // TABLE_CAT
@@ -695,26 +889,7 @@ final class MetaImpl extends AbstractMeta {
             // See https://github.com/h2database/h2database/issues/3236
             return Tools.<List<Index>, RuntimeException>ignoreNPE(
                 () -> {
-                    Result<Record> result = removeSystemIndexes(meta(meta -> {
-                        try (ResultSet rs = catalogSchema(getCatalog(), getSchema(), (c, s) -> meta.getIndexInfo(c, s, getName(), false, true))) {
-                            return dsl().fetch(
-                                rs,
-                                String.class,  // TABLE_CAT
-                                String.class,  // TABLE_SCHEM
-                                String.class,  // TABLE_NAME
-                                boolean.class, // NON_UNIQUE
-                                String.class,  // INDEX_QUALIFIER
-                                String.class,  // INDEX_NAME
-                                int.class,     // TYPE
-                                int.class,     // ORDINAL_POSITION
-                                String.class,  // COLUMN_NAME
-                                String.class,  // ASC_OR_DESC
-                                long.class,    // CARDINALITY
-                                long.class,    // PAGES
-                                String.class   // FILTER_CONDITION
-                            );
-                        }
-                    }));
+                    Result<Record> result = removeSystemIndexes(((MetaSchema) getSchema()).getIndexInfo(getName()));
 
                     // Sort by INDEX_NAME (5), ORDINAL_POSITION (7)
                     result.sortAsc(7).sortAsc(5);
@@ -795,19 +970,7 @@ final class MetaImpl extends AbstractMeta {
 
 
 
-            Result<Record> result = meta(meta -> {
-                try (ResultSet rs = catalogSchema(getCatalog(), getSchema(), (c, s) -> meta.getPrimaryKeys(c, s, getName()))) {
-                    return dsl().fetch(
-                        rs,
-                        String.class, // TABLE_CAT
-                        String.class, // TABLE_SCHEM
-                        String.class, // TABLE_NAME
-                        String.class, // COLUMN_NAME
-                        int.class,    // KEY_SEQ
-                        String.class  // PK_NAME
-                    );
-                }
-            });
+            Result<Record> result = ((MetaSchema) getSchema()).getPrimaryKeyInfo(getName());
 
             // Sort by KEY_SEQ
             result.sortAsc(4);
@@ -817,28 +980,7 @@ final class MetaImpl extends AbstractMeta {
         @Override
         @SuppressWarnings("unchecked")
         public final List<ForeignKey<Record, ?>> getReferences() {
-            Result<Record> result = meta(meta -> {
-                try (ResultSet rs = catalogSchema(getCatalog(), getSchema(), (c, s) -> meta.getImportedKeys(c, s, getName()))) {
-                    return dsl().fetch(
-                        rs,
-                        String.class,  // PKTABLE_CAT
-                        String.class,  // PKTABLE_SCHEM
-                        String.class,  // PKTABLE_NAME
-                        String.class,  // PKCOLUMN_NAME
-                        String.class,  // FKTABLE_CAT
-
-                        String.class,  // FKTABLE_SCHEM
-                        String.class,  // FKTABLE_NAME
-                        String.class,  // FKCOLUMN_NAME
-                        Short.class,   // KEY_SEQ
-                        Short.class,   // UPDATE_RULE
-
-                        Short.class,   // DELETE_RULE
-                        String.class,  // FK_NAME
-                        String.class   // PK_NAME
-                    );
-                }
-            });
+            Result<Record> result = ((MetaSchema) getSchema()).getImportedKeyInfo(getName());
 
             Map<Record, Result<Record>> groups = result.intoGroups(new Field[] {
                 result.field(inverseSchemaCatalog ? 1 : 0),
@@ -0,0 +1,341 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.jooq.SQLDialect.POSTGRES;
+import static org.jooq.impl.DSL.name;
+import static org.jooq.impl.Tools.EMPTY_FIELD;
+import static org.jooq.impl.Tools.map;
+import static org.jooq.impl.Tools.translate;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.jooq.Converter;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.SQLDialect;
+import org.jooq.Table;
+import org.jooq.TableRecord;
+import org.jooq.impl.DefaultUnwrapperProvider.DefaultUnwrapper;
+import org.jooq.types.DayToSecond;
+import org.jooq.types.YearToMonth;
+import org.jooq.types.YearToSecond;
+import org.jooq.util.postgres.PostgresUtils;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+
+/**
+ * A writer streaming rows into a PostgreSQL table using pgjdbc's
+ * {@link CopyManager} and the <code>COPY .. FROM STDIN</code> text format.
+ * <p>
+ * Each sequence of {@link #row(Object[])} calls up to the next {@link #end()}
+ * is sent to the server as a single <code>COPY</code> statement, which copies
+ * the columns specified in {@link #fields(Field[])}. Values are
+ * encoded the same way as PostgreSQL bind values are, i.e. via the field's
+ * {@link Converter} and {@link PostgresUtils#toPGString(Object)}.
+ */
+final class PostgresCopy {
+
+    /**
+     * The number of characters after which buffered rows are sent to the
+     * server.
+     */
+    private static final int     FLUSH_SIZE = 65536;
+    private static volatile Boolean copyManagerAvailable;
+
+    private final DSLContext     ctx;
+    private final Table<?>       table;
+    private final CopyManager    manager;
+    private final StringBuilder  buffer;
+    private Field<?>[]           fields;
+    private String               sql;
+    private CopyIn               in;
+
+    private PostgresCopy(DSLContext ctx, Table<?> table, CopyManager manager) {
+        this.ctx = ctx;
+        this.table = table;
+        this.manager = manager;
+        this.buffer = new StringBuilder();
+    }
+
+    /**
+     * Create a <code>COPY</code> writer for a table, or <code>null</code> if
+     * the dialect is not {@link SQLDialect#POSTGRES}, or the JDBC driver does
+     * not expose a {@link CopyManager}.
+     * <p>
+     * The writer must not be used after the connection has been released.
+     */
+    static final PostgresCopy copy(DSLContext ctx, Connection connection, Table<?> table) {
+        if (ctx.family() != POSTGRES || !copyManagerAvailable())
+            return null;
+
+        CopyManager manager;
+        try {
+            if (!DefaultUnwrapper.isWrapperFor(connection, PGConnection.class))
+                return null;
+
+            manager = connection.unwrap(PGConnection.class).getCopyAPI();
+        }
+        catch (SQLException e) {
+            return null;
+        }
+
+        return new PostgresCopy(ctx, table, manager);
+    }
+
+    /**
+     * Copy the changed values of a set of records into their tables.
+     *
+     * @return The total number of copied rows, or <code>-1</code> if
+     *         <code>COPY</code> is not available, in case of which nothing has
+     *         been copied.
+     */
+    static final int insert(DSLContext ctx, Connection connection, TableRecord<?>[] records) {
+        if (records.length == 0)
+            return 0;
+        else if (copy(ctx, connection, records[0].getTable()) == null)
+            return -1;
+
+        // Group records by table and by changed fields, retaining their order
+        Map<Table<?>, Map<List<Field<?>>, List<TableRecord<?>>>> groups = new LinkedHashMap<>();
+        for (TableRecord<?> record : records) {
+            List<Field<?>> changed = new ArrayList<>(record.size());
+
+            for (int i = 0; i < record.size(); i++)
+                if (record.changed(i))
+                    changed.add(record.field(i));
+
+            groups.computeIfAbsent(record.getTable(), t -> new LinkedHashMap<>())
+                  .computeIfAbsent(changed, c -> new ArrayList<>())
+                  .add(record);
+        }
+
+        int result = 0;
+        for (Entry<Table<?>, Map<List<Field<?>>, List<TableRecord<?>>>> table : groups.entrySet()) {
+            PostgresCopy copy = copy(ctx, connection, table.getKey());
+
+            for (Entry<List<Field<?>>, List<TableRecord<?>>> group : table.getValue().entrySet()) {
+                Field<?>[] fields = group.getKey().toArray(EMPTY_FIELD);
+                copy.fields(fields);
+
+                for (TableRecord<?> record : group.getValue())
+                    copy.row(map(fields, f -> record.get(f), Object[]::new));
+
+                result += copy.end();
+
+                for (TableRecord<?> record : group.getValue())
+                    record.changed(false);
+            }
+        }
+
+        return result;
+    }
+
+    private static final boolean copyManagerAvailable() {
+        if (copyManagerAvailable == null) {
+            try {
+                CopyManager.class.getName();
+                copyManagerAvailable = true;
+            }
+            catch (NoClassDefFoundError e) {
+                copyManagerAvailable = false;
+            }
+        }
+
+        return copyManagerAvailable;
+    }
+
+    /**
+     * Specify the columns to copy.
+     *
+     * @param f The columns to copy. <code>null</code> array elements
+     *            correspond to row values that should be skipped.
+     */
+    final PostgresCopy fields(Field<?>[] f) {
+        if (fields != f) {
+            StringBuilder sb = new StringBuilder("copy ").append(ctx.render(table)).append(" (");
+            String separator = "";
+
+            for (Field<?> field : f) {
+                if (field != null) {
+                    sb.append(separator).append(ctx.render(name(field.getName())));
+                    separator = ", ";
+                }
+            }
+
+            fields = f;
+            sql = sb.append(") from stdin").toString();
+        }
+
+        return this;
+    }
+
+    final String sql() {
+        return sql;
+    }
+
+    /**
+     * Add a row to the current <code>COPY</code> statement, starting a new
+     * statement if needed.
+     */
+    final void row(Object[] row) {
+        try {
+            if (in == null)
+                in = manager.copyIn(sql);
+
+            String separator = "";
+            for (int i = 0; i < fields.length; i++) {
+                if (fields[i] != null) {
+                    buffer.append(separator);
+                    value(buffer, fields[i], i < row.length ? row[i] : null);
+                    separator = "\t";
+                }
+            }
+
+            buffer.append('\n');
+
+            if (buffer.length() >= FLUSH_SIZE)
+                flush();
+        }
+        catch (SQLException e) {
+            cancel();
+            throw translate(sql, e);
+        }
+    }
+
+    /**
+     * Complete the current <code>COPY</code> statement.
+     *
+     * @return The number of copied rows.
+     */
+    final int end() {
+        if (in == null)
+            return 0;
+
+        try {
+            flush();
+            return (int) in.endCopy();
+        }
+        catch (SQLException e) {
+            cancel();
+            throw translate(sql, e);
+        }
+        finally {
+            in = null;
+        }
+    }
+
+    /**
+     * Cancel the current <code>COPY</code> statement, discarding all of its
+     * rows.
+     */
+    final void cancel() {
+        buffer.setLength(0);
+
+        try {
+            if (in != null && in.isActive())
+                in.cancelCopy();
+        }
+        catch (SQLException ignore) {}
+        finally {
+            in = null;
+        }
+    }
+
+    private final void flush() throws SQLException {
+        byte[] bytes = buffer.toString().getBytes(UTF_8);
+        in.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static final void value(StringBuilder sb, Field<?> field, Object value) {
+        Object o = ((Converter) field.getConverter()).to(field.getDataType().convert(value));
+
+        if (o == null)
+            sb.append("\\N");
+        else if (o instanceof byte[])
+            hex(sb, (byte[]) o);
+        else if (o instanceof DayToSecond)
+            escape(sb, PostgresUtils.toPGInterval((DayToSecond) o).toString());
+        else if (o instanceof YearToMonth)
+            escape(sb, PostgresUtils.toPGInterval((YearToMonth) o).toString());
+        else if (o instanceof YearToSecond)
+            escape(sb, PostgresUtils.toPGInterval((YearToSecond) o).toString());
+        else
+            escape(sb, PostgresUtils.toPGString(o));
+    }
+
+    /**
+     * Encode a <code>bytea</code> value in hex format, with the leading
+     * backslash escaped for the text format.
+     */
+    private static final void hex(StringBuilder sb, byte[] bytes) {
+        sb.append("\\\\x");
+
+        for (byte b : bytes)
+            sb.append(Character.forDigit((b >> 4) & 0xF, 16))
+              .append(Character.forDigit(b & 0xF, 16));
+    }
+
+    /**
+     * Escape a value for the text format.
+     */
+    private static final void escape(StringBuilder sb, String string) {
+        for (int i = 0; i < string.length(); i++) {
+            char c = string.charAt(i);
+
+            switch (c) {
+                case '\\': sb.append("\\\\"); break;
+                case '\n': sb.append("\\n"); break;
+                case '\r': sb.append("\\r"); break;
+                case '\t': sb.append("\\t"); break;
+                default:   sb.append(c); break;
+            }
+        }
+    }
+}
@@ -64,6 +64,8 @@ import java.sql.Types;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.List;
+import java.util.Objects;
 import java.util.Properties;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -189,6 +191,18 @@ final class R2DBC {
             return !completed.get() && requested.getAndUpdate(l -> l == Long.MAX_VALUE ? l : Math.max(0, l - 1)) > 0;
         }
 
+        /**
+         * Take up to <code>max</code> elements from the outstanding demand,
+         * returning the number of elements taken.
+         */
+        final long moreRequested(long max) {
+            if (completed.get() || max <= 0)
+                return 0;
+
+            long previous = requested.getAndUpdate(l -> l == Long.MAX_VALUE ? l : Math.max(0, l - max));
+            return Math.min(previous, max);
+        }
+
         final void complete(boolean cancelled) {
 
             // required_spec306_afterSubscriptionIsCancelledRequestMustBeNops
@@ -211,23 +225,32 @@ final class R2DBC {
         final AbstractResultSubscriber<T>   resultSubscriber;
         final AtomicReference<Subscription> subscription;
 
+        /**
+         * The number of elements requested from the upstream subscription,
+         * which have not yet been received.
+         */
+        final AtomicLong                    outstanding;
+
         Forwarding(int forwarderIndex, AbstractResultSubscriber<T> resultSubscriber) {
             this.forwarderIndex = forwarderIndex;
             this.resultSubscriber = resultSubscriber;
             this.subscription = new AtomicReference<>();
+            this.outstanding = new AtomicLong();
         }
 
         @Override
         public final void onSubscribe(Subscription s) {
             subscription.set(s);
-            resultSubscriber.downstream.request2(s);
+            resultSubscriber.downstream.request2(this);
         }
 
         @Override
         public final void onNext(T value) {
+            outstanding.decrementAndGet();
+
             if (!resultSubscriber.downstream.completed.get()) {
                 resultSubscriber.downstream.subscriber.onNext(value);
-                resultSubscriber.downstream.request2(subscription.get());
+                resultSubscriber.downstream.request2(this);
             }
         }
 
@@ -240,6 +263,7 @@ final class R2DBC {
         public final void onComplete() {
             resultSubscriber.downstream.forwarders.remove(forwarderIndex);
             resultSubscriber.complete();
+            resultSubscriber.requestResult();
         }
     }
 
@@ -247,15 +271,29 @@ final class R2DBC {
 
         final AbstractNonBlockingSubscription<? super T> downstream;
         final AtomicBoolean                              completed;
+        final AtomicReference<Subscription>              subscription;
 
         AbstractResultSubscriber(AbstractNonBlockingSubscription<? super T> downstream) {
             this.downstream = downstream;
             this.completed = new AtomicBoolean();
+            this.subscription = new AtomicReference<>();
         }
 
         @Override
         public final void onSubscribe(Subscription s) {
-            s.request(Long.MAX_VALUE);
+            subscription.set(s);
+
+            // Results are consumed one at a time, to prevent drivers from
+            // producing further results (and their rows) before the downstream
+            // subscriber has demanded them
+            s.request(1);
+        }
+
+        final void requestResult() {
+            Subscription s = subscription.get();
+
+            if (s != null && !completed.get() && !downstream.completed.get())
+                s.request(1);
         }
 
         @Override
@@ -300,36 +338,11 @@ final class R2DBC {
         @SuppressWarnings("unchecked")
         @Override
         public final void onNext(Result r) {
+            RowReader reader = new RowReader();
+
             r.map((row, meta) -> {
                 try {
-                    // TODO: Cache this getFields() call
-                    Field<?>[] fields = query.getFields(new R2DBCResultSetMetaData(query.configuration(), meta));
-
-                    // TODO: This call is duplicated from CursorImpl and related classes.
-                    // Refactor this call to make sure code is re-used, especially when
-                    // ExecuteListener lifecycle management is implemented
-                    RecordDelegate<? extends AbstractRecord> delegate = Tools.newRecord(true, recordFactory((Class<AbstractRecord>) query.getRecordType(), (AbstractRow<AbstractRecord>) Tools.row0(fields)), query.configuration());
-
-                    return (R) delegate.operate(record -> {
-
-                        // TODO: What data to pass here?
-                        DefaultBindingGetResultSetContext<?> ctx = new DefaultBindingGetResultSetContext(
-                            new SimpleExecuteContext(query.configuration(), query.configuration().data()),
-                            new R2DBCResultSet(query.configuration(), row, meta),
-                            0
-                        );
-
-                        // TODO: Make sure all the embeddable records, and other types of nested records are supported
-                        for (int i = 0; i < fields.length; i++) {
-                            ctx.index(i + 1);
-                            ctx.field((Field) fields[i]);
-                            fields[i].getBinding().get((BindingGetResultSetContext) ctx);
-                            record.values[i] = ctx.value();
-                            record.originals[i] = ctx.value();
-                        }
-
-                        return record;
-                    });
+                    return (R) reader.read(row, meta);
                 }
 
                 // TODO: More specific error handling
@@ -339,6 +352,80 @@ final class R2DBC {
                 }
             }).subscribe(downstream.forwardingSubscriber((AbstractResultSubscriber) this));
         }
+
+        /**
+         * The state needed to read the rows of a single {@link Result}, which
+         * is resolved only once per {@link RowMetadata}, similar to the per
+         * cursor state of {@link CursorImpl}.
+         */
+        final class RowReader {
+            RowMetadata                          meta;
+            Field<?>[]                           fields;
+            RecordDelegate<AbstractRecord>       delegate;
+            R2DBCResultSet                       rs;
+            DefaultBindingGetResultSetContext<?> ctx;
+
+            @SuppressWarnings("unchecked")
+            final AbstractRecord read(Row row, RowMetadata m) throws SQLException {
+                if (meta != m) {
+                    if (meta == null || !sameColumns(meta, m))
+                        init(m);
+                    else
+                        meta = m;
+                }
+
+                rs.row(row, m);
+                return delegate.operate(record -> {
+
+                    // TODO: Make sure all the embeddable records, and other types of nested records are supported
+                    for (int i = 0; i < fields.length; i++) {
+                        ctx.index(i + 1);
+                        ctx.field((Field) fields[i]);
+                        fields[i].getBinding().get((BindingGetResultSetContext) ctx);
+                        record.values[i] = ctx.value();
+                        record.originals[i] = ctx.value();
+                    }
+
+                    return record;
+                });
+            }
+
+            @SuppressWarnings("unchecked")
+            private final void init(RowMetadata m) throws SQLException {
+                Configuration c = query.configuration();
+
+                meta = m;
+                fields = query.getFields(new R2DBCResultSetMetaData(c, m));
+
+                // TODO: This call is duplicated from CursorImpl and related classes.
+                // Refactor this call to make sure code is re-used, especially when
+                // ExecuteListener lifecycle management is implemented
+                delegate = Tools.newRecord(true, recordFactory((Class<AbstractRecord>) query.getRecordType(), (AbstractRow<AbstractRecord>) Tools.row0(fields)), c);
+                rs = new R2DBCResultSet(c, null, m);
+
+                // TODO: What data to pass here?
+                ctx = new DefaultBindingGetResultSetContext<>(new SimpleExecuteContext(c, c.data()), rs, 0);
+            }
+        }
+    }
+
+    /**
+     * Whether two {@link RowMetadata} instances describe the same columns.
+     * Drivers may produce a new instance per row, even if all rows of a
+     * {@link Result} are of the same shape.
+     */
+    static final boolean sameColumns(RowMetadata m1, RowMetadata m2) {
+        List<? extends ColumnMetadata> c1 = m1.getColumnMetadatas();
+        List<? extends ColumnMetadata> c2 = m2.getColumnMetadatas();
+
+        if (c1.size() != c2.size())
+            return false;
+
+        for (int i = 0; i < c1.size(); i++)
+            if (!c1.get(i).getName().equals(c2.get(i).getName()) || !Objects.equals(c1.get(i).getJavaType(), c2.get(i).getJavaType()))
+                return false;
+
+        return true;
     }
 
     static abstract class ConnectionSubscriber<T> implements Subscriber<Connection> {
@@ -518,6 +605,8 @@ final class R2DBC {
         final Publisher<? extends Connection>       connection;
         final AtomicInteger                         nextForwarderIndex;
         final ConcurrentMap<Integer, Forwarding<T>> forwarders;
+        final int                                   prefetch;
+        final int                                   lowWatermark;
 
         AbstractNonBlockingSubscription(
             Configuration configuration,
@@ -529,6 +618,8 @@ final class R2DBC {
             this.connection = configuration.connectionFactory().create();
             this.nextForwarderIndex = new AtomicInteger();
             this.forwarders = new ConcurrentHashMap<>();
+            this.prefetch = Math.max(1, defaultIfNull(configuration.settings().getR2dbcPrefetch(), 256));
+            this.lowWatermark = Math.max(0, Math.min(prefetch - 1, defaultIfNull(configuration.settings().getR2dbcLowWatermark(), 64)));
         }
 
         abstract String sql();
@@ -567,12 +658,29 @@ final class R2DBC {
         }
 
         private final void request1() {
-            forAllForwardingSubscriptions(this::request2);
+            for (Forwarding<T> f : forwarders.values())
+                request2(f);
         }
 
-        final void request2(Subscription s) {
-            if (moreRequested())
-                s.request(1);
+        final void request2(Forwarding<?> f) {
+            Subscription s = f.subscription.get();
+
+            // Propagate downstream demand to the upstream subscription in
+            // batches of up to prefetch elements, replenishing only once the
+            // outstanding upstream demand drops to the low watermark. Upstream
+            // demand never exceeds downstream demand.
+            if (s != null) {
+                long o = f.outstanding.get();
+
+                if (o <= lowWatermark) {
+                    long n = moreRequested(prefetch - o);
+
+                    if (n > 0) {
+                        f.outstanding.addAndGet(n);
+                        s.request(n);
+                    }
+                }
+            }
         }
 
         @Override
@@ -983,8 +1091,8 @@ final class R2DBC {
     static final class R2DBCResultSet extends DefaultResultSet {
 
         final Configuration c;
-        final Row           r;
-        final RowMetadata   m;
+        Row                 r;
+        RowMetadata         m;
         boolean             wasNull;
 
         R2DBCResultSet(Configuration c, Row r, RowMetadata m) {
@@ -995,6 +1103,15 @@ final class R2DBC {
             this.m = m;
         }
 
+        /**
+         * Position this result set on a new row of the same result.
+         */
+        final void row(Row row, RowMetadata meta) {
+            this.r = new DefaultRow(c, row);
+            this.m = meta;
+            this.wasNull = false;
+        }
+
         private final <T> T wasNull(T nullable) {
             wasNull = nullable == null;
             return nullable;
@@ -114,9 +114,13 @@ final class ResultImpl<R extends Record> extends AbstractResult<R> implements Re
     }
 
     ResultImpl(Configuration configuration, AbstractRow fields) {
+        this(configuration, fields, new ArrayList<>());
+    }
+
+    ResultImpl(Configuration configuration, AbstractRow fields, List<R> records) {
         super(configuration, fields);
 
-        this.records = new ArrayList<>();
+        this.records = records;
     }
 
     // -------------------------------------------------------------------------
@@ -125,7 +129,19 @@ final class ResultImpl<R extends Record> extends AbstractResult<R> implements Re
 
     @Override
     final List<? extends Attachable> getAttachables() {
-        return records;
+        return records instanceof ColumnarRecords
+             ? Collections.singletonList((ColumnarRecords<R>) records)
+             : records;
+    }
+
+    private final ColumnarRecords<R> columnar() {
+        return records instanceof ColumnarRecords ? (ColumnarRecords<R>) records : null;
+    }
+
+    @Override
+    final Iterable<R> readOnly() {
+        ColumnarRecords<R> c = columnar();
+        return c != null ? c.readOnly() : this;
     }
 
     // -------------------------------------------------------------------------
@@ -149,21 +165,43 @@ final class ResultImpl<R extends Record> extends AbstractResult<R> implements Re
 
     @Override
     public final <T> T getValue(int index, Field<T> field) {
+        ColumnarRecords<R> c = columnar();
+        int fieldIndex;
+
+        if (c != null && (fieldIndex = fields.indexOf(field)) >= 0)
+            return (T) c.get(index, fieldIndex);
+
         return get(index).get(field);
     }
 
     @Override
     public final Object getValue(int index, int fieldIndex) {
+        ColumnarRecords<R> c = columnar();
+
+        if (c != null)
+            return c.get(index, safeIndex(fieldIndex));
+
         return get(index).get(fieldIndex);
     }
 
     @Override
     public final Object getValue(int index, String fieldName) {
+        ColumnarRecords<R> c = columnar();
+
+        if (c != null)
+            return c.get(index, indexOrFail(this, fieldName));
+
         return get(index).get(fieldName);
     }
 
     @Override
     public final <T> List<T> getValues(Field<T> field) {
+        ColumnarRecords<R> c = columnar();
+        int fieldIndex;
+
+        if (c != null && (fieldIndex = fields.indexOf(field)) >= 0)
+            return (List<T>) c.getValues(fieldIndex);
+
         return collect(intoList(recordType().mapper(field)));
     }
 
@@ -179,6 +217,11 @@ final class ResultImpl<R extends Record> extends AbstractResult<R> implements Re
 
     @Override
     public final List<?> getValues(int fieldIndex) {
+        ColumnarRecords<R> c = columnar();
+
+        if (c != null)
+            return c.getValues(safeIndex(fieldIndex));
+
         return collect(intoList(recordType().mapper(fieldIndex)));
     }
 
@@ -194,6 +237,11 @@ final class ResultImpl<R extends Record> extends AbstractResult<R> implements Re
 
     @Override
     public final List<?> getValues(String fieldName) {
+        ColumnarRecords<R> c = columnar();
+
+        if (c != null)
+            return c.getValues(indexOrFail(this, fieldName));
+
         return collect(intoList(recordType().mapper(fieldName)));
     }
 
@@ -209,6 +257,11 @@ final class ResultImpl<R extends Record> extends AbstractResult<R> implements Re
 
     @Override
     public final List<?> getValues(Name fieldName) {
+        ColumnarRecords<R> c = columnar();
+
+        if (c != null)
+            return c.getValues(indexOrFail(this, fieldName));
+
         return collect(intoList(recordType().mapper(fieldName)));
     }
 
@@ -653,11 +706,21 @@ final class ResultImpl<R extends Record> extends AbstractResult<R> implements Re
 
     @Override
     public final Object[][] intoArrays() {
+        ColumnarRecords<R> c = columnar();
+
+        if (c != null)
+            return c.intoArrays();
+
         return collect(Records.intoArray(new Object[0][], R::intoArray));
     }
 
     @Override
     public final Object[] intoArray(int fieldIndex) {
+        ColumnarRecords<R> c = columnar();
+
+        if (c != null)
+            return c.intoArray(safeIndex(fieldIndex), field(fieldIndex).getType());
+
         return collect(Records.intoArray(field(safeIndex(fieldIndex)).getType(), recordType().mapper(fieldIndex)));
     }
 
@@ -673,6 +736,13 @@ final class ResultImpl<R extends Record> extends AbstractResult<R> implements Re
 
     @Override
     public final Object[] intoArray(String fieldName) {
+        ColumnarRecords<R> c = columnar();
+
+        if (c != null) {
+            int fieldIndex = indexOrFail(this, fieldName);
+            return c.intoArray(fieldIndex, field(fieldIndex).getType());
+        }
+
         return collect(Records.intoArray(field(indexOrFail(this, fieldName)).getType(), recordType().mapper(fieldName)));
     }
 
@@ -688,6 +758,13 @@ final class ResultImpl<R extends Record> extends AbstractResult<R> implements Re
 
     @Override
     public final Object[] intoArray(Name fieldName) {
+        ColumnarRecords<R> c = columnar();
+
+        if (c != null) {
+            int fieldIndex = indexOrFail(this, fieldName);
+            return c.intoArray(fieldIndex, field(fieldIndex).getType());
+        }
+
         return collect(Records.intoArray(field(indexOrFail(this, fieldName)).getType(), recordType().mapper(fieldName)));
     }
 
@@ -703,6 +780,12 @@ final class ResultImpl<R extends Record> extends AbstractResult<R> implements Re
 
     @Override
     public final <T> T[] intoArray(Field<T> field) {
+        ColumnarRecords<R> c = columnar();
+        int fieldIndex;
+
+        if (c != null && (fieldIndex = fields.indexOf(field)) >= 0)
+            return (T[]) c.intoArray(fieldIndex, field.getType());
+
         return collect(Records.intoArray(field.getType(), recordType().mapper(field)));
     }
 
@@ -907,7 +990,7 @@ final class ResultImpl<R extends Record> extends AbstractResult<R> implements Re
 
     @Override
     public final <E> List<E> into(Class<? extends E> type) {
-        return collect(intoList(recordType().mapper(Tools.configuration(this), type)));
+        return map(recordType().mapper(Tools.configuration(this), type));
     }
 
     @Override
@@ -933,7 +1016,13 @@ final class ResultImpl<R extends Record> extends AbstractResult<R> implements Re
 
     @Override
     public final <E> List<E> map(RecordMapper<? super R, E> mapper) {
-        return Tools.map(this, t -> mapper.map(t));
+        List<E> result = new ArrayList<>(size());
+
+        // Mapping doesn't need to switch columnar results to row-wise storage
+        for (R record : readOnly())
+            result.add(mapper.map(record));
+
+        return result;
     }
 
     @Override
@@ -1034,10 +1123,21 @@ final class ResultImpl<R extends Record> extends AbstractResult<R> implements Re
 
     @Override
     public final Result<R> intern(int... fieldIndexes) {
-        for (int fieldIndex : fieldIndexes)
-            if (fields.field(fieldIndex).getType() == String.class)
+
+        // Column-wise storage already deduplicates strings. Once records are
+        // stored row-wise, they are interned like any other records.
+        ColumnarRecords<R> c = columnar();
+        if (c != null && c.columnWise())
+            return this;
+
+        for (int fieldIndex : fieldIndexes) {
+            if (fields.field(fieldIndex).getType() == String.class) {
+                StringInterner interner = new StringInterner(false);
+
                 for (Record record : this)
-                    ((AbstractRecord) record).intern0(fieldIndex);
+                    ((AbstractRecord) record).intern0(fieldIndex, interner);
+            }
+        }
 
         return this;
     }
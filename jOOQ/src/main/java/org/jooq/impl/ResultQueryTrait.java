@@ -51,6 +51,8 @@ import static org.jooq.impl.Tools.blocking;
 import static org.jooq.impl.Tools.indexOrFail;
 import static org.jooq.tools.jdbc.JDBCUtils.safeClose;
 
+import java.io.BufferedWriter;
+import java.io.Writer;
 import java.lang.reflect.Array;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
@@ -72,11 +74,13 @@ import java.util.stream.Collector;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import org.jooq.CSVFormat;
 import org.jooq.CloseableResultQuery;
 import org.jooq.Configuration;
 import org.jooq.Converter;
 import org.jooq.Cursor;
 import org.jooq.Field;
+import org.jooq.JSONFormat;
 import org.jooq.Name;
 import org.jooq.QueryPartInternal;
 import org.jooq.Record;
@@ -111,6 +115,7 @@ import org.jooq.Results;
 import org.jooq.Row;
 import org.jooq.Select;
 import org.jooq.Table;
+import org.jooq.XMLFormat;
 import org.jooq.exception.DataAccessException;
 import org.jooq.impl.R2DBC.BlockingRecordSubscription;
 import org.jooq.impl.R2DBC.QuerySubscription;
@@ -281,6 +286,48 @@ extends
         return new ResultAsCursor<R>(fetch());
     }
 
+    @Override
+    default void formatCSV(Writer writer) {
+        try (Cursor<R> c = fetchLazy()) {
+            c.formatCSV(new BufferedWriter(writer));
+        }
+    }
+
+    @Override
+    default void formatCSV(Writer writer, CSVFormat format) {
+        try (Cursor<R> c = fetchLazy()) {
+            c.formatCSV(new BufferedWriter(writer), format);
+        }
+    }
+
+    @Override
+    default void formatJSON(Writer writer) {
+        try (Cursor<R> c = fetchLazy()) {
+            c.formatJSON(new BufferedWriter(writer));
+        }
+    }
+
+    @Override
+    default void formatJSON(Writer writer, JSONFormat format) {
+        try (Cursor<R> c = fetchLazy()) {
+            c.formatJSON(new BufferedWriter(writer), format);
+        }
+    }
+
+    @Override
+    default void formatXML(Writer writer) {
+        try (Cursor<R> c = fetchLazy()) {
+            c.formatXML(new BufferedWriter(writer));
+        }
+    }
+
+    @Override
+    default void formatXML(Writer writer, XMLFormat format) {
+        try (Cursor<R> c = fetchLazy()) {
+            c.formatXML(new BufferedWriter(writer), format);
+        }
+    }
+
     @Override
     default Results fetchMany() throws DataAccessException {
         throw new DataAccessException("Attempt to call fetchMany() on " + getClass());
@@ -0,0 +1,207 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.sql.Savepoint;
+import java.util.function.Supplier;
+
+import org.jooq.Configuration;
+import org.jooq.ConnectionProvider;
+import org.jooq.TransactionProvider;
+import org.jooq.exception.DataAccessException;
+import org.jooq.tools.JooqLogger;
+
+/**
+ * A {@link ThreadLocalTransactionProvider} that binds its transaction state to
+ * a <code>java.lang.ScopedValue</code>, rather than to a {@link ThreadLocal},
+ * if scoped values are available.
+ * <p>
+ * The scoped value is bound for the duration of the outermost
+ * <code>transactionResult()</code> call. This means that:
+ * <ul>
+ * <li>Threads don't carry any transaction state in their {@link ThreadLocal}
+ * maps, which matters when running millions of virtual threads.</li>
+ * <li>Child tasks that are forked inside of a transaction using structured
+ * concurrency (e.g. a <code>StructuredTaskScope</code>) inherit the
+ * transaction's connection and {@link Configuration}. Such tasks may run
+ * queries in the transaction, but must not start, commit, or roll back any
+ * (nested) transactions, and must complete before the forking transaction
+ * does.</li>
+ * </ul>
+ * <p>
+ * On JDKs without scoped values, this provider behaves exactly like the
+ * {@link ThreadLocalTransactionProvider}.
+ */
+public class ScopedValueTransactionProvider extends ThreadLocalTransactionProvider {
+
+    private static final JooqLogger   log = JooqLogger.getLogger(ScopedValueTransactionProvider.class);
+
+    // The ScopedValue API can only be accessed reflectively as long as we
+    // support JDK 11
+    private static final MethodHandle NEW_INSTANCE;
+    private static final MethodHandle WHERE;
+    private static final MethodHandle RUN;
+    private static final MethodHandle IS_BOUND;
+    private static final MethodHandle GET;
+
+    static {
+        MethodHandle newInstance = null;
+        MethodHandle where = null;
+        MethodHandle run = null;
+        MethodHandle isBound = null;
+        MethodHandle get = null;
+
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            Class<?> scopedValue = Class.forName("java.lang.ScopedValue");
+            Class<?> carrier = Class.forName("java.lang.ScopedValue$Carrier");
+
+            newInstance = lookup.findStatic(scopedValue, "newInstance", MethodType.methodType(scopedValue));
+            where = lookup.findStatic(scopedValue, "where", MethodType.methodType(carrier, scopedValue, Object.class));
+            run = lookup.findVirtual(carrier, "run", MethodType.methodType(void.class, Runnable.class));
+            isBound = lookup.findVirtual(scopedValue, "isBound", MethodType.methodType(boolean.class));
+            get = lookup.findVirtual(scopedValue, "get", MethodType.methodType(Object.class));
+
+            // Scoped values may be a preview feature that is not enabled
+            newInstance.invoke();
+        }
+        catch (Throwable e) {
+            if (log.isDebugEnabled())
+                log.debug("Scoped values", "Scoped values are not available, using thread locals instead: " + e.getMessage());
+
+            newInstance = null;
+        }
+
+        NEW_INSTANCE = newInstance;
+        WHERE = where;
+        RUN = run;
+        IS_BOUND = isBound;
+        GET = get;
+    }
+
+    /**
+     * The <code>ScopedValue&lt;TransactionState&gt;</code>, or
+     * <code>null</code> if scoped values are not available.
+     */
+    private final Object scopedState;
+
+    public ScopedValueTransactionProvider(ConnectionProvider connectionProvider) {
+        this(connectionProvider, true);
+    }
+
+    /**
+     * @param nested Whether nested transactions via {@link Savepoint}s are
+     *            supported.
+     */
+    public ScopedValueTransactionProvider(ConnectionProvider connectionProvider, boolean nested) {
+        super(connectionProvider, nested);
+
+        this.scopedState = newScopedValue();
+    }
+
+    /**
+     * Whether the JDK supports scoped values, in case of which this
+     * {@link TransactionProvider} does not use any {@link ThreadLocal}.
+     */
+    public static final boolean scopedValuesAvailable() {
+        return NEW_INSTANCE != null;
+    }
+
+    @Override
+    final <T> T scoped(Supplier<T> transaction) {
+        if (scopedState == null || scopedState() != null)
+            return transaction.get();
+
+        Object[] result = new Object[1];
+
+        try {
+            RUN.invoke(WHERE.invoke(scopedState, new TransactionState()), (Runnable) () -> result[0] = transaction.get());
+        }
+        catch (RuntimeException | Error e) {
+            throw e;
+        }
+        catch (Throwable e) {
+            throw new DataAccessException("Cannot bind scoped value", e);
+        }
+
+        @SuppressWarnings("unchecked")
+        T t = (T) result[0];
+        return t;
+    }
+
+    @Override
+    final TransactionState state(boolean create) {
+        TransactionState result = scopedState();
+
+        // Transactions that are not started through transactionResult() (and
+        // thus outside of any scope) fall back to thread-bound state
+        return result != null ? result : super.state(create);
+    }
+
+    @Override
+    final void removeState() {
+        if (scopedState() == null)
+            super.removeState();
+    }
+
+    private final TransactionState scopedState() {
+        try {
+            return scopedState != null && (boolean) IS_BOUND.invoke(scopedState)
+                ? (TransactionState) GET.invoke(scopedState)
+                : null;
+        }
+        catch (RuntimeException | Error e) {
+            throw e;
+        }
+        catch (Throwable e) {
+            throw new DataAccessException("Cannot read scoped value", e);
+        }
+    }
+
+    private static final Object newScopedValue() {
+        try {
+            return NEW_INSTANCE != null ? NEW_INSTANCE.invoke() : null;
+        }
+        catch (Throwable e) {
+            return null;
+        }
+    }
+}
@@ -1352,9 +1352,16 @@ final class SelectQueryImpl<R extends Record> extends AbstractResultQuery<R> imp
 
 
 
+
+    @Override
+    final boolean tracksChanges() {
+        return true;
+    }
 
     @Override
     public final void accept(Context<?> ctx) {
+        registerRendered(ctx);
+
         Table<?> dmlTable;
 
         // [#6583] Work around MySQL's self-reference-in-DML-subquery restriction
@@ -3239,26 +3246,31 @@ final class SelectQueryImpl<R extends Record> extends AbstractResultQuery<R> imp
 
     @Override
     public final void addSelect(Collection<? extends SelectFieldOrAsterisk> fields) {
+        changed();
         getSelectAsSpecified().addAll(fields);
     }
 
     @Override
     public final void addSelect(SelectFieldOrAsterisk... fields) {
+        changed();
         addSelect(Arrays.asList(fields));
     }
 
     @Override
     public final void setDistinct(boolean distinct) {
+        changed();
         this.distinct = distinct;
     }
 
     @Override
     public final void addDistinctOn(SelectFieldOrAsterisk... fields) {
+        changed();
         addDistinctOn(Arrays.asList(fields));
     }
 
     @Override
     public final void addDistinctOn(Collection<? extends SelectFieldOrAsterisk> fields) {
+        changed();
         if (distinctOn == null)
             distinctOn = new QueryPartList<>();
 
@@ -3267,6 +3279,7 @@ final class SelectQueryImpl<R extends Record> extends AbstractResultQuery<R> imp
 
     @Override
     public final void setInto(Table<?> table) {
+        changed();
         this.intoTable = table;
     }
 
@@ -3281,55 +3294,65 @@ final class SelectQueryImpl<R extends Record> extends AbstractResultQuery<R> imp
 
     @Override
     public final void addOffset(Number offset) {
+        changed();
         getLimit().setOffset(offset);
     }
 
     @Override
     public final void addOffset(Field<? extends Number> offset) {
+        changed();
         getLimit().setOffset(offset);
     }
 
     @Override
     public final void addLimit(Number l) {
+        changed();
         getLimit().setLimit(l);
     }
 
     @Override
     public final void addLimit(Field<? extends Number> l) {
+        changed();
         getLimit().setLimit(l);
     }
 
     @Override
     public final void addLimit(Number offset, Number l) {
+        changed();
         getLimit().setOffset(offset);
         getLimit().setLimit(l);
     }
 
     @Override
     public final void addLimit(Number offset, Field<? extends Number> l) {
+        changed();
         getLimit().setOffset(offset);
         getLimit().setLimit(l);
     }
 
     @Override
     public final void addLimit(Field<? extends Number> offset, Number l) {
+        changed();
         getLimit().setOffset(offset);
         getLimit().setLimit(l);
     }
 
     @Override
     public final void addLimit(Field<? extends Number> offset, Field<? extends Number> l) {
+        changed();
         getLimit().setOffset(offset);
         getLimit().setLimit(l);
     }
 
     @Override
     public final void setLimitPercent(boolean percent) {
+        changed();
         getLimit().setPercent(percent);
     }
 
     @Override
     public final void setWithTies(boolean withTies) {
+        changed();
         getLimit().setWithTies(withTies);
     }
 
@@ -3342,6 +3365,7 @@ final class SelectQueryImpl<R extends Record> extends AbstractResultQuery<R> imp
 
     @Override
     public final void setForUpdate(boolean forUpdate) {
+        changed();
         if (forUpdate)
             forLock().forLockMode = ForLockMode.UPDATE;
         else
@@ -3350,6 +3374,7 @@ final class SelectQueryImpl<R extends Record> extends AbstractResultQuery<R> imp
 
     @Override
     public final void setForNoKeyUpdate(boolean forNoKeyUpdate) {
+        changed();
         if (forNoKeyUpdate)
             forLock().forLockMode = ForLockMode.NO_KEY_UPDATE;
         else
@@ -3358,6 +3383,7 @@ final class SelectQueryImpl<R extends Record> extends AbstractResultQuery<R> imp
 
     @Override
     public final void setForKeyShare(boolean forKeyShare) {
+        changed();
         if (forKeyShare)
             forLock().forLockMode = ForLockMode.KEY_SHARE;
         else
@@ -3366,36 +3392,43 @@ final class SelectQueryImpl<R extends Record> extends AbstractResultQuery<R> imp
 
     @Override
     public final void setForUpdateOf(Field<?>... fields) {
+        changed();
         setForLockModeOf(fields);
     }
 
     @Override
     public final void setForUpdateOf(Collection<? extends Field<?>> fields) {
+        changed();
         setForLockModeOf(fields);
     }
 
     @Override
     public final void setForUpdateOf(Table<?>... tables) {
+        changed();
         setForLockModeOf(tables);
     }
 
     @Override
     public final void setForUpdateWait(int seconds) {
+        changed();
         setForLockModeWait(seconds);
     }
 
     @Override
     public final void setForUpdateNoWait() {
+        changed();
         setForLockModeNoWait();
     }
 
     @Override
     public final void setForUpdateSkipLocked() {
+        changed();
         setForLockModeSkipLocked();
     }
 
     @Override
     public final void setForShare(boolean forShare) {
+        changed();
         if (forShare)
             forLock().forLockMode = ForLockMode.SHARE;
         else
@@ -3404,11 +3437,13 @@ final class SelectQueryImpl<R extends Record> extends AbstractResultQuery<R> imp
 
     @Override
     public final void setForLockModeOf(Field<?>... fields) {
+        changed();
         setForLockModeOf(Arrays.asList(fields));
     }
 
     @Override
     public final void setForLockModeOf(Collection<? extends Field<?>> fields) {
+        changed();
         initLockMode();
         forLock().forLockOf = new QueryPartList<>(fields);
         forLock().forLockOfTables = null;
@@ -3416,6 +3451,7 @@ final class SelectQueryImpl<R extends Record> extends AbstractResultQuery<R> imp
 
     @Override
     public final void setForLockModeOf(Table<?>... tables) {
+        changed();
         initLockMode();
         forLock().forLockOf = null;
         forLock().forLockOfTables = new TableList(Arrays.asList(tables));
@@ -3423,6 +3459,7 @@ final class SelectQueryImpl<R extends Record> extends AbstractResultQuery<R> imp
 
     @Override
     public final void setForLockModeWait(int seconds) {
+        changed();
         initLockMode();
         forLock().forLockWaitMode = ForLockWaitMode.WAIT;
         forLock().forLockWait = seconds;
@@ -3430,6 +3467,7 @@ final class SelectQueryImpl<R extends Record> extends AbstractResultQuery<R> imp
 
     @Override
     public final void setForLockModeNoWait() {
+        changed();
         initLockMode();
         forLock().forLockWaitMode = ForLockWaitMode.NOWAIT;
         forLock().forLockWait = 0;
@@ -3437,6 +3475,7 @@ final class SelectQueryImpl<R extends Record> extends AbstractResultQuery<R> imp
 
     @Override
     public final void setForLockModeSkipLocked() {
+        changed();
         initLockMode();
         forLock().forLockWaitMode = ForLockWaitMode.SKIP_LOCKED;
         forLock().forLockWait = 0;
@@ -3944,16 +3983,19 @@ final class SelectQueryImpl<R extends Record> extends AbstractResultQuery<R> imp
 
     @Override
     public final void addOrderBy(Collection<? extends OrderField<?>> fields) {
+        changed();
         getOrderBy().addAll(Tools.sortFields(fields));
     }
 
     @Override
     public final void addOrderBy(OrderField<?>... fields) {
+        changed();
         addOrderBy(Arrays.asList(fields));
     }
 
     @Override
     public final void addOrderBy(int... fieldIndexes) {
+        changed();
         addOrderBy(map(fieldIndexes, v -> DSL.inline(v)));
     }
 
@@ -3972,11 +4014,13 @@ final class SelectQueryImpl<R extends Record> extends AbstractResultQuery<R> imp
 
     @Override
     public final void addSeekAfter(Field<?>... fields) {
+        changed();
         addSeekAfter(Arrays.asList(fields));
     }
 
     @Override
     public final void addSeekAfter(Collection<? extends Field<?>> fields) {
+        changed();
         if (unionOp.size() == 0)
             seekBefore = false;
         else
@@ -3988,12 +4032,14 @@ final class SelectQueryImpl<R extends Record> extends AbstractResultQuery<R> imp
     @Override
     @Deprecated
     public final void addSeekBefore(Field<?>... fields) {
+        changed();
         addSeekBefore(Arrays.asList(fields));
     }
 
     @Override
     @Deprecated
     public final void addSeekBefore(Collection<? extends Field<?>> fields) {
+        changed();
         if (unionOp.size() == 0)
             seekBefore = true;
         else
@@ -4004,31 +4050,37 @@ final class SelectQueryImpl<R extends Record> extends AbstractResultQuery<R> imp
 
     @Override
     public final void addConditions(Condition conditions) {
+        changed();
         condition.addConditions(conditions);
     }
 
     @Override
     public final void addConditions(Condition... conditions) {
+        changed();
         condition.addConditions(conditions);
     }
 
     @Override
     public final void addConditions(Collection<? extends Condition> conditions) {
+        changed();
         condition.addConditions(conditions);
     }
 
     @Override
     public final void addConditions(Operator operator, Condition conditions) {
+        changed();
         condition.addConditions(operator, conditions);
     }
 
     @Override
     public final void addConditions(Operator operator, Condition... conditions) {
+        changed();
         condition.addConditions(operator, conditions);
     }
 
     @Override
     public final void addConditions(Operator operator, Collection<? extends Condition> conditions) {
+        changed();
         condition.addConditions(operator, conditions);
     }
 
@@ -4047,26 +4099,31 @@ final class SelectQueryImpl<R extends Record> extends AbstractResultQuery<R> imp
 
 
     final void setHint(String hint) {
+        changed();
         this.hint = hint;
     }
 
     final void setOption(String option) {
+        changed();
         this.option = option;
     }
 
     @Override
     public final void addFrom(Collection<? extends TableLike<?>> f) {
+        changed();
         for (TableLike<?> provider : f)
             getFrom().add(provider.asTable());
     }
 
     @Override
     public final void addFrom(TableLike<?> f) {
+        changed();
         getFrom().add(f.asTable());
     }
 
     @Override
     public final void addFrom(TableLike<?>... f) {
+        changed();
         for (TableLike<?> provider : f)
             getFrom().add(provider.asTable());
     }
@@ -4096,6 +4153,7 @@ final class SelectQueryImpl<R extends Record> extends AbstractResultQuery<R> imp
 
     @Override
     public final void addGroupBy(Collection<? extends GroupField> fields) {
+        changed();
 
         // [#12910] For backwards compatibility, adding empty GROUP BY lists to
         //          a blank GROUP BY clause must maintain empty grouping set
@@ -4108,51 +4166,61 @@ final class SelectQueryImpl<R extends Record> extends AbstractResultQuery<R> imp
 
     @Override
     public final void setGroupByDistinct(boolean groupByDistinct) {
+        changed();
         this.groupByDistinct = groupByDistinct;
     }
 
     @Override
     public final void addGroupBy(GroupField... fields) {
+        changed();
         addGroupBy(Arrays.asList(fields));
     }
 
     @Override
     public final void addHaving(Condition conditions) {
+        changed();
         getHaving().addConditions(conditions);
     }
 
     @Override
     public final void addHaving(Condition... conditions) {
+        changed();
         getHaving().addConditions(conditions);
     }
 
     @Override
     public final void addHaving(Collection<? extends Condition> conditions) {
+        changed();
         getHaving().addConditions(conditions);
     }
 
     @Override
     public final void addHaving(Operator operator, Condition conditions) {
+        changed();
         getHaving().addConditions(operator, conditions);
     }
 
     @Override
     public final void addHaving(Operator operator, Condition... conditions) {
+        changed();
         getHaving().addConditions(operator, conditions);
     }
 
     @Override
     public final void addHaving(Operator operator, Collection<? extends Condition> conditions) {
+        changed();
         getHaving().addConditions(operator, conditions);
     }
 
     @Override
     public final void addWindow(WindowDefinition... definitions) {
+        changed();
         addWindow(Arrays.asList(definitions));
     }
 
     @Override
     public final void addWindow(Collection<? extends WindowDefinition> definitions) {
+        changed();
         if (window == null)
             window = new WindowList();
 
@@ -4161,31 +4229,37 @@ final class SelectQueryImpl<R extends Record> extends AbstractResultQuery<R> imp
 
     @Override
     public final void addQualify(Condition conditions) {
+        changed();
         getQualify().addConditions(conditions);
     }
 
     @Override
     public final void addQualify(Condition... conditions) {
+        changed();
         getQualify().addConditions(conditions);
     }
 
     @Override
     public final void addQualify(Collection<? extends Condition> conditions) {
+        changed();
         getQualify().addConditions(conditions);
     }
 
     @Override
     public final void addQualify(Operator operator, Condition conditions) {
+        changed();
         getQualify().addConditions(operator, conditions);
     }
 
     @Override
     public final void addQualify(Operator operator, Condition... conditions) {
+        changed();
         getQualify().addConditions(operator, conditions);
     }
 
     @Override
     public final void addQualify(Operator operator, Collection<? extends Condition> conditions) {
+        changed();
         getQualify().addConditions(operator, conditions);
     }
 
@@ -4197,6 +4271,7 @@ final class SelectQueryImpl<R extends Record> extends AbstractResultQuery<R> imp
         if (this == other || (other instanceof SelectImpl && this == ((SelectImpl) other).getDelegate()))
             throw new IllegalArgumentException("In jOOQ 3.x's mutable DSL API, it is not possible to use the same instance of a Select query on both sides of a set operation like s.union(s)");
 
+        changed();
         int index = unionOp.size() - 1;
 
         if (index == -1 || unionOp.get(index) != op || op == EXCEPT || op == EXCEPT_ALL) {
@@ -4242,21 +4317,25 @@ final class SelectQueryImpl<R extends Record> extends AbstractResultQuery<R> imp
 
     @Override
     public final void addJoin(TableLike<?> table, Condition conditions) {
+        changed();
         addJoin(table, JoinType.JOIN, conditions);
     }
 
     @Override
     public final void addJoin(TableLike<?> table, Condition... conditions) {
+        changed();
         addJoin(table, JoinType.JOIN, conditions);
     }
 
     @Override
     public final void addJoin(TableLike<?> table, JoinType type, Condition conditions) {
+        changed();
         addJoin0(table, type, conditions, null);
     }
 
     @Override
     public final void addJoin(TableLike<?> table, JoinType type, Condition... conditions) {
+        changed();
         addJoin0(table, type, conditions, null);
     }
 
@@ -4331,6 +4410,7 @@ final class SelectQueryImpl<R extends Record> extends AbstractResultQuery<R> imp
 
     @Override
     public final void addJoinOnKey(TableLike<?> table, JoinType type) throws DataAccessException {
+        changed();
         // TODO: This and similar methods should be refactored, patterns extracted...
 
         int index = getFrom().size() - 1;
@@ -4355,6 +4435,7 @@ final class SelectQueryImpl<R extends Record> extends AbstractResultQuery<R> imp
 
     @Override
     public final void addJoinOnKey(TableLike<?> table, JoinType type, TableField<?, ?>... keyFields) throws DataAccessException {
+        changed();
         // TODO: This and similar methods should be refactored, patterns extracted...
 
         int index = getFrom().size() - 1;
@@ -4379,6 +4460,7 @@ final class SelectQueryImpl<R extends Record> extends AbstractResultQuery<R> imp
 
     @Override
     public final void addJoinOnKey(TableLike<?> table, JoinType type, ForeignKey<?, ?> key) {
+        changed();
         // TODO: This and similar methods should be refactored, patterns extracted...
 
         int index = getFrom().size() - 1;
@@ -4403,11 +4485,13 @@ final class SelectQueryImpl<R extends Record> extends AbstractResultQuery<R> imp
 
     @Override
     public final void addJoinUsing(TableLike<?> table, Collection<? extends Field<?>> fields) {
+        changed();
         addJoinUsing(table, JoinType.JOIN, fields);
     }
 
     @Override
     public final void addJoinUsing(TableLike<?> table, JoinType type, Collection<? extends Field<?>> fields) {
+        changed();
         // TODO: This and similar methods should be refactored, patterns extracted...
 
         int index = getFrom().size() - 1;
@@ -4432,11 +4516,13 @@ final class SelectQueryImpl<R extends Record> extends AbstractResultQuery<R> imp
 
     @Override
     public final void addHint(String h) {
+        changed();
         setHint(h);
     }
 
     @Override
     public final void addOption(String o) {
+        changed();
         setOption(o);
     }
 
@@ -0,0 +1,96 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A bounded, local alternative to {@link String#intern()}.
+ * <p>
+ * Equal strings are deduplicated within the scope of a single cursor or
+ * result, e.g. for a single column, without contending on the JVM's global
+ * string table and without keeping the values alive beyond the lifetime of
+ * the interner itself.
+ */
+final class StringInterner {
+
+    /**
+     * The maximum number of distinct strings kept by an interner.
+     */
+    static final int            MAX_SIZE = 1 << 16;
+
+    /**
+     * The number of values after which an adaptive interner decides whether
+     * the observed cardinality is low enough to continue interning.
+     */
+    static final int            SAMPLE   = 1024;
+
+    private final boolean       adaptive;
+    private Map<String, String> strings;
+    private int                 count;
+
+    /**
+     * @param adaptive Whether the interner should stop interning values as
+     *            soon as it observes a high cardinality, rather than
+     *            interning values until {@link #MAX_SIZE} is reached.
+     */
+    StringInterner(boolean adaptive) {
+        this.adaptive = adaptive;
+        this.strings = new HashMap<>();
+    }
+
+    final String intern(String string) {
+        if (string == null || strings == null)
+            return string;
+
+        String result = strings.get(string);
+        count++;
+
+        if (result != null)
+            return result;
+
+        // More than 1 in 4 values is distinct: Stop interning altogether
+        if (adaptive && count >= SAMPLE && strings.size() > count / 4)
+            strings = null;
+        else if (strings.size() < MAX_SIZE)
+            strings.put(string, string);
+
+        return string;
+    }
+}
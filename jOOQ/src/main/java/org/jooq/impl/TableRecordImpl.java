@@ -267,7 +267,7 @@ public class TableRecordImpl<R extends TableRecord<R>> extends AbstractQualified
 
             values[fieldIndex] = value;
             originals[fieldIndex] = value;
-            changed.clear(fieldIndex);
+            changed0(fieldIndex, false);
         }
         if (timestamp != null) {
             TableField<R, ?> field = getTable().getRecordTimestamp();
@@ -276,7 +276,7 @@ public class TableRecordImpl<R extends TableRecord<R>> extends AbstractQualified
 
             values[fieldIndex] = value;
             originals[fieldIndex] = value;
-            changed.clear(fieldIndex);
+            changed0(fieldIndex, false);
         }
     }
 
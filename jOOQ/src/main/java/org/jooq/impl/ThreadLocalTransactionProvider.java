@@ -43,6 +43,7 @@ import java.sql.Connection;
 import java.sql.Savepoint;
 import java.util.ArrayDeque;
 import java.util.Deque;
+import java.util.function.Supplier;
 
 import org.jooq.Configuration;
 import org.jooq.ConnectionProvider;
@@ -68,10 +69,9 @@ import org.jetbrains.annotations.NotNull;
  */
 public class ThreadLocalTransactionProvider implements TransactionProvider {
 
-    final DefaultTransactionProvider        delegateTransactionProvider;
-    final ThreadLocalConnectionProvider     localConnectionProvider;
-    final ThreadLocal<Connection>           localTxConnection;
-    final ThreadLocal<Deque<Configuration>> localConfigurations;
+    final DefaultTransactionProvider    delegateTransactionProvider;
+    final ThreadLocalConnectionProvider localConnectionProvider;
+    final ThreadLocal<TransactionState> localState;
 
     public ThreadLocalTransactionProvider(ConnectionProvider connectionProvider) {
         this(connectionProvider, true);
@@ -84,50 +84,86 @@ public class ThreadLocalTransactionProvider implements TransactionProvider {
     public ThreadLocalTransactionProvider(ConnectionProvider connectionProvider, boolean nested) {
         this.localConnectionProvider = new ThreadLocalConnectionProvider(connectionProvider);
         this.delegateTransactionProvider = new DefaultTransactionProvider(localConnectionProvider, nested);
-        this.localConfigurations = new ThreadLocal<>();
-        this.localTxConnection = new ThreadLocal<>();
+        this.localState = new ThreadLocal<>();
     }
 
     @Override
     public void begin(TransactionContext ctx) {
         delegateTransactionProvider.begin(ctx);
-        configurations().push(ctx.configuration());
+        TransactionState state = state(true);
+        state.configurations.push(ctx.configuration());
         if (delegateTransactionProvider.nestingLevel(ctx.configuration()) == 1)
-            localTxConnection.set(((DefaultConnectionProvider) ctx.configuration().data(DATA_DEFAULT_TRANSACTION_PROVIDER_CONNECTION)).connection);
+            state.connection = ((DefaultConnectionProvider) ctx.configuration().data(DATA_DEFAULT_TRANSACTION_PROVIDER_CONNECTION)).connection;
     }
 
     @Override
     public void commit(TransactionContext ctx) {
-        if (delegateTransactionProvider.nestingLevel(ctx.configuration()) == 1)
-            localTxConnection.remove();
-        configurations().pop();
+        end(ctx);
         delegateTransactionProvider.commit(ctx);
     }
 
     @Override
     public void rollback(TransactionContext ctx) {
-        if (delegateTransactionProvider.nestingLevel(ctx.configuration()) == 1)
-            localTxConnection.remove();
-        configurations().pop();
+        end(ctx);
         delegateTransactionProvider.rollback(ctx);
     }
 
+    private final void end(TransactionContext ctx) {
+        TransactionState state = state(true);
+
+        if (delegateTransactionProvider.nestingLevel(ctx.configuration()) == 1)
+            state.connection = null;
+
+        state.configurations.pop();
+
+        // Don't keep any state around once the outermost transaction ends
+        if (state.configurations.isEmpty())
+            removeState();
+    }
+
     Configuration configuration(Configuration fallback) {
-        Deque<Configuration> configurations = configurations();
-        return configurations.isEmpty() ? fallback : configurations.peek();
+        TransactionState state = state(false);
+        return state == null || state.configurations.isEmpty() ? fallback : state.configurations.peek();
+    }
+
+    /**
+     * Run a transaction in the scope of this provider's transaction state.
+     */
+    <T> T scoped(Supplier<T> transaction) {
+        return transaction.get();
     }
 
-    private Deque<Configuration> configurations() {
-        Deque<Configuration> result = localConfigurations.get();
+    /**
+     * Get the current transaction state, creating it if required.
+     */
+    TransactionState state(boolean create) {
+        TransactionState result = localState.get();
 
-        if (result == null) {
-            result = new ArrayDeque<>();
-            localConfigurations.set(result);
+        if (result == null && create) {
+            result = new TransactionState();
+            localState.set(result);
         }
 
         return result;
     }
 
+    /**
+     * Remove the current transaction state, once the outermost transaction
+     * ends.
+     */
+    void removeState() {
+        localState.remove();
+    }
+
+    /**
+     * The connection and the nested transaction {@link Configuration}s of a
+     * thread-bound (or scope-bound) transaction.
+     */
+    static final class TransactionState {
+        final Deque<Configuration> configurations = new ArrayDeque<>();
+        volatile Connection        connection;
+    }
+
     final class ThreadLocalConnectionProvider implements ConnectionProvider {
 
         final ConnectionProvider delegateConnectionProvider;
@@ -138,7 +174,7 @@ public class ThreadLocalTransactionProvider implements TransactionProvider {
 
         @Override
         public final Connection acquire() {
-            Connection local = localTxConnection.get();
+            Connection local = connection();
 
             if (local == null)
                 return delegateConnectionProvider.acquire();
@@ -148,7 +184,7 @@ public class ThreadLocalTransactionProvider implements TransactionProvider {
 
         @Override
         public final void release(Connection connection) {
-            Connection local = localTxConnection.get();
+            Connection local = connection();
 
             if (local == null)
                 delegateConnectionProvider.release(connection);
@@ -156,5 +192,10 @@ public class ThreadLocalTransactionProvider implements TransactionProvider {
                 throw new IllegalStateException(
                     "A different connection was released than the thread-bound one that was expected");
         }
+
+        private final Connection connection() {
+            TransactionState state = state(false);
+            return state == null ? null : state.connection;
+        }
     }
 }
@@ -0,0 +1,263 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import java.util.AbstractMap;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A thread safe, bounded cache with a frequency based admission policy.
+ * <p>
+ * This is a simplified W-TinyLFU cache. New entries are first admitted to a
+ * small FIFO window. Entries leaving the window compete with the eldest entry
+ * of the main region, and the one that was accessed less frequently according
+ * to a {@link FrequencySketch} is evicted. Reads don't lock, only writes
+ * (i.e. cache misses) do.
+ * <p>
+ * The sketch is allocated only once the cache is full for the first time,
+ * and sized to the number of entries at that time, as caches that never
+ * fill up don't need it.
+ */
+final class TinyLFUCache<K, V> extends AbstractMap<K, V> {
+
+    private final int                     windowSize;
+    private final int                     mainSize;
+    private final ConcurrentHashMap<K, V> map;
+    private final ArrayDeque<K>           window;
+    private final ArrayDeque<K>           main;
+    private final ReentrantLock           lock;
+    private volatile FrequencySketch      sketch;
+    private final LongAdder               evictions;
+
+    TinyLFUCache(int maximumSize) {
+        this.windowSize = Math.max(1, maximumSize / 100);
+        this.mainSize = Math.max(0, maximumSize - windowSize);
+        this.map = new ConcurrentHashMap<>();
+        this.window = new ArrayDeque<>();
+        this.main = new ArrayDeque<>();
+        this.lock = new ReentrantLock();
+        this.evictions = new LongAdder();
+    }
+
+    final long evictions() {
+        return evictions.sum();
+    }
+
+    @Override
+    public final V get(Object key) {
+        V result = map.get(key);
+        FrequencySketch s = sketch;
+
+        if (result != null && s != null)
+            s.increment(key);
+
+        return result;
+    }
+
+    @Override
+    public final boolean containsKey(Object key) {
+        return map.containsKey(key);
+    }
+
+    @Override
+    public final V put(K key, V value) {
+        lock.lock();
+
+        try {
+            V result = map.put(key, value);
+            FrequencySketch s = sketch;
+
+            if (s != null)
+                s.increment(key);
+
+            if (result == null) {
+                window.add(key);
+                evict();
+            }
+
+            return result;
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public final V remove(Object key) {
+        lock.lock();
+
+        try {
+            V result = map.remove(key);
+
+            if (result != null && !window.remove(key))
+                main.remove(key);
+
+            return result;
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public final void clear() {
+        lock.lock();
+
+        try {
+            map.clear();
+            window.clear();
+            main.clear();
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public final int size() {
+        return map.size();
+    }
+
+    @Override
+    public final Set<Entry<K, V>> entrySet() {
+        return Collections.unmodifiableMap(map).entrySet();
+    }
+
+    private final void evict() {
+        while (window.size() > windowSize) {
+            K candidate = window.poll();
+
+            if (main.size() < mainSize) {
+                main.add(candidate);
+                continue;
+            }
+
+            K victim = main.peek();
+
+            if (sketch == null)
+                sketch = new FrequencySketch(map.size());
+
+            // The TinyLFU admission policy keeps the more frequently used entry
+            if (victim != null && sketch.frequency(candidate) > sketch.frequency(victim)) {
+                main.poll();
+                map.remove(victim);
+                main.add(candidate);
+            }
+            else
+                map.remove(candidate);
+
+            evictions.increment();
+        }
+    }
+
+    /**
+     * A count-min sketch with 4 rows of small saturating counters, which are
+     * halved periodically to let the frequency of old entries decay.
+     * <p>
+     * Counters are updated without synchronisation. Lost updates only make the
+     * estimates slightly less accurate.
+     */
+    private static final class FrequencySketch {
+        private static final int[] SEEDS = { 0x97cb3127, 0xb1a5a4c3, 0x7e0d4b4f, 0x21f2a5c7 };
+        private static final int   MAX   = 15;
+
+        private final int[]        table;
+        private final int          width;
+        private final int          sampleSize;
+        private int                additions;
+
+        FrequencySketch(int maximumSize) {
+            this.width = Integer.highestOneBit(Math.max(16, Math.min(maximumSize, 1 << 24)) * 2 - 1);
+            this.table = new int[width * SEEDS.length];
+            this.sampleSize = 10 * width;
+        }
+
+        final void increment(Object key) {
+            int hash = spread(key.hashCode());
+            boolean added = false;
+
+            for (int i = 0; i < SEEDS.length; i++) {
+                int index = index(hash, i);
+
+                if (table[index] < MAX) {
+                    table[index]++;
+                    added = true;
+                }
+            }
+
+            if (added && ++additions >= sampleSize)
+                reset();
+        }
+
+        final int frequency(Object key) {
+            int hash = spread(key.hashCode());
+            int result = MAX;
+
+            for (int i = 0; i < SEEDS.length; i++)
+                result = Math.min(result, table[index(hash, i)]);
+
+            return result;
+        }
+
+        private final void reset() {
+            for (int i = 0; i < table.length; i++)
+                table[i] >>>= 1;
+
+            additions /= 2;
+        }
+
+        private final int index(int hash, int row) {
+            int h = hash * SEEDS[row];
+            h += h >>> 16;
+            return row * width + (h & (width - 1));
+        }
+
+        private static final int spread(int hash) {
+            hash ^= hash >>> 17;
+            hash *= 0xed5ad4bb;
+            hash ^= hash >>> 11;
+            return hash;
+        }
+    }
+}
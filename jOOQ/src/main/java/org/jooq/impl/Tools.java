@@ -700,6 +700,12 @@ final class Tools {
          * statement.
          */
         DATA_SELECT_ALIASES,
+
+        /**
+         * The mutable queries that contribute to an SQL string which is cached
+         * by {@link Settings#isCacheRenderedSQL()}.
+         */
+        DATA_RENDERED_QUERIES,
     }
 
     /**
@@ -3174,9 +3180,17 @@ final class Tools {
         int targetIndex = indexOrFail(target.fieldsRow(), targetField);
         int sourceIndex = indexOrFail(source.fieldsRow(), sourceField);
 
-        target.values[targetIndex] = targetType.convert(source.get(sourceIndex));
-        target.originals[targetIndex] = targetType.convert(source.original(sourceIndex));
-        target.changed.set(targetIndex, source.changed(sourceIndex));
+        Object value = source.get(sourceIndex);
+        Object original = source.original(sourceIndex);
+
+        if (value != original)
+            target.copyOnWrite();
+
+        target.values[targetIndex] = targetType.convert(value);
+        if (target.originals != target.values)
+            target.originals[targetIndex] = targetType.convert(original);
+
+        target.changed0(targetIndex, source.changed(sourceIndex));
     }
 
     /**
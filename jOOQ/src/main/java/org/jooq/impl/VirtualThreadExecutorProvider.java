@@ -0,0 +1,197 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import java.io.Serializable;
+import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jooq.ConnectionProvider;
+import org.jooq.ExecutorProvider;
+import org.jooq.tools.JooqLogger;
+
+/**
+ * An {@link ExecutorProvider} that runs each asynchronous task in its own
+ * virtual thread, if virtual threads are available (JDK 21 and later).
+ * <p>
+ * Unlike the {@link DefaultExecutorProvider}, which runs blocking JDBC calls in
+ * the {@link java.util.concurrent.ForkJoinPool#commonPool()}, this provider
+ * doesn't compete with other users of the common pool, such as parallel
+ * streams, and doesn't require sizing any thread pool. Thousands of concurrent
+ * asynchronous queries are possible.
+ * <p>
+ * The optional <code>maxConcurrency</code> limits the number of tasks that run
+ * at the same time. Excess tasks wait for a permit (cheaply, in their own
+ * virtual threads). A sensible limit is the maximum size of the connection pool
+ * behind the {@link ConnectionProvider}, as no more tasks than that can execute
+ * a query at the same time anyway.
+ * <p>
+ * On JDKs without virtual threads, tasks run in a pool of daemon platform
+ * threads, whose size is bounded by <code>maxConcurrency</code>, if specified.
+ */
+public class VirtualThreadExecutorProvider implements ExecutorProvider, Serializable {
+
+    private static final JooqLogger     log     = JooqLogger.getLogger(VirtualThreadExecutorProvider.class);
+    private static final ThreadFactory  VIRTUAL = virtualThreadFactory();
+
+    private final int                   maxConcurrency;
+    private transient volatile Executor executor;
+
+    /**
+     * Create a provider without any concurrency limit.
+     */
+    public VirtualThreadExecutorProvider() {
+        this(0);
+    }
+
+    /**
+     * Create a provider that runs at most <code>maxConcurrency</code> tasks at
+     * the same time, or any number of tasks if <code>maxConcurrency</code> is
+     * <code>0</code>.
+     */
+    public VirtualThreadExecutorProvider(int maxConcurrency) {
+        if (maxConcurrency < 0)
+            throw new IllegalArgumentException("maxConcurrency must not be negative: " + maxConcurrency);
+
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * Whether the JDK supports virtual threads, in case of which this provider
+     * runs tasks in virtual threads.
+     */
+    public static final boolean virtualThreadsAvailable() {
+        return VIRTUAL != null;
+    }
+
+    @Override
+    public final Executor provide() {
+        Executor result = executor;
+
+        if (result == null) {
+            synchronized (this) {
+                if ((result = executor) == null)
+                    executor = result = VIRTUAL != null ? virtualExecutor() : platformExecutor();
+            }
+        }
+
+        return result;
+    }
+
+    private final Executor virtualExecutor() {
+        if (maxConcurrency == 0)
+            return command -> VIRTUAL.newThread(command).start();
+
+        Semaphore permits = new Semaphore(maxConcurrency);
+        return command -> VIRTUAL.newThread(() -> {
+
+            // Virtual threads are cheap to park, so waiting tasks don't hold
+            // on to any scarce resources while waiting for a permit
+            permits.acquireUninterruptibly();
+
+            try {
+                command.run();
+            }
+            finally {
+                permits.release();
+            }
+        }).start();
+    }
+
+    private final Executor platformExecutor() {
+        ThreadFactory factory = new PlatformThreadFactory();
+
+        if (maxConcurrency == 0)
+            return Executors.newCachedThreadPool(factory);
+
+        ThreadPoolExecutor result = new ThreadPoolExecutor(
+            maxConcurrency, maxConcurrency, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), factory
+        );
+        result.allowCoreThreadTimeOut(true);
+        return result;
+    }
+
+    private static final ThreadFactory virtualThreadFactory() {
+
+        // Virtual threads are a preview feature in JDK 19 - 20, whose API
+        // might still differ
+        if (Runtime.version().feature() < 21) {
+            if (log.isDebugEnabled())
+                log.debug("Virtual threads", "Virtual threads are not available before JDK 21, using platform threads instead");
+
+            return null;
+        }
+
+        try {
+
+            // Thread.ofVirtual().name("jooq-virtual-", 0).factory(), which can
+            // only be called reflectively as long as we support JDK 11
+            Class<?> builder = Class.forName("java.lang.Thread$Builder");
+            Method ofVirtual = Thread.class.getMethod("ofVirtual");
+            Object b = ofVirtual.invoke(null);
+            b = builder.getMethod("name", String.class, long.class).invoke(b, "jooq-virtual-", 0L);
+            return (ThreadFactory) builder.getMethod("factory").invoke(b);
+        }
+
+        // Restricted environments, or JDKs that don't support virtual threads
+        catch (Throwable e) {
+            if (log.isDebugEnabled())
+                log.debug("Virtual threads", "Virtual threads are not available, using platform threads instead: " + e.getMessage());
+
+            return null;
+        }
+    }
+
+    private static final class PlatformThreadFactory implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "jooq-async-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}